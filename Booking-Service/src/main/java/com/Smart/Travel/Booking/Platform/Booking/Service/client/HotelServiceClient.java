@@ -3,8 +3,11 @@ package com.Smart.Travel.Booking.Platform.Booking.Service.client;
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelAvailabilityResponse;
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
 import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @FeignClient(name = "hotel-service", url = "${services.hotel.url}")
 public interface HotelServiceClient {
 
@@ -14,7 +17,9 @@ public interface HotelServiceClient {
     @GetMapping("/api/hotels/{id}/availability")
     HotelAvailabilityResponse checkAvailability(
             @PathVariable("id") Long id,
-            @RequestParam("requiredRooms") Integer requiredRooms);
+            @RequestParam("requiredRooms") Integer requiredRooms,
+            @RequestParam(value = "checkInDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @RequestParam(value = "checkOutDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate);
 
     @PostMapping("/api/hotels/{id}/book")
     HotelDTO bookRooms(
@@ -0,0 +1,60 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.client;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link FlightServiceClient}, used when
+ * {@code booking.client-mode} is {@code reactive}.
+ */
+@Component
+public class ReactiveFlightServiceClient {
+
+    private final WebClient webClient;
+    private final ServiceCallGuard serviceCallGuard;
+
+    public ReactiveFlightServiceClient(@Qualifier("flightServiceWebClient") WebClient webClient,
+                                       ServiceCallGuard serviceCallGuard) {
+        this.webClient = webClient;
+        this.serviceCallGuard = serviceCallGuard;
+    }
+
+    public Mono<FlightDTO> getFlightById(Long id) {
+        return serviceCallGuard.guard(ServiceCallGuard.FLIGHT_SERVICE, webClient.get()
+                .uri("/api/flights/{id}", id)
+                .retrieve()
+                .bodyToMono(FlightDTO.class));
+    }
+
+    public Mono<FlightAvailabilityResponse> checkAvailability(Long id, Integer requiredSeats) {
+        return serviceCallGuard.guard(ServiceCallGuard.FLIGHT_SERVICE, webClient.get()
+                .uri(uri -> uri.path("/api/flights/{id}/availability")
+                        .queryParam("requiredSeats", requiredSeats)
+                        .build(id))
+                .retrieve()
+                .bodyToMono(FlightAvailabilityResponse.class));
+    }
+
+    public Mono<FlightDTO> bookSeats(Long id, Integer numberOfSeats) {
+        return serviceCallGuard.guard(ServiceCallGuard.FLIGHT_SERVICE, webClient.post()
+                .uri(uri -> uri.path("/api/flights/{id}/book")
+                        .queryParam("numberOfSeats", numberOfSeats)
+                        .build(id))
+                .retrieve()
+                .bodyToMono(FlightDTO.class));
+    }
+
+    public Mono<FlightDTO> releaseSeats(Long id, Integer numberOfSeats) {
+        return serviceCallGuard.guard(ServiceCallGuard.FLIGHT_SERVICE, webClient.post()
+                .uri(uri -> uri.path("/api/flights/{id}/release")
+                        .queryParam("numberOfSeats", numberOfSeats)
+                        .build(id))
+                .retrieve()
+                .bodyToMono(FlightDTO.class));
+    }
+}
@@ -0,0 +1,66 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.client;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Non-blocking counterpart of {@link HotelServiceClient}, used when
+ * {@code booking.client-mode} is {@code reactive}.
+ */
+@Component
+public class ReactiveHotelServiceClient {
+
+    private final WebClient webClient;
+    private final ServiceCallGuard serviceCallGuard;
+
+    public ReactiveHotelServiceClient(@Qualifier("hotelServiceWebClient") WebClient webClient,
+                                      ServiceCallGuard serviceCallGuard) {
+        this.webClient = webClient;
+        this.serviceCallGuard = serviceCallGuard;
+    }
+
+    public Mono<HotelDTO> getHotelById(Long id) {
+        return serviceCallGuard.guard(ServiceCallGuard.HOTEL_SERVICE, webClient.get()
+                .uri("/api/hotels/{id}", id)
+                .retrieve()
+                .bodyToMono(HotelDTO.class));
+    }
+
+    public Mono<HotelAvailabilityResponse> checkAvailability(Long id, Integer requiredRooms,
+                                                             LocalDate checkInDate, LocalDate checkOutDate) {
+        return serviceCallGuard.guard(ServiceCallGuard.HOTEL_SERVICE, webClient.get()
+                .uri(uri -> uri.path("/api/hotels/{id}/availability")
+                        .queryParam("requiredRooms", requiredRooms)
+                        .queryParamIfPresent("checkInDate", Optional.ofNullable(checkInDate))
+                        .queryParamIfPresent("checkOutDate", Optional.ofNullable(checkOutDate))
+                        .build(id))
+                .retrieve()
+                .bodyToMono(HotelAvailabilityResponse.class));
+    }
+
+    public Mono<HotelDTO> bookRooms(Long id, Integer numberOfRooms) {
+        return serviceCallGuard.guard(ServiceCallGuard.HOTEL_SERVICE, webClient.post()
+                .uri(uri -> uri.path("/api/hotels/{id}/book")
+                        .queryParam("numberOfRooms", numberOfRooms)
+                        .build(id))
+                .retrieve()
+                .bodyToMono(HotelDTO.class));
+    }
+
+    public Mono<HotelDTO> releaseRooms(Long id, Integer numberOfRooms) {
+        return serviceCallGuard.guard(ServiceCallGuard.HOTEL_SERVICE, webClient.post()
+                .uri(uri -> uri.path("/api/hotels/{id}/release")
+                        .queryParam("numberOfRooms", numberOfRooms)
+                        .build(id))
+                .retrieve()
+                .bodyToMono(HotelDTO.class));
+    }
+}
@@ -1,9 +1,15 @@
 package com.Smart.Travel.Booking.Platform.Booking.Service.controller;
 
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingHistoryPage;
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.CreateBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingResult;
 import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.BookingHistoryService;
 import com.Smart.Travel.Booking.Platform.Booking.Service.service.BookingService;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.GroupBookingService;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.ReactiveBookingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,9 +17,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 import java.util.List;
 
@@ -24,6 +32,13 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final ReactiveBookingService reactiveBookingService;
+    private final GroupBookingService groupBookingService;
+    private final BookingHistoryService bookingHistoryService;
+
+    // blocking: Feign and blocked WebClient calls on the request thread; reactive: non-blocking composition
+    @Value("${booking.client-mode:blocking}")
+    private String clientMode;
 
     @PostMapping
     @Operation(summary = "Create a new booking", description = "Creates a new travel booking for flights and/or hotels")
@@ -32,9 +47,25 @@ public class BookingController {
             @ApiResponse(responseCode = "400", description = "Invalid input or booking failed"),
             @ApiResponse(responseCode = "503", description = "Service unavailable")
     })
-    public ResponseEntity<BookingDTO> createBooking(@Valid @RequestBody CreateBookingRequest request) {
-        BookingDTO createdBooking = bookingService.createBooking(request);
-        return new ResponseEntity<>(createdBooking, HttpStatus.CREATED);
+    public Mono<ResponseEntity<BookingDTO>> createBooking(@Valid @RequestBody CreateBookingRequest request) {
+        Mono<BookingDTO> createdBooking = "reactive".equalsIgnoreCase(clientMode)
+                ? reactiveBookingService.createBooking(request)
+                : Mono.fromSupplier(() -> bookingService.createBooking(request));
+        return createdBooking.map(booking -> new ResponseEntity<>(booking, HttpStatus.CREATED));
+    }
+
+    @PostMapping("/group")
+    @Operation(summary = "Create a group booking",
+            description = "Books up to 500 travellers onto the same flight and/or hotel with one call per dependency; "
+                    + "returns a result per traveller")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Group processed; see the per-traveller results"),
+            @ApiResponse(responseCode = "400", description = "Invalid input, or not enough seats or rooms for the group"),
+            @ApiResponse(responseCode = "503", description = "Service unavailable")
+    })
+    public ResponseEntity<GroupBookingResult> createGroupBooking(@Valid @RequestBody GroupBookingRequest request) {
+        GroupBookingResult result = groupBookingService.createGroupBooking(request);
+        return new ResponseEntity<>(result, HttpStatus.CREATED);
     }
 
     @GetMapping("/{id}")
@@ -78,6 +109,23 @@ public class BookingController {
         return ResponseEntity.ok(bookings);
     }
 
+    @GetMapping("/user/{userId}/history")
+    @Operation(summary = "Get booking history",
+            description = "Pages through a user's bookings, newest first, optionally filtered by status. "
+                    + "Pass the returned nextCursor to fetch the following page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "History page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    public ResponseEntity<BookingHistoryPage> getBookingHistory(
+            @Parameter(description = "User ID") @PathVariable Long userId,
+            @Parameter(description = "Only bookings in these statuses") @RequestParam(required = false) List<BookingStatus> status,
+            @Parameter(description = "nextCursor of the previous page") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size, at most 100") @RequestParam(required = false) Integer limit) {
+        BookingHistoryPage page = bookingHistoryService.getBookingHistory(userId, status, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     @GetMapping("/status/{status}")
     @Operation(summary = "Get bookings by status", description = "Retrieves all bookings with a specific status")
     @ApiResponse(responseCode = "200", description = "Bookings retrieved successfully")
@@ -0,0 +1,36 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.controller;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDisruptionResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.FlightDisruptionService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bookings/disruptions")
+@RequiredArgsConstructor
+@Tag(name = "Flight Disruptions", description = "Fan-out of flight cancellations and delays to bookings")
+public class FlightDisruptionController {
+
+    private final FlightDisruptionService flightDisruptionService;
+
+    @PostMapping("/flights/{flightId}")
+    @Operation(summary = "Handle flight disruption",
+            description = "Applies the flight's current status to its bookings: a cancelled flight cancels and refunds "
+                    + "them, a delayed flight notifies the travellers. Normally driven by the flight change feed")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Disruption handled"),
+            @ApiResponse(responseCode = "400", description = "Flight is neither cancelled nor delayed"),
+            @ApiResponse(responseCode = "404", description = "Flight not found"),
+            @ApiResponse(responseCode = "503", description = "A downstream service is unavailable")
+    })
+    public ResponseEntity<FlightDisruptionResult> handleFlightDisruption(
+            @Parameter(description = "Flight ID") @PathVariable Long flightId) {
+        return ResponseEntity.ok(flightDisruptionService.handleFlight(flightId));
+    }
+}
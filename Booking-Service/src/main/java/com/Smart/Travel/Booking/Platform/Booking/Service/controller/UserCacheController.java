@@ -0,0 +1,36 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.controller;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.UserServiceClient;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bookings/cache/users")
+@RequiredArgsConstructor
+@Tag(name = "User Cache", description = "Invalidation hooks for the local user cache")
+public class UserCacheController {
+
+    private final UserServiceClient userServiceClient;
+
+    @DeleteMapping("/{userId}")
+    @Operation(summary = "Invalidate cached user", description = "Evicts a user from the local user cache")
+    @ApiResponse(responseCode = "204", description = "User evicted from cache")
+    public ResponseEntity<Void> invalidateUser(
+            @Parameter(description = "User ID") @PathVariable Long userId) {
+        userServiceClient.invalidate(userId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Invalidate all cached users", description = "Clears the local user cache")
+    @ApiResponse(responseCode = "204", description = "User cache cleared")
+    public ResponseEntity<Void> invalidateAll() {
+        userServiceClient.invalidateAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -27,6 +27,9 @@ public class BookingDTO {
     private Long paymentId;
     private String bookingReference;
     private String specialRequests;
+    // Denormalized at booking time and refreshed from the flight and hotel change feeds
+    private FlightSummaryDTO flight;
+    private HotelSummaryDTO hotel;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 }
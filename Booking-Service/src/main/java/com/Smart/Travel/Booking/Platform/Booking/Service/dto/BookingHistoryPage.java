@@ -0,0 +1,17 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingHistoryPage {
+    // Newest first
+    private List<BookingDTO> bookings;
+    // Pass back as "cursor" for the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
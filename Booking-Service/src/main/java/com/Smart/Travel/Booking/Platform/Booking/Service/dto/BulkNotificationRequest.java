@@ -0,0 +1,16 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkNotificationRequest {
+    private List<Long> userIds;
+    private String type;
+    private String subject;
+    private String message;
+}
@@ -0,0 +1,14 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRefundRequest {
+    private List<Long> paymentIds;
+    private String reason;
+}
@@ -0,0 +1,15 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRefundResult {
+    private int requested;
+    private List<Long> refundedPaymentIds;
+    private List<Long> skippedPaymentIds;
+}
@@ -0,0 +1,23 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightChangeDTO {
+    private Long offset;
+    private Long flightId;
+    private String flightNumber;
+    private String changeType;
+    private String status;
+    private LocalDateTime departureTime;
+    private String airline;
+    private String origin;
+    private String destination;
+    private LocalDateTime arrivalTime;
+    private LocalDateTime changedAt;
+}
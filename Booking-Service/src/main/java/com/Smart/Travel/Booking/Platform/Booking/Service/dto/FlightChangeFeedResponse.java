@@ -0,0 +1,15 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightChangeFeedResponse {
+    private List<FlightChangeDTO> changes;
+    private Long nextOffset;
+    private Long oldestOffset;
+}
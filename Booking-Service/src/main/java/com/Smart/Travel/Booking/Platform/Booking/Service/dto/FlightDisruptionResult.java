@@ -0,0 +1,19 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightDisruptionResult {
+    private Long flightId;
+    private String flightNumber;
+    private String flightStatus;
+    private int affectedBookings;
+    // Payments queued for refund; the outbox attempts them as soon as each chunk has committed
+    private int refundedPayments;
+    private int notifiedUsers;
+    private int chunks;
+    private long durationMs;
+}
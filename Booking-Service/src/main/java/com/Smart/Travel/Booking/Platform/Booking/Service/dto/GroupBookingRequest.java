@@ -0,0 +1,47 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupBookingRequest {
+
+    // Shared by every traveller in the group
+    private Long flightId;
+
+    private Long hotelId;
+
+    private LocalDate checkInDate;
+
+    private LocalDate checkOutDate;
+
+    @NotEmpty(message = "At least one traveller is required")
+    private List<@Valid @NotNull Traveller> travellers;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Traveller {
+
+        @NotNull(message = "User ID is required")
+        private Long userId;
+
+        @Positive(message = "Number of passengers must be positive")
+        private Integer numberOfPassengers;
+
+        @Positive(message = "Number of rooms must be positive")
+        private Integer numberOfRooms;
+
+        private String specialRequests;
+    }
+}
@@ -0,0 +1,35 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GroupBookingResult {
+    private int travellers;
+    private int booked;
+    private int rejected;
+    private BigDecimal totalAmount;
+    // In request order
+    private List<TravellerResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TravellerResult {
+        private Long userId;
+        private Outcome outcome;
+        private BookingDTO booking;
+        private String message;
+    }
+
+    public enum Outcome {
+        BOOKED,
+        REJECTED
+    }
+}
@@ -2,6 +2,8 @@ package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
 
 import lombok.*;
 
+import java.math.BigDecimal;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +14,6 @@ public class HotelAvailabilityResponse {
     private boolean available;
     private Integer availableRooms;
     private String message;
+    // Stay total from the hotel's rate calendar, only present when stay dates were sent
+    private BigDecimal totalPrice;
 }
@@ -0,0 +1,18 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelChangeDTO {
+    private Long offset;
+    private Long hotelId;
+    private String hotelName;
+    private String city;
+    private String changeType;
+    private LocalDateTime changedAt;
+}
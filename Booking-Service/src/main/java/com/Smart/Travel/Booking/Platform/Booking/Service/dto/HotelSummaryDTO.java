@@ -0,0 +1,12 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelSummaryDTO {
+    private String name;
+    private String city;
+}
@@ -10,15 +10,24 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_flight_status", columnList = "flight_id, status"),
+        @Index(name = "idx_bookings_hotel_id", columnList = "hotel_id"),
+        @Index(name = "idx_bookings_user_created", columnList = "user_id, created_at, id"),
+        @Index(name = "idx_bookings_user_status_created", columnList = "user_id, status, created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Booking {
 
+    // Ids handed out per sequence round trip; the sequence is created with the same increment
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = Booking.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "User ID is required")
@@ -67,6 +76,12 @@ public class Booking {
     @Column(name = "special_requests", columnDefinition = "TEXT")
     private String specialRequests;
 
+    @Embedded
+    private FlightSummary flightSummary;
+
+    @Embedded
+    private HotelSummary hotelSummary;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -77,9 +92,6 @@ public class Booking {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (bookingReference == null) {
-            bookingReference = "BK" + System.currentTimeMillis();
-        }
     }
 
     @PreUpdate
@@ -0,0 +1,41 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last change-feed offset processed by a named consumer. The row also carries the consumer's
+ * lease: the instance named as owner is the active consumer until lease_until passes.
+ */
+@Entity
+@Table(name = "feed_offsets")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FeedOffset {
+
+    @Id
+    @Column(length = 100)
+    private String consumer;
+
+    @Column(name = "last_offset", nullable = false)
+    private Long lastOffset;
+
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,40 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Copy of the booked flight's details, taken at booking time and kept current from the
+ * flight change feed, so booking lists need no call to the Flight Service.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightSummary {
+
+    @Column(name = "flight_number")
+    private String flightNumber;
+
+    @Column(name = "flight_airline")
+    private String airline;
+
+    @Column(name = "flight_origin")
+    private String origin;
+
+    @Column(name = "flight_destination")
+    private String destination;
+
+    @Column(name = "flight_departure_time")
+    private LocalDateTime departureTime;
+
+    @Column(name = "flight_arrival_time")
+    private LocalDateTime arrivalTime;
+
+    @Column(name = "flight_status")
+    private String status;
+}
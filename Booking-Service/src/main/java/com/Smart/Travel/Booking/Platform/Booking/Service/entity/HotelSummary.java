@@ -0,0 +1,23 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+/**
+ * Copy of the booked hotel's details, taken at booking time and kept current from the
+ * hotel change feed.
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelSummary {
+
+    @Column(name = "hotel_name")
+    private String name;
+
+    @Column(name = "hotel_city")
+    private String city;
+}
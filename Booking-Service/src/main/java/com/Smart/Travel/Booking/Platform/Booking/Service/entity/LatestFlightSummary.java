@@ -0,0 +1,30 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The flight summary most recently applied from the flight change feed, or taken from a new
+ * booking when the feed has not reported the flight yet. Its row lock orders new bookings
+ * against feed updates of the same flight, see {@code BookingSummaryService}.
+ */
+@Entity
+@Table(name = "latest_flight_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatestFlightSummary {
+
+    @Id
+    @Column(name = "flight_id")
+    private Long flightId;
+
+    @Embedded
+    private FlightSummary summary;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,31 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The hotel summary most recently applied from the hotel change feed, or taken from a new
+ * booking when the feed has not reported the hotel yet. Its row lock orders new bookings
+ * against feed updates of the same hotel, see {@code BookingSummaryService}.
+ */
+@Entity
+@Table(name = "latest_hotel_summaries")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LatestHotelSummary {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    private String name;
+
+    private String city;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
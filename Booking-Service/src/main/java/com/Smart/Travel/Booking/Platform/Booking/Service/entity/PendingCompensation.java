@@ -0,0 +1,63 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A compensating call to another service that has not succeeded yet, e.g. rooms to give back
+ * after a cancellation. Retried until it succeeds or runs out of attempts; an entry with no
+ * next attempt is parked and needs an operator.
+ */
+@Entity
+@Table(name = "pending_compensations", indexes = {
+        @Index(name = "idx_pending_compensations_next_attempt", columnList = "next_attempt_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingCompensation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_compensations_seq")
+    @SequenceGenerator(name = "pending_compensations_seq", sequenceName = "pending_compensations_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Action action;
+
+    // Flight, hotel or payment the action applies to
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    private Integer quantity;
+
+    private String reason;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // Null once parked
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public enum Action {
+        RELEASE_SEATS,
+        RELEASE_ROOMS,
+        REFUND_PAYMENT
+    }
+}
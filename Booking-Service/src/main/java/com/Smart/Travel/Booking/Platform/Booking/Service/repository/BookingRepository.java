@@ -2,7 +2,11 @@ package com.Smart.Travel.Booking.Platform.Booking.Service.repository;
 
 import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
 import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -24,7 +28,84 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByHotelId(Long hotelId);
 
+    // Next chunk of live bookings on a flight, row-locked until the caller's transaction ends
+    @Query(value = "SELECT * FROM bookings WHERE flight_id = :flightId AND status IN ('PENDING', 'CONFIRMED') "
+            + "ORDER BY id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Booking> lockActiveByFlightId(@Param("flightId") Long flightId, @Param("limit") int limit);
+
+    @Query("SELECT b FROM Booking b WHERE b.flightId = :flightId AND b.status IN :statuses AND b.id > :afterId ORDER BY b.id")
+    List<Booking> findByFlightIdAfter(@Param("flightId") Long flightId,
+                                      @Param("statuses") List<BookingStatus> statuses,
+                                      @Param("afterId") Long afterId,
+                                      Pageable pageable);
+
     List<Booking> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
     List<Booking> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // Keyset history pages, newest first; the redundant createdAt <= bound keeps the scan on the index range
+    List<Booking> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.userId = :userId AND b.createdAt <= :createdAt " +
+           "AND (b.createdAt < :createdAt OR b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findHistoryAfter(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    List<Booking> findByUserIdAndStatusInOrderByCreatedAtDescIdDesc(Long userId, List<BookingStatus> statuses, Pageable pageable);
+
+    @Query("SELECT b FROM Booking b WHERE b.userId = :userId AND b.status IN :statuses AND b.createdAt <= :createdAt " +
+           "AND (b.createdAt < :createdAt OR b.id < :id) ORDER BY b.createdAt DESC, b.id DESC")
+    List<Booking> findHistoryAfter(@Param("userId") Long userId,
+                                   @Param("statuses") List<BookingStatus> statuses,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    // Denormalized summaries are refreshed in place and do not count as a booking update
+    @Modifying
+    @Query("UPDATE Booking b SET b.flightSummary.flightNumber = :flightNumber, b.flightSummary.airline = :airline, " +
+           "b.flightSummary.origin = :origin, b.flightSummary.destination = :destination, " +
+           "b.flightSummary.departureTime = :departureTime, b.flightSummary.arrivalTime = :arrivalTime, " +
+           "b.flightSummary.status = :status WHERE b.flightId = :flightId")
+    int refreshFlightSummary(@Param("flightId") Long flightId,
+                             @Param("flightNumber") String flightNumber,
+                             @Param("airline") String airline,
+                             @Param("origin") String origin,
+                             @Param("destination") String destination,
+                             @Param("departureTime") LocalDateTime departureTime,
+                             @Param("arrivalTime") LocalDateTime arrivalTime,
+                             @Param("status") String status);
+
+    // Bookings made before flight summaries existed
+    @Query("SELECT DISTINCT b.flightId FROM Booking b WHERE b.flightId IS NOT NULL AND b.flightSummary.flightNumber IS NULL")
+    List<Long> findFlightIdsWithoutSummary(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.flightSummary.flightNumber = :flightNumber, b.flightSummary.airline = :airline, " +
+           "b.flightSummary.origin = :origin, b.flightSummary.destination = :destination, " +
+           "b.flightSummary.departureTime = :departureTime, b.flightSummary.arrivalTime = :arrivalTime, " +
+           "b.flightSummary.status = :status WHERE b.flightId = :flightId AND b.flightSummary.flightNumber IS NULL")
+    int fillFlightSummary(@Param("flightId") Long flightId,
+                          @Param("flightNumber") String flightNumber,
+                          @Param("airline") String airline,
+                          @Param("origin") String origin,
+                          @Param("destination") String destination,
+                          @Param("departureTime") LocalDateTime departureTime,
+                          @Param("arrivalTime") LocalDateTime arrivalTime,
+                          @Param("status") String status);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.hotelSummary.name = :name, b.hotelSummary.city = :city WHERE b.hotelId = :hotelId")
+    int refreshHotelSummary(@Param("hotelId") Long hotelId, @Param("name") String name, @Param("city") String city);
+
+    // Bookings made before hotel summaries existed
+    @Query("SELECT DISTINCT b.hotelId FROM Booking b WHERE b.hotelId IS NOT NULL AND b.hotelSummary.name IS NULL")
+    List<Long> findHotelIdsWithoutSummary(Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Booking b SET b.hotelSummary.name = :name, b.hotelSummary.city = :city "
+            + "WHERE b.hotelId = :hotelId AND b.hotelSummary.name IS NULL")
+    int fillHotelSummary(@Param("hotelId") Long hotelId, @Param("name") String name, @Param("city") String city);
 }
@@ -0,0 +1,30 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FeedOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface FeedOffsetRepository extends JpaRepository<FeedOffset, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO feed_offsets (consumer, last_offset, updated_at) VALUES (:consumer, 0, now()) "
+            + "ON CONFLICT (consumer) DO NOTHING", nativeQuery = true)
+    void createIfAbsent(@Param("consumer") String consumer);
+
+    // Takes or renews the lease; 0 while another instance holds an unexpired lease
+    @Modifying
+    @Query(value = "UPDATE feed_offsets SET owner = :owner, lease_until = now() + :leaseMs * interval '1 millisecond' "
+            + "WHERE consumer = :consumer AND (owner IS NULL OR owner = :owner OR lease_until < now())", nativeQuery = true)
+    int acquireLease(@Param("consumer") String consumer, @Param("owner") String owner, @Param("leaseMs") long leaseMs);
+
+    // 0 when the lease was lost or the offset moved meanwhile
+    @Modifying
+    @Query(value = "UPDATE feed_offsets SET last_offset = :next, updated_at = now() "
+            + "WHERE consumer = :consumer AND owner = :owner AND last_offset = :expected", nativeQuery = true)
+    int advance(@Param("consumer") String consumer, @Param("owner") String owner,
+                @Param("expected") long expected, @Param("next") long next);
+}
@@ -0,0 +1,52 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestFlightSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LatestFlightSummaryRepository extends JpaRepository<LatestFlightSummary, Long> {
+
+    // Waits for a concurrent insert or upsert of the same flight to finish
+    @Modifying
+    @Query(value = "INSERT INTO latest_flight_summaries (flight_id, flight_number, flight_airline, flight_origin, "
+            + "flight_destination, flight_departure_time, flight_arrival_time, flight_status, updated_at) "
+            + "VALUES (:flightId, :flightNumber, :airline, :origin, :destination, :departureTime, :arrivalTime, :status, now()) "
+            + "ON CONFLICT (flight_id) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("flightId") Long flightId,
+                        @Param("flightNumber") String flightNumber,
+                        @Param("airline") String airline,
+                        @Param("origin") String origin,
+                        @Param("destination") String destination,
+                        @Param("departureTime") LocalDateTime departureTime,
+                        @Param("arrivalTime") LocalDateTime arrivalTime,
+                        @Param("status") String status);
+
+    @Modifying
+    @Query(value = "INSERT INTO latest_flight_summaries (flight_id, flight_number, flight_airline, flight_origin, "
+            + "flight_destination, flight_departure_time, flight_arrival_time, flight_status, updated_at) "
+            + "VALUES (:flightId, :flightNumber, :airline, :origin, :destination, :departureTime, :arrivalTime, :status, now()) "
+            + "ON CONFLICT (flight_id) DO UPDATE SET flight_number = EXCLUDED.flight_number, "
+            + "flight_airline = EXCLUDED.flight_airline, flight_origin = EXCLUDED.flight_origin, "
+            + "flight_destination = EXCLUDED.flight_destination, flight_departure_time = EXCLUDED.flight_departure_time, "
+            + "flight_arrival_time = EXCLUDED.flight_arrival_time, flight_status = EXCLUDED.flight_status, updated_at = now()",
+            nativeQuery = true)
+    void upsert(@Param("flightId") Long flightId,
+                @Param("flightNumber") String flightNumber,
+                @Param("airline") String airline,
+                @Param("origin") String origin,
+                @Param("destination") String destination,
+                @Param("departureTime") LocalDateTime departureTime,
+                @Param("arrivalTime") LocalDateTime arrivalTime,
+                @Param("status") String status);
+
+    // Held until the caller's transaction ends; blocks feed upserts of the flight meanwhile
+    @Query(value = "SELECT * FROM latest_flight_summaries WHERE flight_id = :flightId FOR SHARE", nativeQuery = true)
+    Optional<LatestFlightSummary> lockShared(@Param("flightId") Long flightId);
+}
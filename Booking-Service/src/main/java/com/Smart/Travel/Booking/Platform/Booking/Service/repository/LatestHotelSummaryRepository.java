@@ -0,0 +1,30 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestHotelSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface LatestHotelSummaryRepository extends JpaRepository<LatestHotelSummary, Long> {
+
+    // Waits for a concurrent insert or upsert of the same hotel to finish
+    @Modifying
+    @Query(value = "INSERT INTO latest_hotel_summaries (hotel_id, name, city, updated_at) VALUES (:hotelId, :name, :city, now()) "
+            + "ON CONFLICT (hotel_id) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("hotelId") Long hotelId, @Param("name") String name, @Param("city") String city);
+
+    @Modifying
+    @Query(value = "INSERT INTO latest_hotel_summaries (hotel_id, name, city, updated_at) VALUES (:hotelId, :name, :city, now()) "
+            + "ON CONFLICT (hotel_id) DO UPDATE SET name = EXCLUDED.name, city = EXCLUDED.city, updated_at = now()",
+            nativeQuery = true)
+    void upsert(@Param("hotelId") Long hotelId, @Param("name") String name, @Param("city") String city);
+
+    // Held until the caller's transaction ends; blocks feed upserts of the hotel meanwhile
+    @Query(value = "SELECT * FROM latest_hotel_summaries WHERE hotel_id = :hotelId FOR SHARE", nativeQuery = true)
+    Optional<LatestHotelSummary> lockShared(@Param("hotelId") Long hotelId);
+}
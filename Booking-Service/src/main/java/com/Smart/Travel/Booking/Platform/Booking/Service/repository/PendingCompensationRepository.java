@@ -0,0 +1,19 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PendingCompensationRepository extends JpaRepository<PendingCompensation, Long> {
+
+    // Due entries, row-locked until the caller's transaction ends and skipped by other instances
+    @Query(value = "SELECT * FROM pending_compensations WHERE next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<PendingCompensation> lockDue(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,117 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Derives each dependency's timeout from the latency of its recent successful calls: the
+ * configured percentile of the last {@code window} calls times a multiplier, clamped between
+ * a floor and the dependency's time limiter timeout, which stays the ceiling. Until a
+ * dependency has answered {@code min-samples} calls the ceiling applies.
+ * <p>
+ * A call cut off at the derived timeout counts as a sample at that timeout, so once more
+ * calls than the percentile allows run into it, the timeout widens by the multiplier with
+ * every further cut-off until it reaches the ceiling.
+ */
+@Component
+public class AdaptiveTimeouts {
+
+    private final ConcurrentMap<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double percentile;
+    private final double multiplier;
+    private final long floorNanos;
+    private final int windowSize;
+    private final int minSamples;
+
+    public AdaptiveTimeouts(
+            MeterRegistry meterRegistry,
+            @Value("${booking.adaptive-timeout.enabled:true}") boolean enabled,
+            @Value("${booking.adaptive-timeout.percentile:0.99}") double percentile,
+            @Value("${booking.adaptive-timeout.multiplier:2.0}") double multiplier,
+            @Value("${booking.adaptive-timeout.min-ms:250}") long floorMs,
+            @Value("${booking.adaptive-timeout.window:200}") int windowSize,
+            @Value("${booking.adaptive-timeout.min-samples:50}") int minSamples) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("booking.adaptive-timeout.percentile must be in (0, 1]");
+        }
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.floorNanos = Duration.ofMillis(floorMs).toNanos();
+        this.windowSize = windowSize;
+        this.minSamples = Math.min(minSamples, windowSize);
+    }
+
+    public Duration timeoutFor(String dependency, Duration ceiling) {
+        if (!enabled) {
+            return ceiling;
+        }
+        long derived = window(dependency).timeoutNanos;
+        if (derived == 0) {
+            return ceiling;
+        }
+        return Duration.ofNanos(Math.min(ceiling.toNanos(), Math.max(floorNanos, derived)));
+    }
+
+    public void record(String dependency, long latencyNanos) {
+        if (enabled) {
+            window(dependency).add(latencyNanos, false);
+        }
+    }
+
+    /**
+     * Records a call cut off at {@code timeout}; it only took at least that long, so the
+     * timeout is recomputed at once instead of after the next tenth of a window.
+     */
+    public void recordTimeout(String dependency, Duration timeout) {
+        if (enabled) {
+            window(dependency).add(timeout.toNanos(), true);
+        }
+    }
+
+    private LatencyWindow window(String dependency) {
+        return windows.computeIfAbsent(dependency, name -> {
+            LatencyWindow window = new LatencyWindow();
+            Gauge.builder("booking.dependency.adaptive.timeout", window, w -> w.timeoutNanos / 1_000_000.0)
+                    .description("Timeout derived from recent latency, 0 until enough calls were seen")
+                    .baseUnit("milliseconds")
+                    .tag("dependency", name)
+                    .register(meterRegistry);
+            return window;
+        });
+    }
+
+    // Ring buffer of recent latencies; the derived timeout is recomputed every tenth of a window
+    private final class LatencyWindow {
+
+        private final long[] samples = new long[windowSize];
+        private final int recomputeEvery = Math.max(1, windowSize / 10);
+        private int next;
+        private int count;
+        private int sinceRecompute;
+        private volatile long timeoutNanos;
+
+        synchronized void add(long latencyNanos, boolean recompute) {
+            samples[next] = latencyNanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+            if (count >= minSamples && (recompute || timeoutNanos == 0 || ++sinceRecompute >= recomputeEvery)) {
+                sinceRecompute = 0;
+                long[] sorted = Arrays.copyOf(samples, count);
+                Arrays.sort(sorted);
+                int rank = (int) Math.ceil(percentile * count) - 1;
+                timeoutNanos = Math.max(1, (long) (sorted[Math.max(0, rank)] * multiplier));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.*;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FlightSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.HotelSummary;
+import com.Smart.Travel.Booking.Platform.Common.id.ReferenceGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.temporal.ChronoUnit;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.BookingService.passengersOf;
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.BookingService.roomsOf;
+
+/**
+ * Pricing, building and mapping of bookings, shared by the blocking, reactive and group
+ * booking paths. Deliberately not transactional: the reactive path calls it on the event
+ * loop, where opening a transaction would hold a connection and block the thread. Database
+ * work stays with the callers.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingAssembler {
+
+    private final NotificationServiceClient notificationServiceClient;
+    private final ReferenceGenerator referenceGenerator;
+
+    BigDecimal calculateFlightCost(FlightDTO flight, FlightAvailabilityResponse availability, CreateBookingRequest request) {
+        // Flight Service quotes a dynamic fare with the availability check; older instances only send the base price
+        if (availability.getTotalPrice() != null) {
+            return availability.getTotalPrice();
+        }
+        return flight.getPrice().multiply(BigDecimal.valueOf(passengersOf(request)));
+    }
+
+    BigDecimal calculateHotelCost(HotelDTO hotel, HotelAvailabilityResponse availability, CreateBookingRequest request) {
+        // Hotel Service prices the stay from its rate calendar when the stay dates were sent
+        if (availability.getTotalPrice() != null) {
+            return availability.getTotalPrice();
+        }
+
+        // Calculate number of nights
+        long numberOfNights = 1;
+        if (request.getCheckInDate() != null && request.getCheckOutDate() != null) {
+            numberOfNights = ChronoUnit.DAYS.between(
+                    request.getCheckInDate(),
+                    request.getCheckOutDate()
+            );
+            if (numberOfNights < 1) numberOfNights = 1;
+        }
+
+        return hotel.getPricePerNight()
+                .multiply(BigDecimal.valueOf(numberOfNights))
+                .multiply(BigDecimal.valueOf(roomsOf(request)));
+    }
+
+    Booking newPendingBooking(CreateBookingRequest request, FlightDTO flight, HotelDTO hotel,
+                              BigDecimal flightCost, BigDecimal hotelCost) {
+        return Booking.builder()
+                .userId(request.getUserId())
+                .flightId(request.getFlightId())
+                .hotelId(request.getHotelId())
+                .numberOfPassengers(request.getNumberOfPassengers())
+                .numberOfRooms(request.getNumberOfRooms())
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .flightCost(flightCost)
+                .hotelCost(hotelCost)
+                .totalAmount(flightCost.add(hotelCost))
+                .specialRequests(request.getSpecialRequests())
+                .flightSummary(flight != null ? flightSummaryOf(flight) : null)
+                .hotelSummary(hotel != null ? hotelSummaryOf(hotel) : null)
+                .status(BookingStatus.PENDING)
+                .bookingReference(referenceGenerator.nextReference())
+                .build();
+    }
+
+    static FlightSummary flightSummaryOf(FlightDTO flight) {
+        return FlightSummary.builder()
+                .flightNumber(flight.getFlightNumber())
+                .airline(flight.getAirline())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .departureTime(flight.getDepartureTime())
+                .arrivalTime(flight.getArrivalTime())
+                .status(flight.getStatus())
+                .build();
+    }
+
+    static HotelSummary hotelSummaryOf(HotelDTO hotel) {
+        return HotelSummary.builder()
+                .name(hotel.getName())
+                .city(hotel.getCity())
+                .build();
+    }
+
+    void sendCreationNotification(UserDTO user, Booking booking) {
+        try {
+            String message = String.format(
+                    "Dear %s %s, your booking %s has been created successfully. Total amount: $%s",
+                    user.getFirstName(), user.getLastName(),
+                    booking.getBookingReference(),
+                    booking.getTotalAmount()
+            );
+            notificationServiceClient.sendBookingConfirmation(
+                    user.getId(),
+                    user.getEmail(),
+                    booking.getBookingReference(),
+                    message
+            ).subscribe();
+        } catch (Exception e) {
+            log.warn("Failed to send notification: {}", e.getMessage());
+        }
+    }
+
+    BookingDTO mapToDTO(Booking booking) {
+        return BookingDTO.builder()
+                .id(booking.getId())
+                .userId(booking.getUserId())
+                .flightId(booking.getFlightId())
+                .hotelId(booking.getHotelId())
+                .numberOfPassengers(booking.getNumberOfPassengers())
+                .numberOfRooms(booking.getNumberOfRooms())
+                .checkInDate(booking.getCheckInDate())
+                .checkOutDate(booking.getCheckOutDate())
+                .totalAmount(booking.getTotalAmount())
+                .flightCost(booking.getFlightCost())
+                .hotelCost(booking.getHotelCost())
+                .status(booking.getStatus())
+                .paymentId(booking.getPaymentId())
+                .bookingReference(booking.getBookingReference())
+                .specialRequests(booking.getSpecialRequests())
+                .flight(mapToDTO(booking.getFlightSummary()))
+                .hotel(mapToDTO(booking.getHotelSummary()))
+                .createdAt(booking.getCreatedAt())
+                .updatedAt(booking.getUpdatedAt())
+                .build();
+    }
+
+    private FlightSummaryDTO mapToDTO(FlightSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return FlightSummaryDTO.builder()
+                .flightNumber(summary.getFlightNumber())
+                .airline(summary.getAirline())
+                .origin(summary.getOrigin())
+                .destination(summary.getDestination())
+                .departureTime(summary.getDepartureTime())
+                .arrivalTime(summary.getArrivalTime())
+                .status(summary.getStatus())
+                .build();
+    }
+
+    private HotelSummaryDTO mapToDTO(HotelSummary summary) {
+        if (summary == null) {
+            return null;
+        }
+        return HotelSummaryDTO.builder()
+                .name(summary.getName())
+                .city(summary.getCity())
+                .build();
+    }
+}
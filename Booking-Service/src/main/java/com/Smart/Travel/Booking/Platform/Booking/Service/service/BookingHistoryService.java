@@ -0,0 +1,116 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingHistoryPage;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset-paginated booking history, newest first. Each page continues strictly after the
+ * (createdAt, id) of the previous page's last booking, so bookings created meanwhile do not
+ * shift later pages. Unfiltered and single-status pages are one index range scan on
+ * (user_id, created_at, id) or (user_id, status, created_at, id) however deep the user pages.
+ * With several statuses the ranges of each status have to be merged or sorted, so such a page
+ * costs more the more of the user's bookings are in those statuses.
+ */
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class BookingHistoryService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingAssembler bookingAssembler;
+    private final RecentBookingsCache recentBookingsCache;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public BookingHistoryService(
+            BookingRepository bookingRepository,
+            BookingAssembler bookingAssembler,
+            RecentBookingsCache recentBookingsCache,
+            @Value("${booking.history.default-page-size:20}") int defaultPageSize,
+            @Value("${booking.history.max-page-size:100}") int maxPageSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingAssembler = bookingAssembler;
+        this.recentBookingsCache = recentBookingsCache;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public BookingHistoryPage getBookingHistory(Long userId, List<BookingStatus> statuses, String cursor, Integer limit) {
+        int pageSize = limit != null ? limit : defaultPageSize;
+        if (pageSize < 1 || pageSize > maxPageSize) {
+            throw new BookingException("Page size must be between 1 and " + maxPageSize);
+        }
+        boolean filtered = statuses != null && !statuses.isEmpty();
+
+        if (cursor == null && !filtered && recentBookingsCache.isEnabled() && pageSize <= recentBookingsCache.pageSize()) {
+            List<BookingDTO> recent = recentBookingsCache.get(userId,
+                    id -> fetch(id, null, null, recentBookingsCache.pageSize() + 1));
+            return toPage(recent, pageSize);
+        }
+
+        Cursor after = cursor != null ? Cursor.decode(cursor) : null;
+        return toPage(fetch(userId, filtered ? statuses : null, after, pageSize + 1), pageSize);
+    }
+
+    // One row more than the page is fetched to tell whether another page follows
+    private List<BookingDTO> fetch(Long userId, List<BookingStatus> statuses, Cursor after, int rows) {
+        Pageable pageable = PageRequest.of(0, rows);
+        List<Booking> bookings;
+        if (statuses == null) {
+            bookings = after == null
+                    ? bookingRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, pageable)
+                    : bookingRepository.findHistoryAfter(userId, after.createdAt(), after.id(), pageable);
+        } else {
+            bookings = after == null
+                    ? bookingRepository.findByUserIdAndStatusInOrderByCreatedAtDescIdDesc(userId, statuses, pageable)
+                    : bookingRepository.findHistoryAfter(userId, statuses, after.createdAt(), after.id(), pageable);
+        }
+        return bookings.stream().map(bookingAssembler::mapToDTO).toList();
+    }
+
+    private static BookingHistoryPage toPage(List<BookingDTO> rows, int pageSize) {
+        boolean hasMore = rows.size() > pageSize;
+        List<BookingDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+        BookingDTO last = page.isEmpty() ? null : page.get(page.size() - 1);
+        return BookingHistoryPage.builder()
+                .bookings(page)
+                .nextCursor(hasMore ? new Cursor(last.getCreatedAt(), last.getId()).encode() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // Opaque to clients: base64url of "<createdAt>,<id>"
+    record Cursor(LocalDateTime createdAt, Long id) {
+
+        String encode() {
+            String raw = createdAt + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int comma = raw.indexOf(',');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new BookingException("Invalid history cursor");
+            }
+        }
+    }
+}
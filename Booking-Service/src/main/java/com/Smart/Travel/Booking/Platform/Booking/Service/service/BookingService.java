@@ -14,12 +14,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.time.temporal.ChronoUnit;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.FLIGHT_SERVICE;
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.HOTEL_SERVICE;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -31,19 +35,20 @@ public class BookingService {
     private final HotelServiceClient hotelServiceClient;
     private final UserServiceClient userServiceClient;
     private final NotificationServiceClient notificationServiceClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final BookingAssembler bookingAssembler;
+    private final RecentBookingsCache recentBookingsCache;
+    private final BookingSummaryService bookingSummaryService;
 
     public BookingDTO createBooking(CreateBookingRequest request) {
         log.info("Creating booking for user: {}", request.getUserId());
 
-        // Validate user using WebClient
-        Boolean isUserValid = userServiceClient.validateUser(request.getUserId()).block();
-        if (isUserValid == null || !isUserValid) {
-            throw new BookingException("User validation failed. User ID: " + request.getUserId() + " is not valid or inactive");
-        }
-
-        UserDTO user = userServiceClient.getUserById(request.getUserId()).block();
+        // Validate and fetch the active user in a single call using WebClient
+        UserDTO user = userServiceClient.getActiveUser(request.getUserId())
+                .onErrorResume(e -> Mono.empty())
+                .block();
         if (user == null) {
-            throw new BookingException("Unable to fetch user details");
+            throw new BookingException("User validation failed. User ID: " + request.getUserId() + " is not valid or inactive");
         }
 
         BigDecimal flightCost = BigDecimal.ZERO;
@@ -54,19 +59,15 @@ public class BookingService {
         // Flight availability check using Feign Client
         if (request.getFlightId() != null) {
             try {
-                FlightAvailabilityResponse flightAvailability = flightServiceClient.checkAvailability(
-                        request.getFlightId(),
-                        request.getNumberOfPassengers() != null ? request.getNumberOfPassengers() : 1
-                );
+                FlightAvailabilityResponse flightAvailability = serviceCallGuard.call(FLIGHT_SERVICE,
+                        () -> flightServiceClient.checkAvailability(request.getFlightId(), passengersOf(request)));
 
                 if (!flightAvailability.isAvailable()) {
                     throw new BookingException("Flight not available: " + flightAvailability.getMessage());
                 }
 
-                flight = flightServiceClient.getFlightById(request.getFlightId());
-                flightCost = flight.getPrice().multiply(BigDecimal.valueOf(
-                        request.getNumberOfPassengers() != null ? request.getNumberOfPassengers() : 1
-                ));
+                flight = serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.getFlightById(request.getFlightId()));
+                flightCost = bookingAssembler.calculateFlightCost(flight, flightAvailability, request);
             } catch (FeignException e) {
                 log.error("Error communicating with Flight Service: {}", e.getMessage());
                 throw new ServiceUnavailableException("Flight Service is unavailable");
@@ -76,94 +77,70 @@ public class BookingService {
         // hotel availability check using Feign Client
         if (request.getHotelId() != null) {
             try {
-                HotelAvailabilityResponse hotelAvailability = hotelServiceClient.checkAvailability(
-                        request.getHotelId(),
-                        request.getNumberOfRooms() != null ? request.getNumberOfRooms() : 1
-                );
+                HotelAvailabilityResponse hotelAvailability = serviceCallGuard.call(HOTEL_SERVICE,
+                        () -> hotelServiceClient.checkAvailability(request.getHotelId(), roomsOf(request),
+                                checkInOf(request), checkOutOf(request)));
 
                 if (!hotelAvailability.isAvailable()) {
                     throw new BookingException("Hotel not available: " + hotelAvailability.getMessage());
                 }
 
-                hotel = hotelServiceClient.getHotelById(request.getHotelId());
-                
-                // Calculate number of nights
-                long numberOfNights = 1;
-                if (request.getCheckInDate() != null && request.getCheckOutDate() != null) {
-                    numberOfNights = ChronoUnit.DAYS.between(
-                            request.getCheckInDate(),
-                            request.getCheckOutDate()
-                    );
-                    if (numberOfNights < 1) numberOfNights = 1;
-                }
-
-                hotelCost = hotel.getPricePerNight()
-                        .multiply(BigDecimal.valueOf(numberOfNights))
-                        .multiply(BigDecimal.valueOf(request.getNumberOfRooms() != null ? request.getNumberOfRooms() : 1));
+                hotel = serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.getHotelById(request.getHotelId()));
+                hotelCost = bookingAssembler.calculateHotelCost(hotel, hotelAvailability, request);
             } catch (FeignException e) {
                 log.error("Error communicating with Hotel Service: {}", e.getMessage());
                 throw new ServiceUnavailableException("Hotel Service is unavailable");
             }
         }
 
-        // Calculate total cost
-        BigDecimal totalAmount = flightCost.add(hotelCost);
-
         // Save booking
-        Booking booking = Booking.builder()
-                .userId(request.getUserId())
-                .flightId(request.getFlightId())
-                .hotelId(request.getHotelId())
-                .numberOfPassengers(request.getNumberOfPassengers())
-                .numberOfRooms(request.getNumberOfRooms())
-                .checkInDate(request.getCheckInDate())
-                .checkOutDate(request.getCheckOutDate())
-                .flightCost(flightCost)
-                .hotelCost(hotelCost)
-                .totalAmount(totalAmount)
-                .specialRequests(request.getSpecialRequests())
-                .status(BookingStatus.PENDING)
-                .build();
+        Booking booking = bookingAssembler.newPendingBooking(request, flight, hotel, flightCost, hotelCost);
 
         Booking savedBooking = bookingRepository.save(booking);
+        bookingSummaryService.reconcileSummariesOnCommit(List.of(savedBooking));
+        recentBookingsCache.evict(savedBooking.getUserId());
         log.info("Booking created with reference: {}", savedBooking.getBookingReference());
 
         // Book the flight and hotel
         try {
             if (request.getFlightId() != null) {
-                flightServiceClient.bookSeats(request.getFlightId(), 
-                        request.getNumberOfPassengers() != null ? request.getNumberOfPassengers() : 1);
+                serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.bookSeats(request.getFlightId(), passengersOf(request)));
             }
             if (request.getHotelId() != null) {
-                hotelServiceClient.bookRooms(request.getHotelId(), 
-                        request.getNumberOfRooms() != null ? request.getNumberOfRooms() : 1);
+                serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.bookRooms(request.getHotelId(), roomsOf(request)));
             }
-        } catch (FeignException e) {
+        } catch (FeignException | ServiceUnavailableException e) {
             log.error("Error booking resources: {}", e.getMessage());
             savedBooking.setStatus(BookingStatus.FAILED);
             bookingRepository.save(savedBooking);
             throw new BookingException("Failed to book resources: " + e.getMessage());
         }
 
-        // Send notification
-        try {
-            String message = String.format(
-                    "Dear %s %s, your booking %s has been created successfully. Total amount: $%s",
-                    user.getFirstName(), user.getLastName(),
-                    savedBooking.getBookingReference(),
-                    savedBooking.getTotalAmount()
-            );
-            notificationServiceClient.sendBookingConfirmation(
-                    user.getId(),
-                    user.getEmail(),
-                    savedBooking.getBookingReference(),
-                    message
-            ).subscribe();
-        } catch (Exception e) {
-            log.warn("Failed to send notification: {}", e.getMessage());
-        }
+        bookingAssembler.sendCreationNotification(user, savedBooking);
 
-        return mapToDTO(savedBooking);
+        return bookingAssembler.mapToDTO(savedBooking);
+    }
+
+    static int passengersOf(CreateBookingRequest request) {
+        return request.getNumberOfPassengers() != null ? request.getNumberOfPassengers() : 1;
+    }
+
+    static int roomsOf(CreateBookingRequest request) {
+        return request.getNumberOfRooms() != null ? request.getNumberOfRooms() : 1;
+    }
+
+    // Stay dates are only sent for pricing when they form a valid stay; otherwise the one-night fallback applies
+    static LocalDate checkInOf(CreateBookingRequest request) {
+        return hasValidStay(request) ? request.getCheckInDate() : null;
+    }
+
+    static LocalDate checkOutOf(CreateBookingRequest request) {
+        return hasValidStay(request) ? request.getCheckOutDate() : null;
+    }
+
+    private static boolean hasValidStay(CreateBookingRequest request) {
+        return request.getCheckInDate() != null && request.getCheckOutDate() != null
+                && request.getCheckOutDate().isAfter(request.getCheckInDate());
     }
 
     public BookingDTO confirmBooking(Long bookingId) {
@@ -178,6 +155,7 @@ public class BookingService {
 
         booking.setStatus(BookingStatus.CONFIRMED);
         Booking confirmedBooking = bookingRepository.save(booking);
+        recentBookingsCache.evict(confirmedBooking.getUserId());
 
         try {
             UserDTO user = userServiceClient.getUserById(booking.getUserId()).block();
@@ -198,7 +176,7 @@ public class BookingService {
             log.warn("Failed to send confirmation notification: {}", e.getMessage());
         }
 
-        return mapToDTO(confirmedBooking);
+        return bookingAssembler.mapToDTO(confirmedBooking);
     }
 
     public BookingDTO cancelBooking(Long bookingId) {
@@ -217,19 +195,20 @@ public class BookingService {
 
         try {
             if (booking.getFlightId() != null) {
-                flightServiceClient.releaseSeats(booking.getFlightId(), 
-                        booking.getNumberOfPassengers() != null ? booking.getNumberOfPassengers() : 1);
+                int seats = booking.getNumberOfPassengers() != null ? booking.getNumberOfPassengers() : 1;
+                serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.releaseSeats(booking.getFlightId(), seats));
             }
             if (booking.getHotelId() != null) {
-                hotelServiceClient.releaseRooms(booking.getHotelId(), 
-                        booking.getNumberOfRooms() != null ? booking.getNumberOfRooms() : 1);
+                int rooms = booking.getNumberOfRooms() != null ? booking.getNumberOfRooms() : 1;
+                serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.releaseRooms(booking.getHotelId(), rooms));
             }
-        } catch (FeignException e) {
+        } catch (FeignException | ServiceUnavailableException e) {
             log.error("Error releasing resources: {}", e.getMessage());
         }
 
         booking.setStatus(BookingStatus.CANCELLED);
         Booking cancelledBooking = bookingRepository.save(booking);
+        recentBookingsCache.evict(cancelledBooking.getUserId());
 
         try {
             UserDTO user = userServiceClient.getUserById(booking.getUserId()).block();
@@ -250,7 +229,7 @@ public class BookingService {
             log.warn("Failed to send cancellation notification: {}", e.getMessage());
         }
 
-        return mapToDTO(cancelledBooking);
+        return bookingAssembler.mapToDTO(cancelledBooking);
     }
 
     @Transactional(readOnly = true)
@@ -258,7 +237,7 @@ public class BookingService {
         log.info("Fetching booking with id: {}", id);
         Booking booking = bookingRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with id: " + id));
-        return mapToDTO(booking);
+        return bookingAssembler.mapToDTO(booking);
     }
 
     @Transactional(readOnly = true)
@@ -266,22 +245,23 @@ public class BookingService {
         log.info("Fetching booking with reference: {}", reference);
         Booking booking = bookingRepository.findByBookingReference(reference)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found with reference: " + reference));
-        return mapToDTO(booking);
+        return bookingAssembler.mapToDTO(booking);
     }
 
     @Transactional(readOnly = true)
     public List<BookingDTO> getAllBookings() {
         log.info("Fetching all bookings");
         return bookingRepository.findAll().stream()
-                .map(this::mapToDTO)
+                .map(bookingAssembler::mapToDTO)
                 .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
     public List<BookingDTO> getBookingsByUserId(Long userId) {
         log.info("Fetching bookings for user: {}", userId);
+        // Flight and hotel details come from the denormalized summaries, so this is one local query
         return bookingRepository.findByUserIdOrderByCreatedAtDesc(userId).stream()
-                .map(this::mapToDTO)
+                .map(bookingAssembler::mapToDTO)
                 .collect(Collectors.toList());
     }
 
@@ -289,7 +269,7 @@ public class BookingService {
     public List<BookingDTO> getBookingsByStatus(BookingStatus status) {
         log.info("Fetching bookings with status: {}", status);
         return bookingRepository.findByStatus(status).stream()
-                .map(this::mapToDTO)
+                .map(bookingAssembler::mapToDTO)
                 .collect(Collectors.toList());
     }
 
@@ -301,29 +281,8 @@ public class BookingService {
         booking.setPaymentId(paymentId);
         booking.setStatus(BookingStatus.CONFIRMED);
         Booking updatedBooking = bookingRepository.save(booking);
+        recentBookingsCache.evict(updatedBooking.getUserId());
         
-        return mapToDTO(updatedBooking);
-    }
-
-    private BookingDTO mapToDTO(Booking booking) {
-        return BookingDTO.builder()
-                .id(booking.getId())
-                .userId(booking.getUserId())
-                .flightId(booking.getFlightId())
-                .hotelId(booking.getHotelId())
-                .numberOfPassengers(booking.getNumberOfPassengers())
-                .numberOfRooms(booking.getNumberOfRooms())
-                .checkInDate(booking.getCheckInDate())
-                .checkOutDate(booking.getCheckOutDate())
-                .totalAmount(booking.getTotalAmount())
-                .flightCost(booking.getFlightCost())
-                .hotelCost(booking.getHotelCost())
-                .status(booking.getStatus())
-                .paymentId(booking.getPaymentId())
-                .bookingReference(booking.getBookingReference())
-                .specialRequests(booking.getSpecialRequests())
-                .createdAt(booking.getCreatedAt())
-                .updatedAt(booking.getUpdatedAt())
-                .build();
+        return bookingAssembler.mapToDTO(updatedBooking);
     }
 }
@@ -0,0 +1,191 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightChangeDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelChangeDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FlightSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.HotelSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestFlightSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestHotelSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.LatestFlightSummaryRepository;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.LatestHotelSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Applies flight and hotel change-feed entries to the summaries denormalized onto bookings.
+ * Only the latest change per flight or hotel in a batch is applied, with one UPDATE each.
+ * <p>
+ * A new booking takes its summaries before it commits, and the feed's UPDATE cannot see
+ * bookings that have not committed yet, so a change applied in between would be lost. The two
+ * are ordered through the flight's {@link LatestFlightSummary} and the hotel's
+ * {@link LatestHotelSummary} row: the feed upserts it before updating bookings, and a new
+ * booking locks it FOR SHARE just before committing and adopts its values. Either the booking
+ * commits first and the feed's UPDATE covers it, or the feed commits first and the booking
+ * takes what the feed wrote. Bookings lock flight rows before hotel rows, each in id order.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class BookingSummaryService {
+
+    private static final Set<String> FLIGHT_CHANGE_TYPES = Set.of("UPDATED", "STATUS_CHANGED");
+    private static final Set<String> HOTEL_CHANGE_TYPES = Set.of("UPDATED");
+
+    private final BookingRepository bookingRepository;
+    private final LatestFlightSummaryRepository latestFlightSummaryRepository;
+    private final LatestHotelSummaryRepository latestHotelSummaryRepository;
+
+    public void applyFlightChanges(List<FlightChangeDTO> changes) {
+        // In flight id order, the same order in which new bookings lock the rows
+        Map<Long, FlightChangeDTO> latest = new TreeMap<>();
+        for (FlightChangeDTO change : changes) {
+            // Entries written before the feed carried route details would blank the summary
+            if (FLIGHT_CHANGE_TYPES.contains(change.getChangeType()) && change.getOrigin() != null) {
+                latest.put(change.getFlightId(), change);
+            }
+        }
+
+        int refreshed = 0;
+        for (FlightChangeDTO change : latest.values()) {
+            latestFlightSummaryRepository.upsert(change.getFlightId(), change.getFlightNumber(), change.getAirline(),
+                    change.getOrigin(), change.getDestination(), change.getDepartureTime(), change.getArrivalTime(),
+                    change.getStatus());
+            refreshed += bookingRepository.refreshFlightSummary(change.getFlightId(), change.getFlightNumber(),
+                    change.getAirline(), change.getOrigin(), change.getDestination(),
+                    change.getDepartureTime(), change.getArrivalTime(), change.getStatus());
+        }
+        if (refreshed > 0) {
+            log.debug("Refreshed flight summaries of {} bookings for {} flights", refreshed, latest.size());
+        }
+    }
+
+    public void applyHotelChanges(List<HotelChangeDTO> changes) {
+        // In hotel id order, the same order in which new bookings lock the rows
+        Map<Long, HotelChangeDTO> latest = new TreeMap<>();
+        for (HotelChangeDTO change : changes) {
+            if (HOTEL_CHANGE_TYPES.contains(change.getChangeType())) {
+                latest.put(change.getHotelId(), change);
+            }
+        }
+
+        int refreshed = 0;
+        for (HotelChangeDTO change : latest.values()) {
+            latestHotelSummaryRepository.upsert(change.getHotelId(), change.getHotelName(), change.getCity());
+            refreshed += bookingRepository.refreshHotelSummary(change.getHotelId(), change.getHotelName(), change.getCity());
+        }
+        if (refreshed > 0) {
+            log.debug("Refreshed hotel summaries of {} bookings for {} hotels", refreshed, latest.size());
+        }
+    }
+
+    /**
+     * Brings the flight and hotel summaries of bookings saved in the current transaction in
+     * line with the feeds right before the transaction commits, see the class comment.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reconcileSummariesOnCommit(List<Booking> bookings) {
+        Map<Long, List<Booking>> byFlight = new TreeMap<>();
+        Map<Long, List<Booking>> byHotel = new TreeMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getFlightId() != null && booking.getFlightSummary() != null) {
+                byFlight.computeIfAbsent(booking.getFlightId(), id -> new ArrayList<>()).add(booking);
+            }
+            if (booking.getHotelId() != null && booking.getHotelSummary() != null) {
+                byHotel.computeIfAbsent(booking.getHotelId(), id -> new ArrayList<>()).add(booking);
+            }
+        }
+        if (byFlight.isEmpty() && byHotel.isEmpty()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                byFlight.forEach((flightId, flightBookings) -> adoptLatestFlight(flightId, flightBookings));
+                byHotel.forEach((hotelId, hotelBookings) -> adoptLatestHotel(hotelId, hotelBookings));
+            }
+        });
+    }
+
+    /**
+     * Fills in the summary of bookings on the flight that have none, e.g. because they were
+     * made before summaries existed.
+     */
+    public int backfillFlightSummary(FlightDTO flight) {
+        FlightSummary current = BookingAssembler.flightSummaryOf(flight);
+        insertIfAbsent(flight.getId(), current);
+        FlightSummary latest = latestFlightSummaryRepository.lockShared(flight.getId()).orElseThrow().getSummary();
+        return bookingRepository.fillFlightSummary(flight.getId(), latest.getFlightNumber(), latest.getAirline(),
+                latest.getOrigin(), latest.getDestination(), latest.getDepartureTime(), latest.getArrivalTime(),
+                latest.getStatus());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findFlightsWithoutSummary(int limit) {
+        return bookingRepository.findFlightIdsWithoutSummary(PageRequest.of(0, limit));
+    }
+
+    /**
+     * Fills in the summary of bookings on the hotel that have none, e.g. because they were
+     * made before summaries existed.
+     */
+    public int backfillHotelSummary(HotelDTO hotel) {
+        latestHotelSummaryRepository.insertIfAbsent(hotel.getId(), hotel.getName(), hotel.getCity());
+        LatestHotelSummary latest = latestHotelSummaryRepository.lockShared(hotel.getId()).orElseThrow();
+        return bookingRepository.fillHotelSummary(hotel.getId(), latest.getName(), latest.getCity());
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findHotelsWithoutSummary(int limit) {
+        return bookingRepository.findHotelIdsWithoutSummary(PageRequest.of(0, limit));
+    }
+
+    private void adoptLatestFlight(Long flightId, List<Booking> bookings) {
+        insertIfAbsent(flightId, bookings.get(0).getFlightSummary());
+        latestFlightSummaryRepository.lockShared(flightId).map(LatestFlightSummary::getSummary).ifPresent(latest -> {
+            for (Booking booking : bookings) {
+                if (!latest.equals(booking.getFlightSummary())) {
+                    booking.setFlightSummary(new FlightSummary(latest.getFlightNumber(), latest.getAirline(),
+                            latest.getOrigin(), latest.getDestination(), latest.getDepartureTime(),
+                            latest.getArrivalTime(), latest.getStatus()));
+                }
+            }
+        });
+    }
+
+    private void insertIfAbsent(Long flightId, FlightSummary summary) {
+        latestFlightSummaryRepository.insertIfAbsent(flightId, summary.getFlightNumber(), summary.getAirline(),
+                summary.getOrigin(), summary.getDestination(), summary.getDepartureTime(), summary.getArrivalTime(),
+                summary.getStatus());
+    }
+
+    private void adoptLatestHotel(Long hotelId, List<Booking> bookings) {
+        HotelSummary taken = bookings.get(0).getHotelSummary();
+        latestHotelSummaryRepository.insertIfAbsent(hotelId, taken.getName(), taken.getCity());
+        latestHotelSummaryRepository.lockShared(hotelId).ifPresent(latest -> {
+            for (Booking booking : bookings) {
+                HotelSummary summary = booking.getHotelSummary();
+                if (!Objects.equals(latest.getName(), summary.getName()) || !Objects.equals(latest.getCity(), summary.getCity())) {
+                    booking.setHotelSummary(new HotelSummary(latest.getName(), latest.getCity()));
+                }
+            }
+        });
+    }
+}
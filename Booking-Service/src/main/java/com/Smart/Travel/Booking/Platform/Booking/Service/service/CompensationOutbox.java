@@ -0,0 +1,183 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.HotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.PendingCompensationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.FLIGHT_SERVICE;
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.HOTEL_SERVICE;
+
+/**
+ * Outbox of compensating calls: seats or rooms to give back and payments to refund. An entry
+ * is written in the same transaction as the change that needs it, so it exists exactly when
+ * that change commits, and is then retried with exponential backoff until the call succeeds.
+ * After {@code max-attempts} failures the entry is parked (no next attempt) and counted in
+ * {@code booking.compensation.parked}; setting next_attempt_at puts it back in the queue.
+ * Due entries are row-locked while they are retried, so instances never retry the same one
+ * concurrently. A call that succeeds but whose entry fails to delete is repeated; refunds are
+ * idempotent in the Payment Service. Refunds due together for the same reason, such as the
+ * payments of one cancelled flight, go out as one bulk call.
+ */
+@Service
+@Slf4j
+public class CompensationOutbox {
+
+    private final PendingCompensationRepository compensationRepository;
+    private final FlightServiceClient flightServiceClient;
+    private final HotelServiceClient hotelServiceClient;
+    private final PaymentServiceClient paymentServiceClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final TransactionTemplate retryTransaction;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+
+    private final Counter completed;
+    private final Counter parked;
+
+    public CompensationOutbox(
+            PendingCompensationRepository compensationRepository,
+            FlightServiceClient flightServiceClient,
+            HotelServiceClient hotelServiceClient,
+            PaymentServiceClient paymentServiceClient,
+            ServiceCallGuard serviceCallGuard,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${booking.compensation.batch-size:100}") int batchSize,
+            @Value("${booking.compensation.max-attempts:10}") int maxAttempts,
+            @Value("${booking.compensation.initial-backoff-ms:1000}") long initialBackoffMs,
+            @Value("${booking.compensation.max-backoff-ms:600000}") long maxBackoffMs) {
+        this.compensationRepository = compensationRepository;
+        this.flightServiceClient = flightServiceClient;
+        this.hotelServiceClient = hotelServiceClient;
+        this.paymentServiceClient = paymentServiceClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+
+        this.retryTransaction = new TransactionTemplate(transactionManager);
+        this.retryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.completed = Counter.builder("booking.compensation.completed")
+                .description("Compensating calls that succeeded from the outbox")
+                .register(meterRegistry);
+        this.parked = Counter.builder("booking.compensation.parked")
+                .description("Compensating calls given up on after max-attempts failures")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a compensating call in the caller's transaction; it is first attempted on the
+     * next {@link #retryDue()}.
+     */
+    @Transactional
+    public void enqueue(Action action, Long targetId, Integer quantity, String reason) {
+        compensationRepository.save(PendingCompensation.builder()
+                .action(action)
+                .targetId(targetId)
+                .quantity(quantity)
+                .reason(reason)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Queues a compensating call in a transaction of its own, for callers whose transaction
+     * has rolled back or is about to.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueDetached(Action action, Long targetId, Integer quantity, String reason) {
+        enqueue(action, targetId, quantity, reason);
+    }
+
+    /**
+     * Attempts every entry that is due, a batch per transaction. Returns the number attempted.
+     */
+    @Scheduled(fixedDelayString = "${booking.compensation.retry-interval-ms:10000}")
+    public int retryDue() {
+        int attempted = 0;
+        Integer batch;
+        do {
+            batch = retryTransaction.execute(status -> retryBatch());
+            attempted += batch != null ? batch : 0;
+        } while (batch != null && batch == batchSize);
+        return attempted;
+    }
+
+    private int retryBatch() {
+        List<PendingCompensation> due = compensationRepository.lockDue(LocalDateTime.now(), batchSize);
+        Map<String, List<PendingCompensation>> refundsByReason = new LinkedHashMap<>();
+        for (PendingCompensation compensation : due) {
+            if (compensation.getAction() == Action.REFUND_PAYMENT) {
+                refundsByReason.computeIfAbsent(compensation.getReason(), reason -> new ArrayList<>()).add(compensation);
+            } else {
+                attempt(List.of(compensation), () -> release(compensation));
+            }
+        }
+        refundsByReason.forEach((reason, refunds) -> attempt(refunds, () -> paymentServiceClient.refundPayments(
+                refunds.stream().map(PendingCompensation::getTargetId).toList(), reason).block()));
+        return due.size();
+    }
+
+    // Entries of one call succeed or fail together
+    private void attempt(List<PendingCompensation> compensations, Runnable call) {
+        try {
+            call.run();
+            compensationRepository.deleteAll(compensations);
+            completed.increment(compensations.size());
+        } catch (RuntimeException e) {
+            compensations.forEach(compensation -> recordFailure(compensation, e));
+        }
+    }
+
+    private void release(PendingCompensation compensation) {
+        Long targetId = compensation.getTargetId();
+        Integer quantity = compensation.getQuantity();
+        if (compensation.getAction() == Action.RELEASE_SEATS) {
+            serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.releaseSeats(targetId, quantity));
+        } else {
+            serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.releaseRooms(targetId, quantity));
+        }
+    }
+
+    private void recordFailure(PendingCompensation compensation, RuntimeException e) {
+        int attempts = compensation.getAttempts() + 1;
+        compensation.setAttempts(attempts);
+        String error = String.valueOf(e.getMessage());
+        compensation.setLastError(error.length() > 500 ? error.substring(0, 500) : error);
+        if (attempts >= maxAttempts) {
+            compensation.setNextAttemptAt(null);
+            parked.increment();
+            log.error("Parked {} of {} for {} after {} failed attempts: {}", compensation.getAction(),
+                    compensation.getQuantity(), compensation.getTargetId(), attempts, error);
+        } else {
+            long backoffMs = Math.min(maxBackoffMs, initialBackoffMs << Math.min(attempts - 1, 30));
+            compensation.setNextAttemptAt(LocalDateTime.now().plusNanos(backoffMs * 1_000_000));
+            log.warn("{} for {} failed (attempt {}), retrying in {} ms: {}", compensation.getAction(),
+                    compensation.getTargetId(), attempts, backoffMs, error);
+        }
+        compensationRepository.save(compensation);
+    }
+}
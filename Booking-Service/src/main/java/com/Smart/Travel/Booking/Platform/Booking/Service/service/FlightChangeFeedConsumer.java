@@ -0,0 +1,171 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveFlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightChangeDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightChangeFeedResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FeedOffset;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.FeedOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.FLIGHT_CHANGE_FEED;
+
+/**
+ * Follows the Flight Service change feed: flights that became CANCELLED or DELAYED are handed
+ * to {@link FlightDisruptionService}, and flight updates are copied into the bookings' flight
+ * summaries. Only one instance consumes at a time, the one holding the lease on the consumer's
+ * offset row. The long-poll and the disruption chunks run outside any transaction; only the
+ * summary updates and the offset advance commit together, and only while the lease is still
+ * held. A failed batch is therefore retried as a whole; cancellations and refunds are
+ * idempotent, delay notifications may be sent twice. Bookings that have no flight summary are
+ * backfilled from the Flight Service on a schedule, like in {@link HotelChangeFeedConsumer}.
+ */
+@Component
+@Slf4j
+public class FlightChangeFeedConsumer {
+
+    private static final String CONSUMER = "booking-flight-disruptions";
+    private static final Set<String> DISRUPTED_STATUSES = Set.of("CANCELLED", "DELAYED");
+
+    private final WebClient webClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final ReactiveFlightServiceClient flightServiceClient;
+    private final FlightDisruptionService flightDisruptionService;
+    private final BookingSummaryService bookingSummaryService;
+    private final FeedOffsetRepository feedOffsetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final int batchSize;
+    private final long waitMs;
+    private final long leaseMs;
+
+    public FlightChangeFeedConsumer(
+            @Qualifier("flightServiceWebClient") WebClient webClient,
+            ServiceCallGuard serviceCallGuard,
+            ReactiveFlightServiceClient flightServiceClient,
+            FlightDisruptionService flightDisruptionService,
+            BookingSummaryService bookingSummaryService,
+            FeedOffsetRepository feedOffsetRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking.change-feed.enabled:true}") boolean enabled,
+            @Value("${booking.change-feed.batch-size:200}") int batchSize,
+            @Value("${booking.change-feed.wait-ms:2000}") long waitMs,
+            @Value("${booking.change-feed.lease-ms:30000}") long leaseMs) {
+        this.webClient = webClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.flightServiceClient = flightServiceClient;
+        this.flightDisruptionService = flightDisruptionService;
+        this.bookingSummaryService = bookingSummaryService;
+        this.feedOffsetRepository = feedOffsetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.waitMs = waitMs;
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.change-feed.poll-delay-ms:1000}")
+    public void consume() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            consumeBatch();
+        } catch (RuntimeException e) {
+            log.error("Flight change feed batch failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${booking.change-feed.backfill-delay-ms:60000}",
+            fixedDelayString = "${booking.change-feed.backfill-interval-ms:600000}")
+    public void backfillSummaries() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> flightIds = bookingSummaryService.findFlightsWithoutSummary(batchSize);
+        int filled = 0;
+        for (Long flightId : flightIds) {
+            try {
+                FlightDTO flight = flightServiceClient.getFlightById(flightId).block();
+                if (flight != null) {
+                    Integer bookings = transactionTemplate.execute(status -> bookingSummaryService.backfillFlightSummary(flight));
+                    filled += bookings != null ? bookings : 0;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not backfill flight summaries for flight {}: {}", flightId, e.getMessage());
+            }
+        }
+        if (filled > 0) {
+            log.info("Backfilled flight summaries of {} bookings for {} flights", filled, flightIds.size());
+        }
+    }
+
+    private void consumeBatch() {
+        Long after = transactionTemplate.execute(status -> acquireLease());
+        if (after == null) {
+            // Another instance is the active consumer
+            return;
+        }
+
+        FlightChangeFeedResponse response = serviceCallGuard.guardLongPoll(FLIGHT_CHANGE_FEED, webClient.get()
+                        .uri(uri -> uri.path("/api/flights/changes")
+                                .queryParam("after", after)
+                                .queryParam("limit", batchSize)
+                                .queryParam("waitMs", waitMs)
+                                .build())
+                        .retrieve()
+                        .bodyToMono(FlightChangeFeedResponse.class))
+                .block();
+        if (response == null || response.getChanges() == null || response.getChanges().isEmpty()) {
+            return;
+        }
+        if (response.getOldestOffset() != null && after < response.getOldestOffset() - 1) {
+            log.warn("Flight change feed resumed at {} but the oldest retained change is {}; purged changes were missed",
+                    after, response.getOldestOffset());
+        }
+
+        for (FlightChangeDTO change : response.getChanges()) {
+            if ("STATUS_CHANGED".equals(change.getChangeType()) && DISRUPTED_STATUSES.contains(change.getStatus())) {
+                renewLease();
+                flightDisruptionService.handle(change.getFlightId(), change.getFlightNumber(), change.getStatus());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingSummaryService.applyFlightChanges(response.getChanges());
+            if (feedOffsetRepository.advance(CONSUMER, owner, after, response.getNextOffset()) == 0) {
+                // Rolls back the summary updates; the new lease holder applies them again
+                throw new BookingException("Lease on " + CONSUMER + " was lost before offset " + response.getNextOffset());
+            }
+        });
+    }
+
+    private Long acquireLease() {
+        feedOffsetRepository.createIfAbsent(CONSUMER);
+        if (feedOffsetRepository.acquireLease(CONSUMER, owner, leaseMs) == 0) {
+            return null;
+        }
+        return feedOffsetRepository.findById(CONSUMER).map(FeedOffset::getLastOffset).orElse(null);
+    }
+
+    // A large cancellation can take a while; stop before handling it if the lease has passed on
+    private void renewLease() {
+        Integer renewed = transactionTemplate.execute(status -> feedOffsetRepository.acquireLease(CONSUMER, owner, leaseMs));
+        if (renewed == null || renewed == 0) {
+            throw new BookingException("Lease on " + CONSUMER + " was lost");
+        }
+    }
+}
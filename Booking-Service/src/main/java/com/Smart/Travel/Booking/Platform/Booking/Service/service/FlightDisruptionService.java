@@ -0,0 +1,238 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDisruptionResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.FLIGHT_SERVICE;
+
+/**
+ * Fans a flight cancellation or delay out to the bookings on that flight. Cancellations run
+ * in chunks, each in its own transaction: the chunk's bookings are row-locked and marked
+ * CANCELLED, and their refunds (one per payment) and room releases (one per hotel) are queued
+ * in the {@link CompensationOutbox}. No remote call is made while the rows are locked. Once
+ * the chunk has committed the outbox attempts the queued calls, sending the chunk's refunds
+ * as bulk calls, followed by one bulk notification per chunk. A failing refund is retried by
+ * the outbox and cannot hold up the rest of the flight (the Payment Service skips payments
+ * already refunded). Delays only notify.
+ */
+@Service
+@Slf4j
+public class FlightDisruptionService {
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    private final BookingRepository bookingRepository;
+    private final FlightServiceClient flightServiceClient;
+    private final NotificationServiceClient notificationServiceClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final RecentBookingsCache recentBookingsCache;
+    private final CompensationOutbox compensationOutbox;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    private final Counter cancelledBookings;
+    private final Counter notifiedUsers;
+    private final Counter failures;
+
+    public FlightDisruptionService(
+            BookingRepository bookingRepository,
+            FlightServiceClient flightServiceClient,
+            NotificationServiceClient notificationServiceClient,
+            ServiceCallGuard serviceCallGuard,
+            RecentBookingsCache recentBookingsCache,
+            CompensationOutbox compensationOutbox,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${booking.disruption.chunk-size:500}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.flightServiceClient = flightServiceClient;
+        this.notificationServiceClient = notificationServiceClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.recentBookingsCache = recentBookingsCache;
+        this.compensationOutbox = compensationOutbox;
+        this.chunkSize = chunkSize;
+
+        // Each chunk commits on its own, also when called from within the feed consumer's transaction
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.cancelledBookings = Counter.builder("booking.disruption.cancelled")
+                .description("Bookings cancelled because their flight was cancelled")
+                .register(meterRegistry);
+        this.notifiedUsers = Counter.builder("booking.disruption.notified")
+                .description("Users notified about a cancelled or delayed flight")
+                .register(meterRegistry);
+        this.failures = Counter.builder("booking.disruption.failures")
+                .description("Failed chunks or notification calls during disruption handling")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Handles the flight's current status as reported by the Flight Service.
+     */
+    public FlightDisruptionResult handleFlight(Long flightId) {
+        FlightDTO flight = serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.getFlightById(flightId));
+        return handle(flightId, flight.getFlightNumber(), flight.getStatus());
+    }
+
+    public FlightDisruptionResult handle(Long flightId, String flightNumber, String flightStatus) {
+        log.info("Handling {} flight {} ({})", flightStatus, flightNumber, flightId);
+        if ("CANCELLED".equals(flightStatus)) {
+            return cancelBookings(flightId, flightNumber);
+        }
+        if ("DELAYED".equals(flightStatus)) {
+            return notifyDelay(flightId, flightNumber);
+        }
+        throw new BookingException("Flight " + flightNumber + " is " + flightStatus
+                + "; only CANCELLED and DELAYED flights affect bookings");
+    }
+
+    private FlightDisruptionResult cancelBookings(Long flightId, String flightNumber) {
+        long started = System.currentTimeMillis();
+        String reason = "Flight " + flightNumber + " cancelled";
+        String message = String.format("Flight %s has been cancelled by the airline. Your booking has been "
+                + "cancelled and any payment made for it will be refunded in full.", flightNumber);
+        Set<Long> notified = new HashSet<>();
+        int affected = 0;
+        int refunds = 0;
+        int chunks = 0;
+
+        while (true) {
+            CancelledChunk chunk;
+            try {
+                chunk = chunkTransaction.execute(status -> cancelChunk(flightId, reason));
+            } catch (RuntimeException e) {
+                failures.increment();
+                log.error("Cancelling bookings for flight {} stopped after {} bookings: {}",
+                        flightId, affected, e.getMessage());
+                throw e;
+            }
+            if (chunk == null || chunk.bookings().isEmpty()) {
+                break;
+            }
+            chunks++;
+            affected += chunk.bookings().size();
+            refunds += chunk.refunds();
+
+            compensationOutbox.retryDue();
+            notifyUsers(chunk.bookings(), notified, "BOOKING_CANCELLATION", reason, message);
+        }
+
+        log.info("Cancelled {} bookings on flight {} in {} chunks ({} payments queued for refund, {} users notified)",
+                affected, flightId, chunks, refunds, notified.size());
+        return result(flightId, flightNumber, "CANCELLED", affected, refunds, notified.size(), chunks, started);
+    }
+
+    private CancelledChunk cancelChunk(Long flightId, String reason) {
+        List<Booking> bookings = bookingRepository.lockActiveByFlightId(flightId, chunkSize);
+        if (bookings.isEmpty()) {
+            return new CancelledChunk(bookings, 0);
+        }
+
+        List<Long> paymentIds = bookings.stream()
+                .map(Booking::getPaymentId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
+        bookings.forEach(booking -> booking.setStatus(BookingStatus.CANCELLED));
+        bookingRepository.saveAll(bookings);
+        paymentIds.forEach(paymentId -> compensationOutbox.enqueue(Action.REFUND_PAYMENT, paymentId, null, reason));
+        roomsByHotel(bookings).forEach((hotelId, rooms) ->
+                compensationOutbox.enqueue(Action.RELEASE_ROOMS, hotelId, rooms, reason));
+        recentBookingsCache.evictAll(bookings.stream().map(Booking::getUserId).distinct().toList());
+        cancelledBookings.increment(bookings.size());
+        return new CancelledChunk(bookings, paymentIds.size());
+    }
+
+    private static Map<Long, Integer> roomsByHotel(List<Booking> bookings) {
+        Map<Long, Integer> roomsByHotel = new TreeMap<>();
+        for (Booking booking : bookings) {
+            if (booking.getHotelId() != null) {
+                int rooms = booking.getNumberOfRooms() != null ? booking.getNumberOfRooms() : 1;
+                roomsByHotel.merge(booking.getHotelId(), rooms, Integer::sum);
+            }
+        }
+        return roomsByHotel;
+    }
+
+    private FlightDisruptionResult notifyDelay(Long flightId, String flightNumber) {
+        long started = System.currentTimeMillis();
+        String subject = "Flight " + flightNumber + " delayed";
+        String message = String.format("Flight %s has been delayed. Please check the updated departure time "
+                + "before travelling.", flightNumber);
+        Set<Long> notified = new HashSet<>();
+        int affected = 0;
+        int chunks = 0;
+
+        long afterId = 0;
+        List<Booking> bookings;
+        while (!(bookings = bookingRepository.findByFlightIdAfter(
+                flightId, ACTIVE_STATUSES, afterId, PageRequest.of(0, chunkSize))).isEmpty()) {
+            chunks++;
+            affected += bookings.size();
+            afterId = bookings.get(bookings.size() - 1).getId();
+            notifyUsers(bookings, notified, "SYSTEM", subject, message);
+        }
+
+        log.info("Notified {} users about delayed flight {} ({} bookings)", notified.size(), flightId, affected);
+        return result(flightId, flightNumber, "DELAYED", affected, 0, notified.size(), chunks, started);
+    }
+
+    // Notifications are best-effort; users already notified during this run are skipped
+    private void notifyUsers(List<Booking> bookings, Set<Long> notified, String type, String subject, String message) {
+        List<Long> userIds = bookings.stream()
+                .map(Booking::getUserId)
+                .filter(notified::add)
+                .toList();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            notificationServiceClient.sendBulkNotification(userIds, type, subject, message).block();
+            notifiedUsers.increment(userIds.size());
+        } catch (RuntimeException e) {
+            failures.increment();
+            log.warn("Failed to notify {} users about flight disruption: {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    private FlightDisruptionResult result(Long flightId, String flightNumber, String flightStatus,
+                                          int affected, int refunds, int notified, int chunks, long started) {
+        return FlightDisruptionResult.builder()
+                .flightId(flightId)
+                .flightNumber(flightNumber)
+                .flightStatus(flightStatus)
+                .affectedBookings(affected)
+                .refundedPayments(refunds)
+                .notifiedUsers(notified)
+                .chunks(chunks)
+                .durationMs(System.currentTimeMillis() - started)
+                .build();
+    }
+
+    private record CancelledChunk(List<Booking> bookings, int refunds) {
+    }
+}
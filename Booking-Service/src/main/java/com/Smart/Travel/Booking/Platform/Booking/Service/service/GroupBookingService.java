@@ -0,0 +1,326 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.HotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.*;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingResult.Outcome;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingResult.TravellerResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.FLIGHT_SERVICE;
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.HOTEL_SERVICE;
+
+/**
+ * Books a group of travellers onto the same flight and/or hotel with one call per dependency:
+ * users are validated in one batch lookup, the flight and hotel are priced for the combined
+ * seat and room counts, the combined seats and rooms are reserved with one atomic decrement
+ * each, and the bookings are inserted as a JDBC batch. Unknown or inactive users are rejected
+ * individually; inventory is all-or-nothing for the rest of the group.
+ * <p>
+ * Inventory is reserved before the bookings are inserted. Each reservation registers its
+ * release for when the transaction does not commit; a release that fails is queued in the
+ * {@link CompensationOutbox} and retried. The group's confirmation is sent after commit.
+ */
+@Service
+@Slf4j
+@Transactional
+public class GroupBookingService {
+
+    private final BookingRepository bookingRepository;
+    private final BookingAssembler bookingAssembler;
+    private final FlightServiceClient flightServiceClient;
+    private final HotelServiceClient hotelServiceClient;
+    private final UserServiceClient userServiceClient;
+    private final NotificationServiceClient notificationServiceClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final RecentBookingsCache recentBookingsCache;
+    private final BookingSummaryService bookingSummaryService;
+    private final CompensationOutbox compensationOutbox;
+    private final int maxTravellers;
+
+    public GroupBookingService(
+            BookingRepository bookingRepository,
+            BookingAssembler bookingAssembler,
+            FlightServiceClient flightServiceClient,
+            HotelServiceClient hotelServiceClient,
+            UserServiceClient userServiceClient,
+            NotificationServiceClient notificationServiceClient,
+            ServiceCallGuard serviceCallGuard,
+            RecentBookingsCache recentBookingsCache,
+            BookingSummaryService bookingSummaryService,
+            CompensationOutbox compensationOutbox,
+            @Value("${booking.group.max-travellers:500}") int maxTravellers) {
+        this.bookingRepository = bookingRepository;
+        this.bookingAssembler = bookingAssembler;
+        this.flightServiceClient = flightServiceClient;
+        this.hotelServiceClient = hotelServiceClient;
+        this.userServiceClient = userServiceClient;
+        this.notificationServiceClient = notificationServiceClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.recentBookingsCache = recentBookingsCache;
+        this.bookingSummaryService = bookingSummaryService;
+        this.compensationOutbox = compensationOutbox;
+        this.maxTravellers = maxTravellers;
+    }
+
+    public GroupBookingResult createGroupBooking(GroupBookingRequest request) {
+        List<GroupBookingRequest.Traveller> travellers = request.getTravellers();
+        log.info("Creating group booking for {} travellers", travellers.size());
+
+        if (request.getFlightId() == null && request.getHotelId() == null) {
+            throw new BookingException("A group booking needs a flight or a hotel");
+        }
+        if (travellers.size() > maxTravellers) {
+            throw new BookingException("At most " + maxTravellers + " travellers can be booked per group, got " + travellers.size());
+        }
+
+        Map<Long, UserDTO> activeUsers = fetchActiveUsers(travellers);
+
+        // Per-traveller outcome in request order; null until the traveller is booked
+        TravellerResult[] results = new TravellerResult[travellers.size()];
+        List<Integer> accepted = new ArrayList<>();
+        Set<Long> seenUsers = new HashSet<>();
+        for (int i = 0; i < travellers.size(); i++) {
+            Long userId = travellers.get(i).getUserId();
+            if (!seenUsers.add(userId)) {
+                results[i] = rejected(userId, "Traveller appears more than once in the group");
+            } else if (!activeUsers.containsKey(userId)) {
+                results[i] = rejected(userId, "User is not valid or inactive");
+            } else {
+                accepted.add(i);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return summarize(results);
+        }
+
+        List<CreateBookingRequest> bookingRequests = accepted.stream()
+                .map(i -> toBookingRequest(request, travellers.get(i)))
+                .toList();
+        int totalSeats = bookingRequests.stream().mapToInt(BookingService::passengersOf).sum();
+        int totalRooms = bookingRequests.stream().mapToInt(BookingService::roomsOf).sum();
+
+        Priced<FlightDTO> seat = request.getFlightId() != null ? priceSeat(request, totalSeats) : null;
+        Priced<HotelDTO> room = request.getHotelId() != null ? priceRoom(request, totalRooms) : null;
+        List<BigDecimal> flightCosts = seat != null
+                ? split(seat.total(), bookingRequests.stream().map(BookingService::passengersOf).toList())
+                : null;
+        List<BigDecimal> hotelCosts = room != null
+                ? split(room.total(), bookingRequests.stream().map(BookingService::roomsOf).toList())
+                : null;
+
+        reserve(request, totalSeats, totalRooms);
+
+        List<Booking> bookings = new ArrayList<>(bookingRequests.size());
+        for (int j = 0; j < bookingRequests.size(); j++) {
+            bookings.add(bookingAssembler.newPendingBooking(bookingRequests.get(j),
+                    seat != null ? seat.resource() : null, room != null ? room.resource() : null,
+                    flightCosts != null ? flightCosts.get(j) : BigDecimal.ZERO,
+                    hotelCosts != null ? hotelCosts.get(j) : BigDecimal.ZERO));
+        }
+        List<Booking> savedBookings = bookingRepository.saveAll(bookings);
+        bookingSummaryService.reconcileSummariesOnCommit(savedBookings);
+
+        List<Long> bookedUsers = new ArrayList<>(savedBookings.size());
+        for (int j = 0; j < accepted.size(); j++) {
+            Booking booking = savedBookings.get(j);
+            bookedUsers.add(booking.getUserId());
+            results[accepted.get(j)] = TravellerResult.builder()
+                    .userId(booking.getUserId())
+                    .outcome(Outcome.BOOKED)
+                    .booking(bookingAssembler.mapToDTO(booking))
+                    .build();
+        }
+        recentBookingsCache.evictAll(bookedUsers);
+        log.info("Group booking created: {} of {} travellers booked", savedBookings.size(), travellers.size());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notificationServiceClient.sendBulkNotification(bookedUsers, "BOOKING_CONFIRMATION", "Group Booking Created",
+                                "Your booking as part of a group of " + bookedUsers.size() + " travellers has been created.")
+                        .onErrorResume(e -> Mono.empty())
+                        .subscribe();
+            }
+        });
+
+        return summarize(results);
+    }
+
+    /**
+     * Splits a total over bookings in proportion to their units, rounding each share down to
+     * the cent. The remaining cents go to the first booking, so the shares add up to the total.
+     */
+    static List<BigDecimal> split(BigDecimal total, List<Integer> units) {
+        int totalUnits = units.stream().mapToInt(Integer::intValue).sum();
+        BigDecimal unitPrice = total.divide(BigDecimal.valueOf(totalUnits), 2, RoundingMode.DOWN);
+        List<BigDecimal> shares = new ArrayList<>(units.size());
+        BigDecimal allocated = BigDecimal.ZERO;
+        for (Integer unitCount : units) {
+            BigDecimal share = unitPrice.multiply(BigDecimal.valueOf(unitCount));
+            shares.add(share);
+            allocated = allocated.add(share);
+        }
+        shares.set(0, shares.get(0).add(total.subtract(allocated)));
+        return shares;
+    }
+
+    private Map<Long, UserDTO> fetchActiveUsers(List<GroupBookingRequest.Traveller> travellers) {
+        Set<Long> userIds = new HashSet<>();
+        travellers.forEach(traveller -> userIds.add(traveller.getUserId()));
+        Map<Long, UserDTO> users = userServiceClient.getActiveUsers(userIds)
+                .onErrorMap(e -> !(e instanceof ServiceUnavailableException),
+                        e -> new ServiceUnavailableException("User Service is unavailable", e))
+                .block();
+        return users != null ? users : Map.of();
+    }
+
+    // The flight is priced once for the whole group and the fare split per seat
+    private Priced<FlightDTO> priceSeat(GroupBookingRequest request, int totalSeats) {
+        CreateBookingRequest groupRequest = CreateBookingRequest.builder()
+                .flightId(request.getFlightId())
+                .numberOfPassengers(totalSeats)
+                .build();
+        try {
+            FlightAvailabilityResponse availability = serviceCallGuard.call(FLIGHT_SERVICE,
+                    () -> flightServiceClient.checkAvailability(request.getFlightId(), totalSeats));
+            if (!availability.isAvailable()) {
+                throw new BookingException("Flight not available for " + totalSeats + " seats: " + availability.getMessage());
+            }
+            FlightDTO flight = serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.getFlightById(request.getFlightId()));
+            return new Priced<>(flight, bookingAssembler.calculateFlightCost(flight, availability, groupRequest));
+        } catch (FeignException e) {
+            log.error("Error communicating with Flight Service: {}", e.getMessage());
+            throw new ServiceUnavailableException("Flight Service is unavailable");
+        }
+    }
+
+    // The stay is priced once for all rooms and split per room
+    private Priced<HotelDTO> priceRoom(GroupBookingRequest request, int totalRooms) {
+        CreateBookingRequest groupRequest = CreateBookingRequest.builder()
+                .hotelId(request.getHotelId())
+                .numberOfRooms(totalRooms)
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .build();
+        try {
+            HotelAvailabilityResponse availability = serviceCallGuard.call(HOTEL_SERVICE,
+                    () -> hotelServiceClient.checkAvailability(request.getHotelId(), totalRooms,
+                            BookingService.checkInOf(groupRequest), BookingService.checkOutOf(groupRequest)));
+            if (!availability.isAvailable()) {
+                throw new BookingException("Hotel not available for " + totalRooms + " rooms: " + availability.getMessage());
+            }
+            HotelDTO hotel = serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.getHotelById(request.getHotelId()));
+            return new Priced<>(hotel, bookingAssembler.calculateHotelCost(hotel, availability, groupRequest));
+        } catch (FeignException e) {
+            log.error("Error communicating with Hotel Service: {}", e.getMessage());
+            throw new ServiceUnavailableException("Hotel Service is unavailable");
+        }
+    }
+
+    // One atomic decrement per dependency, each given back if the transaction does not commit
+    private void reserve(GroupBookingRequest request, int totalSeats, int totalRooms) {
+        try {
+            if (request.getFlightId() != null) {
+                serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.bookSeats(request.getFlightId(), totalSeats));
+                releaseOnRollback(Action.RELEASE_SEATS, request.getFlightId(), totalSeats);
+            }
+            if (request.getHotelId() != null) {
+                serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.bookRooms(request.getHotelId(), totalRooms));
+                releaseOnRollback(Action.RELEASE_ROOMS, request.getHotelId(), totalRooms);
+            }
+        } catch (FeignException | ServiceUnavailableException e) {
+            log.error("Error booking resources for group: {}", e.getMessage());
+            // Rolls back, which releases what was already reserved
+            throw new BookingException("Failed to book resources: " + e.getMessage());
+        }
+    }
+
+    private void releaseOnRollback(Action action, Long targetId, int quantity) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(action, targetId, quantity);
+                } else if (status == STATUS_UNKNOWN) {
+                    log.error("Group booking outcome is unknown; not releasing {} of {} for {}", quantity, action, targetId);
+                }
+            }
+        });
+    }
+
+    private void release(Action action, Long targetId, int quantity) {
+        try {
+            if (action == Action.RELEASE_SEATS) {
+                serviceCallGuard.call(FLIGHT_SERVICE, () -> flightServiceClient.releaseSeats(targetId, quantity));
+            } else {
+                serviceCallGuard.call(HOTEL_SERVICE, () -> hotelServiceClient.releaseRooms(targetId, quantity));
+            }
+        } catch (RuntimeException e) {
+            log.error("Error giving back {} for {} after a failed group booking, queueing it: {}", quantity, targetId, e.getMessage());
+            compensationOutbox.enqueueDetached(action, targetId, quantity, "Group booking rolled back");
+        }
+    }
+
+    private static CreateBookingRequest toBookingRequest(GroupBookingRequest request, GroupBookingRequest.Traveller traveller) {
+        return CreateBookingRequest.builder()
+                .userId(traveller.getUserId())
+                .flightId(request.getFlightId())
+                .hotelId(request.getHotelId())
+                .numberOfPassengers(request.getFlightId() != null ? traveller.getNumberOfPassengers() : null)
+                .numberOfRooms(request.getHotelId() != null ? traveller.getNumberOfRooms() : null)
+                .checkInDate(request.getCheckInDate())
+                .checkOutDate(request.getCheckOutDate())
+                .specialRequests(traveller.getSpecialRequests())
+                .build();
+    }
+
+    private static TravellerResult rejected(Long userId, String message) {
+        return TravellerResult.builder()
+                .userId(userId)
+                .outcome(Outcome.REJECTED)
+                .message(message)
+                .build();
+    }
+
+    private static GroupBookingResult summarize(TravellerResult[] results) {
+        int booked = 0;
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (TravellerResult result : results) {
+            if (result.getOutcome() == Outcome.BOOKED) {
+                booked++;
+                totalAmount = totalAmount.add(result.getBooking().getTotalAmount());
+            }
+        }
+        return GroupBookingResult.builder()
+                .travellers(results.length)
+                .booked(booked)
+                .rejected(results.length - booked)
+                .totalAmount(totalAmount)
+                .results(List.of(results))
+                .build();
+    }
+
+    private record Priced<T>(T resource, BigDecimal total) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveHotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelChangeFeedResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FeedOffset;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.FeedOffsetRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.HOTEL_CHANGE_FEED;
+
+/**
+ * Follows the Hotel Service change feed and copies hotel updates into the bookings' hotel
+ * summaries. Like {@link FlightChangeFeedConsumer}, one instance consumes at a time under a
+ * lease, the long-poll runs outside any transaction and the offset is advanced in the same
+ * transaction as the summary updates. Bookings that have no hotel summary, e.g. because they
+ * were made before summaries existed, are backfilled from the Hotel Service on a schedule.
+ */
+@Component
+@Slf4j
+public class HotelChangeFeedConsumer {
+
+    private static final String CONSUMER = "booking-hotel-summaries";
+
+    private final WebClient webClient;
+    private final ServiceCallGuard serviceCallGuard;
+    private final ReactiveHotelServiceClient hotelServiceClient;
+    private final BookingSummaryService bookingSummaryService;
+    private final FeedOffsetRepository feedOffsetRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    private final boolean enabled;
+    private final int batchSize;
+    private final long waitMs;
+    private final long leaseMs;
+
+    public HotelChangeFeedConsumer(
+            @Qualifier("hotelServiceWebClient") WebClient webClient,
+            ServiceCallGuard serviceCallGuard,
+            ReactiveHotelServiceClient hotelServiceClient,
+            BookingSummaryService bookingSummaryService,
+            FeedOffsetRepository feedOffsetRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${booking.change-feed.enabled:true}") boolean enabled,
+            @Value("${booking.change-feed.batch-size:200}") int batchSize,
+            @Value("${booking.change-feed.wait-ms:2000}") long waitMs,
+            @Value("${booking.change-feed.lease-ms:30000}") long leaseMs) {
+        this.webClient = webClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.hotelServiceClient = hotelServiceClient;
+        this.bookingSummaryService = bookingSummaryService;
+        this.feedOffsetRepository = feedOffsetRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.waitMs = waitMs;
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.change-feed.poll-delay-ms:1000}")
+    public void consume() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            consumeBatch();
+        } catch (RuntimeException e) {
+            log.error("Hotel change feed batch failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${booking.change-feed.backfill-delay-ms:60000}",
+            fixedDelayString = "${booking.change-feed.backfill-interval-ms:600000}")
+    public void backfillSummaries() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> hotelIds = bookingSummaryService.findHotelsWithoutSummary(batchSize);
+        int filled = 0;
+        for (Long hotelId : hotelIds) {
+            try {
+                HotelDTO hotel = hotelServiceClient.getHotelById(hotelId).block();
+                if (hotel != null) {
+                    Integer bookings = transactionTemplate.execute(status -> bookingSummaryService.backfillHotelSummary(hotel));
+                    filled += bookings != null ? bookings : 0;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Could not backfill hotel summaries for hotel {}: {}", hotelId, e.getMessage());
+            }
+        }
+        if (filled > 0) {
+            log.info("Backfilled hotel summaries of {} bookings for {} hotels", filled, hotelIds.size());
+        }
+    }
+
+    private void consumeBatch() {
+        Long after = transactionTemplate.execute(status -> acquireLease());
+        if (after == null) {
+            // Another instance is the active consumer
+            return;
+        }
+
+        HotelChangeFeedResponse response = serviceCallGuard.guardLongPoll(HOTEL_CHANGE_FEED, webClient.get()
+                        .uri(uri -> uri.path("/api/hotels/changes")
+                                .queryParam("after", after)
+                                .queryParam("limit", batchSize)
+                                .queryParam("waitMs", waitMs)
+                                .build())
+                        .retrieve()
+                        .bodyToMono(HotelChangeFeedResponse.class))
+                .block();
+        if (response == null || response.getChanges() == null || response.getChanges().isEmpty()) {
+            return;
+        }
+        if (response.getOldestOffset() != null && after < response.getOldestOffset() - 1) {
+            log.warn("Hotel change feed resumed at {} but the oldest retained change is {}; purged changes were missed",
+                    after, response.getOldestOffset());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            bookingSummaryService.applyHotelChanges(response.getChanges());
+            if (feedOffsetRepository.advance(CONSUMER, owner, after, response.getNextOffset()) == 0) {
+                // Rolls back the summary updates; the new lease holder applies them again
+                throw new BookingException("Lease on " + CONSUMER + " was lost before offset " + response.getNextOffset());
+            }
+        });
+    }
+
+    private Long acquireLease() {
+        feedOffsetRepository.createIfAbsent(CONSUMER);
+        if (feedOffsetRepository.acquireLease(CONSUMER, owner, leaseMs) == 0) {
+            return null;
+        }
+        return feedOffsetRepository.findById(CONSUMER).map(FeedOffset::getLastOffset).orElse(null);
+    }
+}
@@ -1,34 +1,54 @@
 package com.Smart.Travel.Booking.Platform.Booking.Service.service;
 
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BulkNotificationRequest;
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.NotificationRequest;
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.NotificationResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.NOTIFICATION_SERVICE;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${services.notification.url}")
-    private String notificationServiceUrl;
+    private final WebClient notificationServiceWebClient;
+    private final ServiceCallGuard serviceCallGuard;
 
     public Mono<NotificationResponse> sendNotification(NotificationRequest request) {
         log.info("Sending notification to user: {}", request.getUserId());
-        return webClientBuilder.build()
-                .post()
-                .uri(notificationServiceUrl + "/api/notifications")
-                .bodyValue(request)
-                .retrieve()
-                .bodyToMono(NotificationResponse.class)
+        return serviceCallGuard.guard(NOTIFICATION_SERVICE, notificationServiceWebClient.post()
+                        .uri("/api/notifications")
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(NotificationResponse.class))
                 .doOnSuccess(response -> log.info("Notification sent successfully: {}", response.getId()))
-                .doOnError(error -> log.error("Error sending notification: {}", error.getMessage()));
+                .doOnError(error -> log.error("Error sending notification: {}", error.getMessage()))
+                // Notifications are best-effort: drop them rather than fail the booking flow
+                .onErrorResume(error -> Mono.empty());
+    }
+
+    public Mono<Void> sendBulkNotification(List<Long> userIds, String type, String subject, String message) {
+        log.info("Sending {} notification to {} users", type, userIds.size());
+        BulkNotificationRequest request = BulkNotificationRequest.builder()
+                .userIds(userIds)
+                .type(type)
+                .subject(subject)
+                .message(message)
+                .build();
+        return serviceCallGuard.guard(NOTIFICATION_SERVICE, notificationServiceWebClient.post()
+                        .uri("/api/notifications/bulk")
+                        .bodyValue(request)
+                        .retrieve()
+                        .toBodilessEntity())
+                .doOnError(error -> log.error("Error sending bulk notification: {}", error.getMessage()))
+                .then();
     }
 
     public Mono<NotificationResponse> sendBookingConfirmation(Long userId, String userEmail, 
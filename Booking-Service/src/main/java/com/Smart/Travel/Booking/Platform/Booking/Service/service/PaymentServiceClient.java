@@ -0,0 +1,39 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BulkRefundRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BulkRefundResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.PAYMENT_SERVICE;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentServiceClient {
+
+    private final WebClient paymentServiceWebClient;
+    private final ServiceCallGuard serviceCallGuard;
+
+    // The Payment Service skips payments that are not COMPLETED, so retrying a batch is safe
+    public Mono<BulkRefundResult> refundPayments(List<Long> paymentIds, String reason) {
+        log.info("Requesting refund of {} payments", paymentIds.size());
+        BulkRefundRequest request = BulkRefundRequest.builder()
+                .paymentIds(paymentIds)
+                .reason(reason)
+                .build();
+        return serviceCallGuard.guard(PAYMENT_SERVICE, paymentServiceWebClient.post()
+                        .uri("/api/payments/refunds/bulk")
+                        .bodyValue(request)
+                        .retrieve()
+                        .bodyToMono(BulkRefundResult.class))
+                .doOnSuccess(result -> log.info("Refunded {} of {} payments",
+                        result.getRefundedPaymentIds().size(), result.getRequested()))
+                .doOnError(error -> log.error("Error refunding payments: {}", error.getMessage()));
+    }
+}
@@ -0,0 +1,159 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveFlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveHotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.CreateBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClientException;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking booking creation. User lookup, flight and hotel availability and pricing
+ * run concurrently and are joined with {@code Mono.zip}; only the JPA writes are moved
+ * off the event loop onto the bounded elastic scheduler. Pricing, building and mapping go
+ * through the non-transactional {@link BookingAssembler}, so nothing on the event loop opens
+ * a transaction.
+ * <p>
+ * Seats and rooms are reserved concurrently and both calls run to completion. When either
+ * fails, the booking is marked failed and the reservation that did succeed is queued for
+ * release in the {@link CompensationOutbox}, in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveBookingService {
+
+    private final BookingRepository bookingRepository;
+    private final ReactiveFlightServiceClient flightServiceClient;
+    private final ReactiveHotelServiceClient hotelServiceClient;
+    private final UserServiceClient userServiceClient;
+    private final BookingAssembler bookingAssembler;
+    private final RecentBookingsCache recentBookingsCache;
+    private final BookingSummaryService bookingSummaryService;
+    private final CompensationOutbox compensationOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    public Mono<BookingDTO> createBooking(CreateBookingRequest request) {
+        log.info("Creating booking (reactive) for user: {}", request.getUserId());
+
+        Mono<UserDTO> user = userServiceClient.getActiveUser(request.getUserId())
+                .onErrorResume(e -> Mono.empty())
+                .switchIfEmpty(Mono.error(() -> new BookingException(
+                        "User validation failed. User ID: " + request.getUserId() + " is not valid or inactive")));
+
+        return Mono.zip(user, flightCost(request), hotelCost(request))
+                .flatMap(tuple -> {
+                    Booking booking = bookingAssembler.newPendingBooking(request,
+                            tuple.getT2().resource(), tuple.getT3().resource(), tuple.getT2().cost(), tuple.getT3().cost());
+                    return save(booking)
+                            .doOnNext(saved -> log.info("Booking created with reference: {}", saved.getBookingReference()))
+                            .flatMap(saved -> reserveResources(saved, request))
+                            .doOnNext(saved -> bookingAssembler.sendCreationNotification(tuple.getT1(), saved));
+                })
+                .map(bookingAssembler::mapToDTO);
+    }
+
+    private Mono<Priced<FlightDTO>> flightCost(CreateBookingRequest request) {
+        if (request.getFlightId() == null) {
+            return Mono.just(new Priced<>(null, BigDecimal.ZERO));
+        }
+        int passengers = BookingService.passengersOf(request);
+        return Mono.zip(
+                        flightServiceClient.checkAvailability(request.getFlightId(), passengers),
+                        flightServiceClient.getFlightById(request.getFlightId()))
+                .flatMap(tuple -> tuple.getT1().isAvailable()
+                        ? Mono.just(new Priced<>(tuple.getT2(), bookingAssembler.calculateFlightCost(tuple.getT2(), tuple.getT1(), request)))
+                        : Mono.error(new BookingException("Flight not available: " + tuple.getT1().getMessage())))
+                .onErrorMap(WebClientException.class, e -> {
+                    log.error("Error communicating with Flight Service: {}", e.getMessage());
+                    return new ServiceUnavailableException("Flight Service is unavailable", e);
+                });
+    }
+
+    private Mono<Priced<HotelDTO>> hotelCost(CreateBookingRequest request) {
+        if (request.getHotelId() == null) {
+            return Mono.just(new Priced<>(null, BigDecimal.ZERO));
+        }
+        int rooms = BookingService.roomsOf(request);
+        return Mono.zip(
+                        hotelServiceClient.checkAvailability(request.getHotelId(), rooms,
+                                BookingService.checkInOf(request), BookingService.checkOutOf(request)),
+                        hotelServiceClient.getHotelById(request.getHotelId()))
+                .flatMap(tuple -> tuple.getT1().isAvailable()
+                        ? Mono.just(new Priced<>(tuple.getT2(), bookingAssembler.calculateHotelCost(tuple.getT2(), tuple.getT1(), request)))
+                        : Mono.error(new BookingException("Hotel not available: " + tuple.getT1().getMessage())))
+                .onErrorMap(WebClientException.class, e -> {
+                    log.error("Error communicating with Hotel Service: {}", e.getMessage());
+                    return new ServiceUnavailableException("Hotel Service is unavailable", e);
+                });
+    }
+
+    private Mono<Booking> reserveResources(Booking booking, CreateBookingRequest request) {
+        int passengers = BookingService.passengersOf(request);
+        int rooms = BookingService.roomsOf(request);
+        AtomicBoolean seatsReserved = new AtomicBoolean();
+        AtomicBoolean roomsReserved = new AtomicBoolean();
+        Mono<?> seatReservation = request.getFlightId() != null
+                ? flightServiceClient.bookSeats(request.getFlightId(), passengers).doOnSuccess(flight -> seatsReserved.set(true))
+                : Mono.empty();
+        Mono<?> roomReservation = request.getHotelId() != null
+                ? hotelServiceClient.bookRooms(request.getHotelId(), rooms).doOnSuccess(hotel -> roomsReserved.set(true))
+                : Mono.empty();
+
+        // Delaying the error lets the other reservation finish, so we know whether it has to be released
+        return Mono.whenDelayError(seatReservation, roomReservation)
+                .thenReturn(booking)
+                .onErrorResume(e -> {
+                    String error = Exceptions.unwrapMultiple(e).get(0).getMessage();
+                    log.error("Error booking resources for booking {}: {}", booking.getBookingReference(), error);
+                    booking.setStatus(BookingStatus.FAILED);
+                    String reason = "Booking " + booking.getBookingReference() + " failed: " + error;
+                    return save(booking, seatsReserved.get() ? passengers : 0, roomsReserved.get() ? rooms : 0, reason)
+                            .then(Mono.error(new BookingException("Failed to book resources: " + error)));
+                });
+    }
+
+    private Mono<Booking> save(Booking booking) {
+        return save(booking, 0, 0, null);
+    }
+
+    // Saves the booking and queues the release of what was reserved for it in the same transaction
+    private Mono<Booking> save(Booking booking, int seatsToRelease, int roomsToRelease, String reason) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> {
+                    Booking saved = bookingRepository.save(booking);
+                    bookingSummaryService.reconcileSummariesOnCommit(List.of(saved));
+                    if (seatsToRelease > 0) {
+                        compensationOutbox.enqueue(Action.RELEASE_SEATS, saved.getFlightId(), seatsToRelease, reason);
+                    }
+                    if (roomsToRelease > 0) {
+                        compensationOutbox.enqueue(Action.RELEASE_ROOMS, saved.getHotelId(), roomsToRelease, reason);
+                    }
+                    return saved;
+                }))
+                .doOnNext(saved -> recentBookingsCache.evict(saved.getUserId()))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    // The flight or hotel as fetched for pricing, kept for the booking's denormalized summary
+    private record Priced<T>(T resource, BigDecimal cost) {
+    }
+}
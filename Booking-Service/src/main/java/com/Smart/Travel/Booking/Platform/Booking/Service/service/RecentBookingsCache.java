@@ -0,0 +1,91 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Optional per-user cache of the first, unfiltered page of a user's booking history. Entries
+ * are evicted once the transaction that changed one of the user's bookings commits; flight
+ * and hotel summary refreshes do not evict and show up when the entry expires.
+ * <p>
+ * The cache is local to each instance and evictions are not shared, so only enable it on a
+ * single instance or behind routing that keeps each user on one instance. Otherwise a user
+ * who books through one instance sees their old history from the others for up to the ttl.
+ */
+@Component
+@Slf4j
+public class RecentBookingsCache {
+
+    private final boolean enabled;
+    private final int pageSize;
+    private final Cache<Long, List<BookingDTO>> cache;
+
+    public RecentBookingsCache(
+            MeterRegistry meterRegistry,
+            @Value("${booking.history.cache.enabled:false}") boolean enabled,
+            @Value("${booking.history.default-page-size:20}") int pageSize,
+            @Value("${booking.history.cache.max-size:10000}") long maxSize,
+            @Value("${booking.history.cache.ttl-seconds:30}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.pageSize = pageSize;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "booking.history.cache");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // Largest first page served from the cache
+    public int pageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the user's newest bookings, at least one more than {@link #pageSize()} when the
+     * user has that many, loading them on a miss.
+     */
+    public List<BookingDTO> get(Long userId, Function<Long, List<BookingDTO>> loader) {
+        return cache.get(userId, loader);
+    }
+
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    public void evictAll(Collection<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidateAll(userIds);
+            return;
+        }
+        // Evicting before commit would let a concurrent read cache the old page again
+        List<Long> pending = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidateAll(pending);
+            }
+        });
+    }
+}
@@ -0,0 +1,113 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.timelimiter.TimeLimiterOperator;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Isolates each downstream service behind its own circuit breaker and bulkhead (and, for
+ * reactive calls, time limiter), configured under {@code resilience4j.*} by dependency name.
+ * A slow or failing dependency then only consumes its own bulkhead permits and is failed
+ * fast with a {@link ServiceUnavailableException} once its breaker opens.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ServiceCallGuard {
+
+    public static final String FLIGHT_SERVICE = "flight-service";
+    public static final String HOTEL_SERVICE = "hotel-service";
+    public static final String USER_SERVICE = "user-service";
+    public static final String NOTIFICATION_SERVICE = "notification-service";
+    public static final String PAYMENT_SERVICE = "payment-service";
+    // Change feed long-polls, kept apart so that waiting polls do not count as slow flight or hotel calls
+    public static final String FLIGHT_CHANGE_FEED = "flight-change-feed";
+    public static final String HOTEL_CHANGE_FEED = "hotel-change-feed";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final AdaptiveTimeouts adaptiveTimeouts;
+
+    /**
+     * Runs a blocking call; its own timeout comes from the client (e.g. the Feign
+     * {@code readTimeout} of the dependency).
+     */
+    public <T> T call(String dependency, Supplier<T> call) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreakerRegistry.circuitBreaker(dependency),
+                Bulkhead.decorateSupplier(bulkheadRegistry.bulkhead(dependency), call));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException | BulkheadFullException e) {
+            throw rejected(dependency, e);
+        }
+    }
+
+    public void run(String dependency, Runnable call) {
+        call(dependency, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    /**
+     * Guards a reactive call. Besides the dependency's time limiter, which stays the upper
+     * bound, the call is cut off at the timeout {@link AdaptiveTimeouts} derives from the
+     * dependency's recent latency, so a dependency that slows down fails fast instead of
+     * holding bulkhead permits for the full static timeout. Calls cut off there are recorded
+     * too, so the timeout widens again when the dependency is slow for good.
+     */
+    public <T> Mono<T> guard(String dependency, Mono<T> call) {
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(dependency);
+        Mono<T> timed = Mono.defer(() -> {
+            long started = System.nanoTime();
+            Duration timeout = adaptiveTimeouts.timeoutFor(dependency, timeLimiter.getTimeLimiterConfig().getTimeoutDuration());
+            return call
+                    .timeout(timeout)
+                    .doOnSuccess(result -> adaptiveTimeouts.record(dependency, System.nanoTime() - started))
+                    .doOnError(TimeoutException.class, e -> adaptiveTimeouts.recordTimeout(dependency, timeout));
+        });
+        return protect(dependency, timed);
+    }
+
+    /**
+     * Guards a long-poll. Its latency is mostly the time the server waited for data, so it is
+     * neither recorded by nor cut off at the adaptive timeout; only the time limiter applies.
+     */
+    public <T> Mono<T> guardLongPoll(String dependency, Mono<T> call) {
+        return protect(dependency, call);
+    }
+
+    private <T> Mono<T> protect(String dependency, Mono<T> call) {
+        return call
+                .transformDeferred(TimeLimiterOperator.of(timeLimiterRegistry.timeLimiter(dependency)))
+                .transformDeferred(BulkheadOperator.of(bulkheadRegistry.bulkhead(dependency)))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreakerRegistry.circuitBreaker(dependency)))
+                .onErrorMap(e -> e instanceof CallNotPermittedException
+                                || e instanceof BulkheadFullException
+                                || e instanceof TimeoutException,
+                        e -> rejected(dependency, e));
+    }
+
+    private ServiceUnavailableException rejected(String dependency, Throwable cause) {
+        log.warn("Call to {} rejected: {}", dependency, cause.getMessage());
+        return new ServiceUnavailableException(dependency + " is unavailable", cause);
+    }
+}
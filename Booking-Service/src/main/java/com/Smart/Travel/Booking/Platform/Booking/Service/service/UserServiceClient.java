@@ -1,43 +1,114 @@
 package com.Smart.Travel.Booking.Platform.Booking.Service.service;
 
 import com.Smart.Travel.Booking.Platform.Booking.Service.dto.UserDTO;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+
+import static com.Smart.Travel.Booking.Platform.Booking.Service.service.ServiceCallGuard.USER_SERVICE;
+
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class UserServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
+    private final WebClient webClient;
+    private final ServiceCallGuard serviceCallGuard;
+
+    // Active users only; concurrent lookups for the same id share one in-flight remote call
+    private final AsyncCache<Long, UserDTO> userCache;
+
+    public UserServiceClient(
+            @Qualifier("userServiceWebClient") WebClient webClient,
+            ServiceCallGuard serviceCallGuard,
+            MeterRegistry meterRegistry,
+            @Value("${services.user.cache.max-size:10000}") long maxSize,
+            @Value("${services.user.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.webClient = webClient;
+        this.serviceCallGuard = serviceCallGuard;
+        this.userCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userCache.synchronous(), "booking.user.cache");
+        Gauge.builder("booking.user.cache.hit.ratio", userCache, c -> c.synchronous().stats().hitRate())
+                .description("Hit ratio of the local UserDTO cache")
+                .register(meterRegistry);
+    }
+
+    public Mono<UserDTO> getActiveUser(Long userId) {
+        return Mono.fromFuture(() -> userCache.get(userId, (id, executor) -> fetchActiveProfile(id).toFuture()));
+    }
 
-    @Value("${services.user.url}")
-    private String userServiceUrl;
+    public Mono<Map<Long, UserDTO>> getActiveUsers(Collection<Long> userIds) {
+        return Mono.fromFuture(() -> userCache.getAll(userIds, (ids, executor) -> fetchActiveProfiles(ids).toFuture()));
+    }
 
     public Mono<UserDTO> getUserById(Long userId) {
+        // Inactive users are not cached, fall back to the plain lookup for them
+        return getActiveUser(userId).switchIfEmpty(Mono.defer(() -> fetchUserById(userId)));
+    }
+
+    public Mono<Boolean> validateUser(Long userId) {
+        return getActiveUser(userId)
+                .map(user -> true)
+                .defaultIfEmpty(false)
+                .onErrorReturn(false);
+    }
+
+    public void invalidate(Long userId) {
+        log.info("Invalidating cached user: {}", userId);
+        userCache.synchronous().invalidate(userId);
+    }
+
+    public void invalidateAll() {
+        log.info("Invalidating all cached users");
+        userCache.synchronous().invalidateAll();
+    }
+
+    private Mono<UserDTO> fetchUserById(Long userId) {
         log.info("Fetching user with id: {} from User Service", userId);
-        return webClientBuilder.build()
-                .get()
-                .uri(userServiceUrl + "/api/users/{id}", userId)
-                .retrieve()
-                .bodyToMono(UserDTO.class)
+        return serviceCallGuard.guard(USER_SERVICE, webClient.get()
+                        .uri("/api/users/{id}", userId)
+                        .retrieve()
+                        .bodyToMono(UserDTO.class))
                 .doOnSuccess(user -> log.info("Successfully fetched user: {}", user.getEmail()))
                 .doOnError(error -> log.error("Error fetching user: {}", error.getMessage()));
     }
 
-    public Mono<Boolean> validateUser(Long userId) {
-        log.info("Validating user with id: {}", userId);
-        return webClientBuilder.build()
-                .get()
-                .uri(userServiceUrl + "/api/users/{id}/validate", userId)
-                .retrieve()
-                .bodyToMono(Boolean.class)
-                .doOnSuccess(isValid -> log.info("User validation result: {}", isValid))
-                .doOnError(error -> log.error("Error validating user: {}", error.getMessage()))
-                .onErrorReturn(false);
+    private Mono<UserDTO> fetchActiveProfile(Long userId) {
+        log.info("Fetching active profile for user with id: {} from User Service", userId);
+        return serviceCallGuard.guard(USER_SERVICE, webClient.get()
+                        .uri("/api/users/{id}/active-profile", userId)
+                        .retrieve()
+                        .bodyToMono(UserDTO.class)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()))
+                .doOnError(error -> log.error("Error fetching active user profile: {}", error.getMessage()));
+    }
+
+    private Mono<Map<Long, UserDTO>> fetchActiveProfiles(Set<? extends Long> userIds) {
+        log.info("Fetching active profiles for {} users from User Service", userIds.size());
+        return serviceCallGuard.guard(USER_SERVICE, webClient.post()
+                        .uri("/api/users/active-profiles")
+                        .bodyValue(Map.of("userIds", userIds))
+                        .retrieve()
+                        .bodyToFlux(UserDTO.class)
+                        .collectMap(UserDTO::getId))
+                .doOnError(error -> log.error("Error fetching active user profiles: {}", error.getMessage()));
     }
 }
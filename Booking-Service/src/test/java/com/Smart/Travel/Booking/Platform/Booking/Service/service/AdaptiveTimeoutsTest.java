@@ -0,0 +1,84 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveTimeoutsTest {
+
+	private static final Duration CEILING = Duration.ofSeconds(3);
+
+	private final AdaptiveTimeouts timeouts = new AdaptiveTimeouts(new SimpleMeterRegistry(), true, 0.9, 2.0, 50, 100, 10);
+
+	@Test
+	void ceilingAppliesUntilEnoughCallsWereSeen() {
+		record("flight-service", 9, 100);
+		assertThat(timeouts.timeoutFor("flight-service", CEILING)).isEqualTo(CEILING);
+
+		record("flight-service", 1, 100);
+		assertThat(timeouts.timeoutFor("flight-service", CEILING)).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void timeoutIsThePercentileTimesTheMultiplier() {
+		// 90th percentile of 1..100 ms is 90 ms
+		for (int ms = 1; ms <= 100; ms++) {
+			timeouts.record("hotel-service", Duration.ofMillis(ms).toNanos());
+		}
+		assertThat(timeouts.timeoutFor("hotel-service", CEILING)).isEqualTo(Duration.ofMillis(180));
+	}
+
+	@Test
+	void timeoutIsClampedBetweenFloorAndCeiling() {
+		record("user-service", 20, 1);
+		assertThat(timeouts.timeoutFor("user-service", CEILING)).isEqualTo(Duration.ofMillis(50));
+
+		record("payment-service", 20, 2_000);
+		assertThat(timeouts.timeoutFor("payment-service", CEILING)).isEqualTo(CEILING);
+	}
+
+	@Test
+	void windowForgetsOldLatencies() {
+		record("notification-service", 100, 1_000);
+		record("notification-service", 100, 10);
+		assertThat(timeouts.timeoutFor("notification-service", CEILING)).isEqualTo(Duration.ofMillis(50));
+	}
+
+	@Test
+	void timeoutsWidenTheTimeoutUpToTheCeiling() {
+		record("flight-service", 100, 100);
+		Duration timeout = timeouts.timeoutFor("flight-service", CEILING);
+		assertThat(timeout).isEqualTo(Duration.ofMillis(200));
+
+		// More than a tenth of the window runs into the timeout, so the 90th percentile reaches it
+		for (int i = 0; i < 10; i++) {
+			timeouts.recordTimeout("flight-service", timeout);
+		}
+		assertThat(timeouts.timeoutFor("flight-service", CEILING)).isEqualTo(timeout);
+		timeouts.recordTimeout("flight-service", timeout);
+		assertThat(timeouts.timeoutFor("flight-service", CEILING)).isEqualTo(Duration.ofMillis(400));
+
+		for (int i = 0; i < 40; i++) {
+			timeouts.recordTimeout("flight-service", timeouts.timeoutFor("flight-service", CEILING));
+		}
+		assertThat(timeouts.timeoutFor("flight-service", CEILING)).isEqualTo(CEILING);
+	}
+
+	@Test
+	void disabledTimeoutsAlwaysUseTheCeiling() {
+		AdaptiveTimeouts disabled = new AdaptiveTimeouts(new SimpleMeterRegistry(), false, 0.9, 2.0, 50, 100, 10);
+		for (int i = 0; i < 100; i++) {
+			disabled.record("flight-service", Duration.ofMillis(1).toNanos());
+		}
+		assertThat(disabled.timeoutFor("flight-service", CEILING)).isEqualTo(CEILING);
+	}
+
+	private void record(String dependency, int calls, long millis) {
+		for (int i = 0; i < calls; i++) {
+			timeouts.record(dependency, Duration.ofMillis(millis).toNanos());
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingHistoryPage;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import com.Smart.Travel.Booking.Platform.Booking.Service.service.BookingHistoryService.Cursor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookingHistoryServiceTest {
+
+	private static final long USER_ID = 3L;
+	private static final LocalDateTime NOON = LocalDateTime.of(2026, 3, 1, 12, 0);
+
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final BookingAssembler bookingAssembler = mock(BookingAssembler.class);
+	private final List<Booking> bookings = new ArrayList<>();
+	private final BookingHistoryService service = new BookingHistoryService(bookingRepository, bookingAssembler,
+			new RecentBookingsCache(new SimpleMeterRegistry(), false, 20, 100, 30), 20, 100);
+
+	@BeforeEach
+	void setUp() {
+		// Like the keyset queries: newest first, strictly after (createdAt, id)
+		when(bookingRepository.findByUserIdOrderByCreatedAtDescIdDesc(eq(USER_ID), any())).thenAnswer(invocation ->
+				newestFirst(bookings.stream(), invocation.getArgument(1)));
+		when(bookingRepository.findHistoryAfter(eq(USER_ID), any(LocalDateTime.class), any(Long.class), any()))
+				.thenAnswer(invocation -> {
+					LocalDateTime createdAt = invocation.getArgument(1);
+					Long id = invocation.getArgument(2);
+					return newestFirst(bookings.stream().filter(booking -> booking.getCreatedAt().isBefore(createdAt)
+							|| booking.getCreatedAt().isEqual(createdAt) && booking.getId() < id), invocation.getArgument(3));
+				});
+		when(bookingAssembler.mapToDTO(any())).thenAnswer(invocation -> {
+			Booking booking = invocation.getArgument(0);
+			return BookingDTO.builder().id(booking.getId()).createdAt(booking.getCreatedAt()).build();
+		});
+	}
+
+	@Test
+	void cursorRoundTrips() {
+		Cursor withNanos = new Cursor(LocalDateTime.of(2026, 3, 1, 12, 30, 15, 123_456_000), 42L);
+		// LocalDateTime.toString drops zero seconds
+		Cursor onTheMinute = new Cursor(NOON, 7L);
+
+		assertThat(Cursor.decode(withNanos.encode())).isEqualTo(withNanos);
+		assertThat(Cursor.decode(onTheMinute.encode())).isEqualTo(onTheMinute);
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThatThrownBy(() -> Cursor.decode("not base64!")).isInstanceOf(BookingException.class);
+		assertThatThrownBy(() -> Cursor.decode(new Cursor(NOON, 7L).encode().substring(2)))
+				.isInstanceOf(BookingException.class);
+		assertThatThrownBy(() -> service.getBookingHistory(USER_ID, null, "bm8tY29tbWE", 2))
+				.isInstanceOf(BookingException.class);
+	}
+
+	@Test
+	void pagesThroughBookingsCreatedAtTheSameInstant() {
+		for (long id = 1; id <= 5; id++) {
+			bookings.add(booking(id, NOON));
+		}
+		bookings.add(booking(6L, NOON.minusMinutes(1)));
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		BookingHistoryPage page;
+		do {
+			page = service.getBookingHistory(USER_ID, null, cursor, 2);
+			page.getBookings().forEach(booking -> seen.add(booking.getId()));
+			cursor = page.getNextCursor();
+		} while (page.isHasMore());
+
+		assertThat(seen).containsExactly(5L, 4L, 3L, 2L, 1L, 6L);
+	}
+
+	@Test
+	void pageThatHoldsTheLastBookingHasNoCursor() {
+		for (long id = 1; id <= 3; id++) {
+			bookings.add(booking(id, NOON.plusMinutes(id)));
+		}
+
+		BookingHistoryPage page = service.getBookingHistory(USER_ID, null, null, 3);
+
+		assertThat(page.getBookings()).hasSize(3);
+		assertThat(page.isHasMore()).isFalse();
+		assertThat(page.getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageWithBookingsLeftPointsAfterItsLastBooking() {
+		for (long id = 1; id <= 4; id++) {
+			bookings.add(booking(id, NOON.plusMinutes(id)));
+		}
+
+		BookingHistoryPage page = service.getBookingHistory(USER_ID, null, null, 3);
+
+		assertThat(page.getBookings()).extracting(BookingDTO::getId).containsExactly(4L, 3L, 2L);
+		assertThat(page.isHasMore()).isTrue();
+		assertThat(Cursor.decode(page.getNextCursor())).isEqualTo(new Cursor(NOON.plusMinutes(2), 2L));
+
+		BookingHistoryPage last = service.getBookingHistory(USER_ID, null, page.getNextCursor(), 3);
+		assertThat(last.getBookings()).extracting(BookingDTO::getId).containsExactly(1L);
+		assertThat(last.isHasMore()).isFalse();
+		assertThat(last.getNextCursor()).isNull();
+	}
+
+	@Test
+	void pageSizeOutsideTheLimitsIsRejected() {
+		assertThatThrownBy(() -> service.getBookingHistory(USER_ID, null, null, 0)).isInstanceOf(BookingException.class);
+		assertThatThrownBy(() -> service.getBookingHistory(USER_ID, null, null, 101)).isInstanceOf(BookingException.class);
+	}
+
+	private static List<Booking> newestFirst(Stream<Booking> bookings, Pageable pageable) {
+		return bookings
+				.sorted(Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId).reversed())
+				.limit(pageable.getPageSize())
+				.toList();
+	}
+
+	private static Booking booking(Long id, LocalDateTime createdAt) {
+		return Booking.builder()
+				.id(id)
+				.userId(USER_ID)
+				.createdAt(createdAt)
+				.build();
+	}
+}
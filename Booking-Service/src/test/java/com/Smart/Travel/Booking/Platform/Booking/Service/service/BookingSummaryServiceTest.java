@@ -0,0 +1,213 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightChangeDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelChangeDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.FlightSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.HotelSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestFlightSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.LatestHotelSummary;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.LatestFlightSummaryRepository;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.LatestHotelSummaryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class BookingSummaryServiceTest {
+
+	private static final LocalDateTime DEPARTURE = LocalDateTime.of(2030, 1, 7, 9, 0);
+	private static final LocalDateTime ARRIVAL = DEPARTURE.plusHours(3);
+
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final LatestFlightSummaryRepository latestFlightSummaryRepository = mock(LatestFlightSummaryRepository.class);
+	private final LatestHotelSummaryRepository latestHotelSummaryRepository = mock(LatestHotelSummaryRepository.class);
+	private final BookingSummaryService service = new BookingSummaryService(bookingRepository,
+			latestFlightSummaryRepository, latestHotelSummaryRepository);
+
+	@BeforeEach
+	void setUp() {
+		TransactionSynchronizationManager.initSynchronization();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void flightChangeUpdatesTheLatestSummaryBeforeTheBookings() {
+		service.applyFlightChanges(List.of(
+				flightChange(2L, "SCHEDULED"),
+				flightChange(1L, "SCHEDULED"),
+				flightChange(1L, "DELAYED")));
+
+		InOrder inOrder = inOrder(latestFlightSummaryRepository, bookingRepository);
+		inOrder.verify(latestFlightSummaryRepository).upsert(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "DELAYED");
+		inOrder.verify(bookingRepository).refreshFlightSummary(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "DELAYED");
+		inOrder.verify(latestFlightSummaryRepository).upsert(2L, "UL-2", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "SCHEDULED");
+		inOrder.verify(bookingRepository).refreshFlightSummary(2L, "UL-2", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "SCHEDULED");
+		verify(bookingRepository, never()).refreshFlightSummary(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "SCHEDULED");
+	}
+
+	@Test
+	void newBookingAdoptsTheFlightSummaryTheFeedWroteMeanwhile() {
+		Booking booking = Booking.builder().id(10L).flightId(1L).flightSummary(flightSummary(1L, "SCHEDULED")).build();
+		when(latestFlightSummaryRepository.lockShared(1L)).thenReturn(Optional.of(latestFlight(1L, "DELAYED")));
+
+		service.reconcileSummariesOnCommit(List.of(booking));
+		verifyNoInteractions(latestFlightSummaryRepository);
+
+		TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+		InOrder inOrder = inOrder(latestFlightSummaryRepository);
+		inOrder.verify(latestFlightSummaryRepository).insertIfAbsent(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "SCHEDULED");
+		inOrder.verify(latestFlightSummaryRepository).lockShared(1L);
+		assertThat(booking.getFlightSummary().getStatus()).isEqualTo("DELAYED");
+	}
+
+	@Test
+	void flightRowsAreLockedBeforeHotelRows() {
+		Booking booking = Booking.builder().id(10L)
+				.flightId(1L).flightSummary(flightSummary(1L, "SCHEDULED"))
+				.hotelId(1L).hotelSummary(new HotelSummary("Old Name", "Kandy"))
+				.build();
+		when(latestFlightSummaryRepository.lockShared(1L)).thenReturn(Optional.of(latestFlight(1L, "SCHEDULED")));
+		when(latestHotelSummaryRepository.lockShared(1L)).thenReturn(Optional.of(latest(1L, "Old Name")));
+
+		service.reconcileSummariesOnCommit(List.of(booking));
+		TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+		InOrder inOrder = inOrder(latestFlightSummaryRepository, latestHotelSummaryRepository);
+		inOrder.verify(latestFlightSummaryRepository).lockShared(1L);
+		inOrder.verify(latestHotelSummaryRepository).lockShared(1L);
+	}
+
+	@Test
+	void backfillFillsBookingsFromTheLatestFlightSummary() {
+		FlightDTO flight = FlightDTO.builder().id(1L).flightNumber("UL-1").airline("SriLankan").origin("CMB")
+				.destination("DXB").departureTime(DEPARTURE).arrivalTime(ARRIVAL).status("SCHEDULED").build();
+		// The feed reported a delay the Flight Service response predates
+		when(latestFlightSummaryRepository.lockShared(1L)).thenReturn(Optional.of(latestFlight(1L, "DELAYED")));
+		when(bookingRepository.fillFlightSummary(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "DELAYED"))
+				.thenReturn(4);
+
+		int filled = service.backfillFlightSummary(flight);
+
+		assertThat(filled).isEqualTo(4);
+		InOrder inOrder = inOrder(latestFlightSummaryRepository, bookingRepository);
+		inOrder.verify(latestFlightSummaryRepository).insertIfAbsent(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "SCHEDULED");
+		inOrder.verify(latestFlightSummaryRepository).lockShared(1L);
+		inOrder.verify(bookingRepository).fillFlightSummary(1L, "UL-1", "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, "DELAYED");
+	}
+
+	@Test
+	void hotelChangeUpdatesTheLatestSummaryBeforeTheBookings() {
+		service.applyHotelChanges(List.of(
+				change(2L, "Harbour Inn", "Galle"),
+				change(1L, "Old Name", "Kandy"),
+				change(1L, "New Name", "Kandy")));
+
+		InOrder inOrder = inOrder(latestHotelSummaryRepository, bookingRepository);
+		inOrder.verify(latestHotelSummaryRepository).upsert(1L, "New Name", "Kandy");
+		inOrder.verify(bookingRepository).refreshHotelSummary(1L, "New Name", "Kandy");
+		inOrder.verify(latestHotelSummaryRepository).upsert(2L, "Harbour Inn", "Galle");
+		inOrder.verify(bookingRepository).refreshHotelSummary(2L, "Harbour Inn", "Galle");
+		verify(bookingRepository, never()).refreshHotelSummary(1L, "Old Name", "Kandy");
+	}
+
+	@Test
+	void newBookingAdoptsTheSummaryTheFeedWroteMeanwhile() {
+		Booking booking = booking(1L, "Old Name");
+		when(latestHotelSummaryRepository.lockShared(1L)).thenReturn(Optional.of(latest(1L, "New Name")));
+
+		service.reconcileSummariesOnCommit(List.of(booking));
+		// Nothing is locked until the transaction is about to commit
+		verifyNoInteractions(latestHotelSummaryRepository);
+
+		TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+		InOrder inOrder = inOrder(latestHotelSummaryRepository);
+		inOrder.verify(latestHotelSummaryRepository).insertIfAbsent(1L, "Old Name", "Kandy");
+		inOrder.verify(latestHotelSummaryRepository).lockShared(1L);
+		assertThat(booking.getHotelSummary().getName()).isEqualTo("New Name");
+	}
+
+	@Test
+	void bookingWithoutHotelLocksNothing() {
+		Booking booking = Booking.builder().id(5L).flightId(3L).build();
+
+		service.reconcileSummariesOnCommit(List.of(booking));
+		TransactionSynchronizationUtils.triggerBeforeCommit(false);
+
+		verify(latestFlightSummaryRepository, never()).lockShared(anyLong());
+		verify(latestHotelSummaryRepository, never()).lockShared(anyLong());
+	}
+
+	private static FlightChangeDTO flightChange(Long flightId, String status) {
+		return FlightChangeDTO.builder()
+				.flightId(flightId)
+				.flightNumber("UL-" + flightId)
+				.airline("SriLankan")
+				.origin("CMB")
+				.destination("DXB")
+				.departureTime(DEPARTURE)
+				.arrivalTime(ARRIVAL)
+				.status(status)
+				.changeType("STATUS_CHANGED")
+				.build();
+	}
+
+	private static FlightSummary flightSummary(Long flightId, String status) {
+		return new FlightSummary("UL-" + flightId, "SriLankan", "CMB", "DXB", DEPARTURE, ARRIVAL, status);
+	}
+
+	private static LatestFlightSummary latestFlight(Long flightId, String status) {
+		return LatestFlightSummary.builder()
+				.flightId(flightId)
+				.summary(flightSummary(flightId, status))
+				.build();
+	}
+
+	private static HotelChangeDTO change(Long hotelId, String name, String city) {
+		return HotelChangeDTO.builder()
+				.hotelId(hotelId)
+				.hotelName(name)
+				.city(city)
+				.changeType("UPDATED")
+				.build();
+	}
+
+	private static Booking booking(Long hotelId, String hotelName) {
+		return Booking.builder()
+				.id(10L)
+				.hotelId(hotelId)
+				.hotelSummary(new HotelSummary(hotelName, "Kandy"))
+				.build();
+	}
+
+	private static LatestHotelSummary latest(Long hotelId, String name) {
+		return LatestHotelSummary.builder()
+				.hotelId(hotelId)
+				.name(name)
+				.city("Kandy")
+				.build();
+	}
+}
@@ -0,0 +1,99 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.HotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BulkRefundResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.PendingCompensationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CompensationOutboxTest {
+
+	private static final String CANCELLED = "Flight SB100 cancelled";
+
+	private final PendingCompensationRepository compensationRepository = mock(PendingCompensationRepository.class);
+	private final HotelServiceClient hotelServiceClient = mock(HotelServiceClient.class);
+	private final PaymentServiceClient paymentServiceClient = mock(PaymentServiceClient.class);
+	private final ServiceCallGuard serviceCallGuard = mock(ServiceCallGuard.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final CompensationOutbox outbox = new CompensationOutbox(compensationRepository,
+			mock(FlightServiceClient.class), hotelServiceClient, paymentServiceClient, serviceCallGuard,
+			transactionManager, new SimpleMeterRegistry(), 100, 10, 1000, 600000);
+
+	private final List<PendingCompensation> due = List.of(
+			refund(1L, CANCELLED),
+			refund(2L, CANCELLED),
+			refund(3L, CANCELLED),
+			refund(4L, "Booking BK1 cancelled"),
+			PendingCompensation.builder().action(Action.RELEASE_ROOMS).targetId(9L).quantity(2).reason(CANCELLED).build());
+
+	@BeforeEach
+	void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(compensationRepository.lockDue(any(), any(Integer.class))).thenReturn(due);
+		when(serviceCallGuard.call(anyString(), any())).thenAnswer(invocation -> {
+			Supplier<?> call = invocation.getArgument(1);
+			return call.get();
+		});
+	}
+
+	@Test
+	void refundsForOneReasonGoOutAsOneBulkCall() {
+		when(paymentServiceClient.refundPayments(anyList(), anyString())).thenAnswer(invocation -> {
+			List<Long> paymentIds = invocation.getArgument(0);
+			return Mono.just(new BulkRefundResult(paymentIds.size(), paymentIds, List.of()));
+		});
+
+		assertThat(outbox.retryDue()).isEqualTo(due.size());
+
+		verify(paymentServiceClient).refundPayments(List.of(1L, 2L, 3L), CANCELLED);
+		verify(paymentServiceClient).refundPayments(List.of(4L), "Booking BK1 cancelled");
+		verify(hotelServiceClient).releaseRooms(9L, 2);
+		verify(compensationRepository).deleteAll(due.subList(0, 3));
+		verify(compensationRepository).deleteAll(due.subList(3, 4));
+		verify(compensationRepository).deleteAll(due.subList(4, 5));
+	}
+
+	@Test
+	void failedBulkRefundKeepsEveryRefundForRetry() {
+		when(paymentServiceClient.refundPayments(anyList(), anyString()))
+				.thenReturn(Mono.error(new ServiceUnavailableException("payment-service is unavailable")));
+
+		outbox.retryDue();
+
+		assertThat(due.subList(0, 4)).allSatisfy(refund -> {
+			assertThat(refund.getAttempts()).isEqualTo(1);
+			assertThat(refund.getNextAttemptAt()).isAfter(LocalDateTime.now());
+			assertThat(refund.getLastError()).isEqualTo("payment-service is unavailable");
+		});
+		verify(compensationRepository, times(4)).save(any());
+		verify(compensationRepository, never()).deleteAll(due.subList(0, 3));
+		verify(compensationRepository).deleteAll(due.subList(4, 5));
+	}
+
+	private static PendingCompensation refund(Long paymentId, String reason) {
+		return PendingCompensation.builder().action(Action.REFUND_PAYMENT).targetId(paymentId).reason(reason).build();
+	}
+}
@@ -0,0 +1,125 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDisruptionResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FlightDisruptionServiceTest {
+
+	private static final long FLIGHT_ID = 7L;
+	private static final int BOOKINGS = 10_000;
+	private static final int CHUNK_SIZE = 500;
+	private static final int HOTELS = 5;
+
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final NotificationServiceClient notificationServiceClient = mock(NotificationServiceClient.class);
+	private final CompensationOutbox compensationOutbox = mock(CompensationOutbox.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final List<Booking> bookings = new ArrayList<>(BOOKINGS);
+
+	private FlightDisruptionService service;
+
+	@BeforeEach
+	void setUp() {
+		for (long id = 1; id <= BOOKINGS; id++) {
+			bookings.add(Booking.builder()
+					.id(id)
+					.userId(id)
+					.flightId(FLIGHT_ID)
+					.hotelId(id % HOTELS + 1)
+					.numberOfRooms(1)
+					.paymentId(id)
+					.status(BookingStatus.CONFIRMED)
+					.build());
+		}
+		// Like the locking query: the next chunk of bookings that are still live
+		when(bookingRepository.lockActiveByFlightId(FLIGHT_ID, CHUNK_SIZE)).thenAnswer(invocation -> bookings.stream()
+				.filter(booking -> booking.getStatus() == BookingStatus.CONFIRMED)
+				.limit(CHUNK_SIZE)
+				.toList());
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(notificationServiceClient.sendBulkNotification(anyList(), anyString(), anyString(), anyString()))
+				.thenReturn(Mono.empty());
+
+		service = new FlightDisruptionService(bookingRepository, mock(FlightServiceClient.class), notificationServiceClient, mock(ServiceCallGuard.class), mock(RecentBookingsCache.class), compensationOutbox,
+				transactionManager, new SimpleMeterRegistry(), CHUNK_SIZE);
+	}
+
+	@Test
+	void cancelsTenThousandBookingsWithOneCallPerChunk() {
+		long started = System.nanoTime();
+		FlightDisruptionResult result = service.handle(FLIGHT_ID, "SB100", "CANCELLED");
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		assertThat(result.getAffectedBookings()).isEqualTo(BOOKINGS);
+		assertThat(result.getRefundedPayments()).isEqualTo(BOOKINGS);
+		assertThat(result.getNotifiedUsers()).isEqualTo(BOOKINGS);
+		assertThat(result.getChunks()).isEqualTo(BOOKINGS / CHUNK_SIZE);
+		assertThat(bookings).allMatch(booking -> booking.getStatus() == BookingStatus.CANCELLED);
+
+		// Per chunk: one notification call and one room release per hotel; a refund per payment
+		verify(compensationOutbox, times(BOOKINGS)).enqueue(eq(Action.REFUND_PAYMENT), any(), isNull(), anyString());
+		verify(notificationServiceClient, times(BOOKINGS / CHUNK_SIZE))
+				.sendBulkNotification(anyList(), anyString(), anyString(), anyString());
+		verify(compensationOutbox, times(BOOKINGS / CHUNK_SIZE * HOTELS))
+				.enqueue(eq(Action.RELEASE_ROOMS), any(), eq(CHUNK_SIZE / HOTELS), anyString());
+		verify(compensationOutbox, times(BOOKINGS / CHUNK_SIZE)).retryDue();
+		verify(transactionManager, times(BOOKINGS / CHUNK_SIZE + 1)).commit(any());
+
+		// Generous bound: with the dependencies stubbed this measures the service's own overhead
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void refundsAreAttemptedOnlyAfterTheChunkCommitted() {
+		bookings.subList(CHUNK_SIZE, BOOKINGS).clear();
+
+		service.handle(FLIGHT_ID, "SB100", "CANCELLED");
+
+		// The refunds are queued with the cancellation; the bookings are unlocked before the outbox calls out
+		InOrder order = inOrder(compensationOutbox, transactionManager);
+		order.verify(compensationOutbox, times(CHUNK_SIZE))
+				.enqueue(eq(Action.REFUND_PAYMENT), any(), isNull(), eq("Flight SB100 cancelled"));
+		order.verify(transactionManager).commit(any());
+		order.verify(compensationOutbox).retryDue();
+		verify(transactionManager, never()).rollback(any());
+	}
+
+	@Test
+	void delayOnlyNotifies() {
+		when(bookingRepository.findByFlightIdAfter(eq(FLIGHT_ID), anyList(), any(Long.class), any()))
+				.thenReturn(bookings.subList(0, 3), List.of());
+
+		FlightDisruptionResult result = service.handle(FLIGHT_ID, "SB100", "DELAYED");
+
+		assertThat(result.getNotifiedUsers()).isEqualTo(3);
+		verify(compensationOutbox, never()).enqueue(any(), any(), any(), anyString());
+	}
+}
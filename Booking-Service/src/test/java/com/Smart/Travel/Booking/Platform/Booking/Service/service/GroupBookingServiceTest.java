@@ -0,0 +1,155 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.FlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.HotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.CreateBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.GroupBookingResult;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GroupBookingServiceTest {
+
+	private static final long FLIGHT_ID = 7L;
+	private static final long HOTEL_ID = 3L;
+
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final BookingAssembler bookingAssembler = mock(BookingAssembler.class);
+	private final FlightServiceClient flightServiceClient = mock(FlightServiceClient.class);
+	private final HotelServiceClient hotelServiceClient = mock(HotelServiceClient.class);
+	private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+	private final NotificationServiceClient notificationServiceClient = mock(NotificationServiceClient.class);
+	private final ServiceCallGuard serviceCallGuard = mock(ServiceCallGuard.class);
+	private final CompensationOutbox compensationOutbox = mock(CompensationOutbox.class);
+
+	private final GroupBookingService service = new GroupBookingService(bookingRepository, bookingAssembler,
+			flightServiceClient, hotelServiceClient, userServiceClient, notificationServiceClient, serviceCallGuard,
+			mock(RecentBookingsCache.class), mock(BookingSummaryService.class), compensationOutbox, 500);
+
+	@BeforeEach
+	void setUp() {
+		TransactionSynchronizationManager.initSynchronization();
+		when(serviceCallGuard.call(anyString(), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(1)).get());
+		when(userServiceClient.getActiveUsers(any())).thenReturn(Mono.just(Map.of(
+				1L, UserDTO.builder().id(1L).build(),
+				2L, UserDTO.builder().id(2L).build(),
+				3L, UserDTO.builder().id(3L).build())));
+		when(flightServiceClient.checkAvailability(eq(FLIGHT_ID), any()))
+				.thenReturn(FlightAvailabilityResponse.builder().available(true).build());
+		when(flightServiceClient.getFlightById(FLIGHT_ID)).thenReturn(FlightDTO.builder().id(FLIGHT_ID).build());
+		when(bookingAssembler.calculateFlightCost(any(), any(), any())).thenReturn(new BigDecimal("100.00"));
+		when(bookingAssembler.newPendingBooking(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+			CreateBookingRequest request = invocation.getArgument(0);
+			BigDecimal flightCost = invocation.getArgument(3);
+			BigDecimal hotelCost = invocation.getArgument(4);
+			return Booking.builder().userId(request.getUserId()).totalAmount(flightCost.add(hotelCost)).build();
+		});
+		when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(bookingAssembler.mapToDTO(any())).thenAnswer(invocation -> {
+			Booking booking = invocation.getArgument(0);
+			return BookingDTO.builder().userId(booking.getUserId()).totalAmount(booking.getTotalAmount()).build();
+		});
+		when(notificationServiceClient.sendBulkNotification(anyList(), anyString(), anyString(), anyString()))
+				.thenReturn(Mono.empty());
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.clearSynchronization();
+	}
+
+	@Test
+	void seatsAreReservedBeforeTheBookingsAndTheyAreNotifiedAfterCommit() {
+		GroupBookingResult result = service.createGroupBooking(group(null));
+
+		InOrder inOrder = inOrder(flightServiceClient, bookingRepository);
+		inOrder.verify(flightServiceClient).bookSeats(FLIGHT_ID, 3);
+		inOrder.verify(bookingRepository).saveAll(anyList());
+		assertThat(result.getBooked()).isEqualTo(3);
+		// 100.00 over three seats: the extra cent goes to one booking and nothing is lost
+		assertThat(result.getResults()).extracting(traveller -> traveller.getBooking().getTotalAmount())
+				.containsExactly(new BigDecimal("33.34"), new BigDecimal("33.33"), new BigDecimal("33.33"));
+		assertThat(result.getTotalAmount()).isEqualByComparingTo("100.00");
+
+		verify(notificationServiceClient, never()).sendBulkNotification(anyList(), anyString(), anyString(), anyString());
+		TransactionSynchronizationUtils.triggerAfterCommit();
+		verify(notificationServiceClient).sendBulkNotification(eq(List.of(1L, 2L, 3L)), anyString(), anyString(), anyString());
+		TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+				TransactionSynchronization.STATUS_COMMITTED);
+		verify(flightServiceClient, never()).releaseSeats(any(), any());
+	}
+
+	@Test
+	void rollbackReleasesTheSeatsAndQueuesTheReleaseWhenItFails() {
+		when(hotelServiceClient.checkAvailability(eq(HOTEL_ID), any(), any(), any()))
+				.thenReturn(HotelAvailabilityResponse.builder().available(true).build());
+		when(hotelServiceClient.getHotelById(HOTEL_ID)).thenReturn(HotelDTO.builder().id(HOTEL_ID).build());
+		when(bookingAssembler.calculateHotelCost(any(), any(), any())).thenReturn(new BigDecimal("300.00"));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 3)).thenThrow(new ServiceUnavailableException("hotel-service is unavailable"));
+		when(flightServiceClient.releaseSeats(FLIGHT_ID, 3)).thenThrow(new ServiceUnavailableException("flight-service is unavailable"));
+
+		assertThatThrownBy(() -> service.createGroupBooking(group(HOTEL_ID))).isInstanceOf(BookingException.class);
+		verify(bookingRepository, never()).saveAll(anyList());
+
+		TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+				TransactionSynchronization.STATUS_ROLLED_BACK);
+		verify(flightServiceClient).releaseSeats(FLIGHT_ID, 3);
+		verify(compensationOutbox).enqueueDetached(eq(Action.RELEASE_SEATS), eq(FLIGHT_ID), eq(3), anyString());
+		verify(hotelServiceClient, never()).releaseRooms(any(), any());
+	}
+
+	@Test
+	void splitKeepsTheTotal() {
+		assertThat(GroupBookingService.split(new BigDecimal("100.00"), List.of(2, 1, 4)))
+				.containsExactly(new BigDecimal("28.60"), new BigDecimal("14.28"), new BigDecimal("57.12"));
+	}
+
+	private static GroupBookingRequest group(Long hotelId) {
+		return GroupBookingRequest.builder()
+				.flightId(FLIGHT_ID)
+				.hotelId(hotelId)
+				.checkInDate(hotelId != null ? LocalDate.of(2030, 1, 7) : null)
+				.checkOutDate(hotelId != null ? LocalDate.of(2030, 1, 9) : null)
+				.travellers(List.of(traveller(1L), traveller(2L), traveller(3L)))
+				.build();
+	}
+
+	private static GroupBookingRequest.Traveller traveller(Long userId) {
+		return GroupBookingRequest.Traveller.builder().userId(userId).numberOfPassengers(1).numberOfRooms(1).build();
+	}
+}
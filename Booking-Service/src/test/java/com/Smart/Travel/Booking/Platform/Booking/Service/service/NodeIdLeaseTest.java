@@ -0,0 +1,39 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Common.id.SnowflakeReferenceGenerator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class NodeIdLeaseTest {
+
+	@Autowired
+	private SnowflakeReferenceGenerator generator;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void secondInstanceOnTheSameHostGetsAnotherNodeId() {
+		// Same host and pid, so the same derived node id as the running generator
+		SnowflakeReferenceGenerator second = new SnowflakeReferenceGenerator("BK", null, 60_000, jdbcTemplate);
+		try {
+			assertThat(second.nodeId()).isNotEqualTo(generator.nodeId());
+			assertThat(second.nextReference()).isNotEqualTo(generator.nextReference());
+		} finally {
+			second.release();
+		}
+	}
+
+	@Test
+	void configuredNodeIdInUseFailsFast() {
+		assertThatThrownBy(() -> new SnowflakeReferenceGenerator("BK", generator.nodeId(), 200, jdbcTemplate))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("is in use by");
+	}
+}
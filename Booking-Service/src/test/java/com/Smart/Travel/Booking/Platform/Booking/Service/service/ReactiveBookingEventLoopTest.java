@@ -0,0 +1,155 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveFlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveHotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.CreateBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@SpringBootTest
+class ReactiveBookingEventLoopTest {
+
+	private static final long USER_ID = 990_001L;
+	private static final long FLIGHT_ID = 990_002L;
+	private static final long HOTEL_ID = 990_003L;
+	// Elements delayed with delayElement are emitted on the parallel scheduler, a non-blocking thread like Netty's
+	private static final Duration EVENT_LOOP_HOP = Duration.ofMillis(5);
+
+	@Autowired
+	private BookingService bookingService;
+
+	@Autowired
+	private BookingAssembler bookingAssembler;
+
+	@Autowired
+	private BookingRepository bookingRepository;
+
+	@Autowired
+	private BookingSummaryService bookingSummaryService;
+
+	@Autowired
+	private CompensationOutbox compensationOutbox;
+
+	@Autowired
+	private RecentBookingsCache recentBookingsCache;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final ReactiveFlightServiceClient flightServiceClient = mock(ReactiveFlightServiceClient.class);
+	private final ReactiveHotelServiceClient hotelServiceClient = mock(ReactiveHotelServiceClient.class);
+	private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM bookings WHERE user_id = ?", USER_ID);
+		jdbcTemplate.update("DELETE FROM latest_flight_summaries WHERE flight_id = ?", FLIGHT_ID);
+		jdbcTemplate.update("DELETE FROM latest_hotel_summaries WHERE hotel_id = ?", HOTEL_ID);
+	}
+
+	@Test
+	void helpersUsedOnTheEventLoopAreNotTransactional() {
+		// BookingService is still the transactional proxy; the helpers the reactive path calls are not behind it
+		assertThat(AopUtils.isAopProxy(bookingService)).isTrue();
+		assertThat(AopUtils.isAopProxy(bookingAssembler)).isFalse();
+	}
+
+	@Test
+	void noTransactionIsActiveOnTheEventLoop() {
+		Map<String, Boolean> transactionActive = new ConcurrentHashMap<>();
+		Map<String, Boolean> nonBlockingThread = new ConcurrentHashMap<>();
+		// The real assembler bean, recording where each helper runs
+		BookingAssembler recording = mock(BookingAssembler.class, withSettings()
+				.spiedInstance(bookingAssembler)
+				.defaultAnswer(invocation -> {
+					String helper = invocation.getMethod().getName();
+					transactionActive.put(helper, TransactionSynchronizationManager.isActualTransactionActive());
+					nonBlockingThread.put(helper, Schedulers.isInNonBlockingThread());
+					// The notification would go to a Notification Service that is not running here
+					return helper.equals("sendCreationNotification") ? null : invocation.callRealMethod();
+				}));
+		stubClients();
+
+		ReactiveBookingService service = new ReactiveBookingService(bookingRepository, flightServiceClient,
+				hotelServiceClient, userServiceClient, recording, recentBookingsCache, bookingSummaryService,
+				compensationOutbox, new TransactionTemplate(transactionManager));
+		BookingDTO created = service.createBooking(request()).block(Duration.ofSeconds(10));
+
+		assertThat(created.getId()).isNotNull();
+		assertThat(transactionActive).containsOnlyKeys("calculateFlightCost", "calculateHotelCost",
+				"newPendingBooking", "sendCreationNotification", "mapToDTO");
+		assertThat(transactionActive).allSatisfy((helper, active) -> assertThat(active).as(helper).isFalse());
+		assertThat(nonBlockingThread).allSatisfy((helper, nonBlocking) -> assertThat(nonBlocking).as(helper).isTrue());
+	}
+
+	private void stubClients() {
+		when(userServiceClient.getActiveUser(USER_ID))
+				.thenReturn(Mono.just(UserDTO.builder().id(USER_ID).build()).delayElement(EVENT_LOOP_HOP));
+		when(flightServiceClient.checkAvailability(FLIGHT_ID, 2)).thenReturn(Mono.just(FlightAvailabilityResponse.builder()
+				.available(true)
+				.totalPrice(new BigDecimal("200.00"))
+				.build()).delayElement(EVENT_LOOP_HOP));
+		when(flightServiceClient.getFlightById(FLIGHT_ID)).thenReturn(Mono.just(FlightDTO.builder()
+				.id(FLIGHT_ID)
+				.flightNumber("EL-1")
+				.origin("CMB")
+				.destination("DXB")
+				.status("SCHEDULED")
+				.build()).delayElement(EVENT_LOOP_HOP));
+		when(hotelServiceClient.checkAvailability(eq(HOTEL_ID), eq(1), any(), any())).thenReturn(Mono.just(
+				HotelAvailabilityResponse.builder()
+						.available(true)
+						.totalPrice(new BigDecimal("100.00"))
+						.build()).delayElement(EVENT_LOOP_HOP));
+		when(hotelServiceClient.getHotelById(HOTEL_ID)).thenReturn(Mono.just(HotelDTO.builder()
+				.id(HOTEL_ID)
+				.name("Event Loop Inn")
+				.city("Kandy")
+				.build()).delayElement(EVENT_LOOP_HOP));
+		when(flightServiceClient.bookSeats(FLIGHT_ID, 2))
+				.thenReturn(Mono.just(FlightDTO.builder().build()).delayElement(EVENT_LOOP_HOP));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 1))
+				.thenReturn(Mono.just(HotelDTO.builder().build()).delayElement(EVENT_LOOP_HOP));
+	}
+
+	private static CreateBookingRequest request() {
+		return CreateBookingRequest.builder()
+				.userId(USER_ID)
+				.flightId(FLIGHT_ID)
+				.hotelId(HOTEL_ID)
+				.numberOfPassengers(2)
+				.numberOfRooms(1)
+				.build();
+	}
+}
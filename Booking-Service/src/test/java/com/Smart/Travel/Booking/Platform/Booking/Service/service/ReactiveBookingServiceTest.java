@@ -0,0 +1,154 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveFlightServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.client.ReactiveHotelServiceClient;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.CreateBookingRequest;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.FlightDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelAvailabilityResponse;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.HotelDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.Booking.BookingStatus;
+import com.Smart.Travel.Booking.Platform.Booking.Service.entity.PendingCompensation.Action;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.BookingException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import com.Smart.Travel.Booking.Platform.Booking.Service.repository.BookingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReactiveBookingServiceTest {
+
+	private static final long FLIGHT_ID = 7L;
+	private static final long HOTEL_ID = 3L;
+
+	private final BookingRepository bookingRepository = mock(BookingRepository.class);
+	private final ReactiveFlightServiceClient flightServiceClient = mock(ReactiveFlightServiceClient.class);
+	private final ReactiveHotelServiceClient hotelServiceClient = mock(ReactiveHotelServiceClient.class);
+	private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+	private final BookingAssembler bookingAssembler = mock(BookingAssembler.class);
+	private final CompensationOutbox compensationOutbox = mock(CompensationOutbox.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+	private final ReactiveBookingService service = new ReactiveBookingService(bookingRepository, flightServiceClient,
+			hotelServiceClient, userServiceClient, bookingAssembler, mock(RecentBookingsCache.class),
+			mock(BookingSummaryService.class), compensationOutbox, new TransactionTemplate(transactionManager));
+
+	private Booking booking;
+
+	@BeforeEach
+	void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(userServiceClient.getActiveUser(1L)).thenReturn(Mono.just(UserDTO.builder().id(1L).build()));
+		when(flightServiceClient.checkAvailability(FLIGHT_ID, 2))
+				.thenReturn(Mono.just(FlightAvailabilityResponse.builder().available(true).build()));
+		when(flightServiceClient.getFlightById(FLIGHT_ID)).thenReturn(Mono.just(FlightDTO.builder().id(FLIGHT_ID).build()));
+		when(hotelServiceClient.checkAvailability(eq(HOTEL_ID), eq(1), any(), any()))
+				.thenReturn(Mono.just(HotelAvailabilityResponse.builder().available(true).build()));
+		when(hotelServiceClient.getHotelById(HOTEL_ID)).thenReturn(Mono.just(HotelDTO.builder().id(HOTEL_ID).build()));
+		when(bookingAssembler.calculateFlightCost(any(), any(), any())).thenReturn(new BigDecimal("200.00"));
+		when(bookingAssembler.calculateHotelCost(any(), any(), any())).thenReturn(new BigDecimal("100.00"));
+		when(bookingAssembler.newPendingBooking(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+			booking = Booking.builder()
+					.userId(1L)
+					.flightId(FLIGHT_ID)
+					.hotelId(HOTEL_ID)
+					.bookingReference("BK-TEST")
+					.status(BookingStatus.PENDING)
+					.build();
+			return booking;
+		});
+		when(bookingRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+		when(bookingAssembler.mapToDTO(any())).thenAnswer(invocation -> {
+			Booking saved = invocation.getArgument(0);
+			return BookingDTO.builder().status(saved.getStatus()).build();
+		});
+	}
+
+	@Test
+	void reservesSeatsAndRoomsAndNotifies() {
+		when(flightServiceClient.bookSeats(FLIGHT_ID, 2)).thenReturn(Mono.just(FlightDTO.builder().build()));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 1)).thenReturn(Mono.just(HotelDTO.builder().build()));
+
+		BookingDTO created = service.createBooking(request()).block(Duration.ofSeconds(5));
+
+		assertThat(created.getStatus()).isEqualTo(BookingStatus.PENDING);
+		verify(bookingAssembler).sendCreationNotification(any(), eq(booking));
+		verify(compensationOutbox, never()).enqueue(any(), any(), anyInt(), anyString());
+	}
+
+	@Test
+	void roomFailureReleasesTheReservedSeats() {
+		when(flightServiceClient.bookSeats(FLIGHT_ID, 2)).thenReturn(Mono.just(FlightDTO.builder().build()));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 1))
+				.thenReturn(Mono.error(new ServiceUnavailableException("hotel-service is unavailable")));
+
+		assertThatThrownBy(() -> service.createBooking(request()).block(Duration.ofSeconds(5)))
+				.isInstanceOf(BookingException.class)
+				.hasMessageContaining("hotel-service is unavailable");
+
+		assertThat(booking.getStatus()).isEqualTo(BookingStatus.FAILED);
+		verify(compensationOutbox).enqueue(eq(Action.RELEASE_SEATS), eq(FLIGHT_ID), eq(2), anyString());
+		verify(compensationOutbox, never()).enqueue(eq(Action.RELEASE_ROOMS), any(), anyInt(), anyString());
+		verify(bookingAssembler, never()).sendCreationNotification(any(), any());
+	}
+
+	@Test
+	void seatFailureReleasesRoomsReservedAfterIt() {
+		// The seat call fails at once; the room reservation still completes and is released
+		when(flightServiceClient.bookSeats(FLIGHT_ID, 2))
+				.thenReturn(Mono.error(new ServiceUnavailableException("flight-service is unavailable")));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 1))
+				.thenReturn(Mono.just(HotelDTO.builder().build()).delayElement(Duration.ofMillis(50)));
+
+		assertThatThrownBy(() -> service.createBooking(request()).block(Duration.ofSeconds(5)))
+				.isInstanceOf(BookingException.class);
+
+		assertThat(booking.getStatus()).isEqualTo(BookingStatus.FAILED);
+		verify(compensationOutbox).enqueue(eq(Action.RELEASE_ROOMS), eq(HOTEL_ID), eq(1), anyString());
+		verify(compensationOutbox, never()).enqueue(eq(Action.RELEASE_SEATS), any(), anyInt(), anyString());
+	}
+
+	@Test
+	void nothingIsReleasedWhenBothReservationsFail() {
+		when(flightServiceClient.bookSeats(FLIGHT_ID, 2))
+				.thenReturn(Mono.error(new ServiceUnavailableException("flight-service is unavailable")));
+		when(hotelServiceClient.bookRooms(HOTEL_ID, 1))
+				.thenReturn(Mono.error(new ServiceUnavailableException("hotel-service is unavailable")));
+
+		assertThatThrownBy(() -> service.createBooking(request()).block(Duration.ofSeconds(5)))
+				.isInstanceOf(BookingException.class);
+
+		assertThat(booking.getStatus()).isEqualTo(BookingStatus.FAILED);
+		verify(compensationOutbox, never()).enqueue(any(), any(), anyInt(), anyString());
+	}
+
+	private static CreateBookingRequest request() {
+		return CreateBookingRequest.builder()
+				.userId(1L)
+				.flightId(FLIGHT_ID)
+				.hotelId(HOTEL_ID)
+				.numberOfPassengers(2)
+				.numberOfRooms(1)
+				.build();
+	}
+}
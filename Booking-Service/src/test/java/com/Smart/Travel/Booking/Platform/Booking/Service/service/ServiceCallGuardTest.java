@@ -0,0 +1,199 @@
+package com.Smart.Travel.Booking.Platform.Booking.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Booking.Service.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Injects faults with a stub HTTP server and checks that the guard turns them into fast
+ * {@link ServiceUnavailableException}s.
+ */
+class ServiceCallGuardTest {
+
+	private static final String DEPENDENCY = "stub-service";
+
+	private MockWebServer server;
+	private WebClient webClient;
+	private CircuitBreakerRegistry circuitBreakerRegistry;
+	private BulkheadRegistry bulkheadRegistry;
+	private AdaptiveTimeouts adaptiveTimeouts;
+	private ServiceCallGuard guard;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new MockWebServer();
+		server.start();
+		webClient = WebClient.builder().baseUrl(server.url("/").toString()).build();
+
+		circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+				.slidingWindowSize(10)
+				.minimumNumberOfCalls(5)
+				.failureRateThreshold(50)
+				.waitDurationInOpenState(Duration.ofMinutes(1))
+				.build());
+		bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+				.maxConcurrentCalls(2)
+				.maxWaitDuration(Duration.ZERO)
+				.build());
+		TimeLimiterRegistry timeLimiterRegistry = TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+				.timeoutDuration(Duration.ofSeconds(2))
+				.build());
+		adaptiveTimeouts = new AdaptiveTimeouts(new SimpleMeterRegistry(), true, 0.99, 2.0, 100, 20, 10);
+		guard = new ServiceCallGuard(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry, adaptiveTimeouts);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		server.shutdown();
+	}
+
+	@Test
+	void failingDependencyOpensTheBreakerAndIsThenSkipped() {
+		for (int i = 0; i < 5; i++) {
+			server.enqueue(new MockResponse().setResponseCode(503));
+			assertThatThrownBy(this::get).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+		}
+		assertThat(circuitBreakerRegistry.circuitBreaker(DEPENDENCY).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+		assertThatThrownBy(this::get).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(server.getRequestCount()).isEqualTo(5);
+	}
+
+	@Test
+	void hangingDependencyIsCutOffAtTheTimeLimiter() {
+		server.enqueue(new MockResponse().setBody("late").setHeadersDelay(4, TimeUnit.SECONDS));
+
+		long started = System.nanoTime();
+		assertThatThrownBy(this::get).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isBetween(Duration.ofSeconds(2), Duration.ofMillis(3500));
+	}
+
+	@Test
+	void slowdownIsCutOffAtTheAdaptiveTimeout() {
+		for (int i = 0; i < 10; i++) {
+			server.enqueue(new MockResponse().setBody("ok"));
+			assertThat(get()).isEqualTo("ok");
+		}
+		server.enqueue(new MockResponse().setBody("late").setHeadersDelay(1500, TimeUnit.MILLISECONDS));
+
+		// Recent calls answered in a few ms, so the 100 ms floor applies instead of the 2 s limiter
+		long started = System.nanoTime();
+		assertThatThrownBy(this::get).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(1000));
+	}
+
+	@Test
+	void slowHotelDependencyLeavesTheFlightDependencyAlone() {
+		AtomicBoolean hotelSlow = new AtomicBoolean();
+		server.setDispatcher(new Dispatcher() {
+			@Override
+			public MockResponse dispatch(RecordedRequest request) {
+				MockResponse response = new MockResponse().setBody("ok");
+				return request.getPath().startsWith("/hotels") && hotelSlow.get()
+						? response.setHeadersDelay(1500, TimeUnit.MILLISECONDS)
+						: response;
+			}
+		});
+		for (int i = 0; i < 10; i++) {
+			assertThat(get(ServiceCallGuard.FLIGHT_SERVICE, "/flights/1")).isEqualTo("ok");
+			assertThat(get(ServiceCallGuard.HOTEL_SERVICE, "/hotels/1")).isEqualTo("ok");
+		}
+		Duration flightTimeout = timeout(ServiceCallGuard.FLIGHT_SERVICE);
+		assertThat(flightTimeout).isLessThan(Duration.ofMillis(500));
+
+		// Each cut-off doubles the hotel timeout, from at most 500 ms, until 1.5 s fits
+		hotelSlow.set(true);
+		int cutOff = 0;
+		while (true) {
+			try {
+				assertThat(get(ServiceCallGuard.HOTEL_SERVICE, "/hotels/1")).isEqualTo("ok");
+				break;
+			} catch (ServiceUnavailableException e) {
+				assertThat(++cutOff).isLessThanOrEqualTo(4);
+			}
+		}
+		assertThat(cutOff).isPositive();
+		assertThat(timeout(ServiceCallGuard.HOTEL_SERVICE)).isGreaterThan(Duration.ofMillis(1500));
+
+		assertThat(timeout(ServiceCallGuard.FLIGHT_SERVICE)).isEqualTo(flightTimeout);
+		assertThat(circuitBreakerRegistry.circuitBreaker(ServiceCallGuard.FLIGHT_SERVICE).getState())
+				.isEqualTo(CircuitBreaker.State.CLOSED);
+		assertThat(circuitBreakerRegistry.circuitBreaker(ServiceCallGuard.FLIGHT_SERVICE).getMetrics()
+				.getNumberOfFailedCalls()).isZero();
+		Bulkhead flightBulkhead = bulkheadRegistry.bulkhead(ServiceCallGuard.FLIGHT_SERVICE);
+		assertThat(flightBulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(2);
+		assertThat(get(ServiceCallGuard.FLIGHT_SERVICE, "/flights/1")).isEqualTo("ok");
+	}
+
+	@Test
+	void longPollIsNotCutOffAtTheAdaptiveTimeout() {
+		for (int i = 0; i < 10; i++) {
+			server.enqueue(new MockResponse().setBody("ok"));
+			assertThat(get()).isEqualTo("ok");
+		}
+		server.enqueue(new MockResponse().setBody("changes").setHeadersDelay(500, TimeUnit.MILLISECONDS));
+
+		String body = guard.guardLongPoll(DEPENDENCY, webClient.get().uri("/changes").retrieve().bodyToMono(String.class))
+				.block();
+
+		assertThat(body).isEqualTo("changes");
+	}
+
+	@Test
+	void callsBeyondTheBulkheadAreRejected() throws Exception {
+		for (int i = 0; i < 2; i++) {
+			server.enqueue(new MockResponse().setBody("slow").setHeadersDelay(1, TimeUnit.SECONDS));
+			guardedGet().subscribeOn(Schedulers.boundedElastic()).subscribe(body -> { }, error -> { });
+		}
+		long deadline = System.currentTimeMillis() + 2_000;
+		while (server.getRequestCount() < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(10);
+		}
+
+		long started = System.nanoTime();
+		assertThatThrownBy(this::get).isInstanceOf(ServiceUnavailableException.class);
+		assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofMillis(500));
+		assertThat(server.getRequestCount()).isEqualTo(2);
+	}
+
+	private String get() {
+		return guardedGet().block();
+	}
+
+	private String get(String dependency, String path) {
+		return guard.guard(dependency, webClient.get().uri(path).retrieve().bodyToMono(String.class)).block();
+	}
+
+	private Duration timeout(String dependency) {
+		return adaptiveTimeouts.timeoutFor(dependency, Duration.ofSeconds(2));
+	}
+
+	private Mono<String> guardedGet() {
+		return guard.guard(DEPENDENCY, webClient.get().uri("/resource").retrieve().bodyToMono(String.class));
+	}
+}
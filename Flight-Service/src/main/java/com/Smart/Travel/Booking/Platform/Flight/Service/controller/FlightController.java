@@ -1,19 +1,24 @@
 package com.Smart.Travel.Booking.Platform.Flight.Service.controller;
 
 import com.Smart.Travel.Booking.Platform.Flight.Service.dto.*;
+import com.Smart.Travel.Booking.Platform.Flight.Service.service.FlightChangeLog;
+import com.Smart.Travel.Booking.Platform.Flight.Service.service.FlightImportService;
 import com.Smart.Travel.Booking.Platform.Flight.Service.service.FlightService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,6 +29,8 @@ import java.util.List;
 public class FlightController {
 
     private final FlightService flightService;
+    private final FlightImportService flightImportService;
+    private final FlightChangeLog flightChangeLog;
 
     @PostMapping
     @Operation(summary = "Create a new flight", description = "Creates a new flight in the system")
@@ -37,6 +44,20 @@ public class FlightController {
         return new ResponseEntity<>(createdFlight, HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Bulk import flights",
+            description = "Streams a flight schedule as CSV (with a header row) or NDJSON, inserts valid rows in batches and reports rejected rows")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import processed, see the per-row error report"),
+            @ApiResponse(responseCode = "400", description = "Invalid CSV header"),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type")
+    })
+    public ResponseEntity<FlightImportResult> importFlights(HttpServletRequest request) throws IOException {
+        FlightImportResult result = flightImportService.importFlights(
+                request.getInputStream(), MediaType.parseMediaType(request.getContentType()));
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Get flight by ID", description = "Retrieves a flight by its ID")
     @ApiResponses(value = {
@@ -100,6 +121,20 @@ public class FlightController {
         return ResponseEntity.ok(flights);
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "Flight change feed",
+            description = "Long-polls the flight change log: returns changes after the given offset, waiting up to waitMs "
+                    + "for new ones when there are none. Resume with the returned nextOffset")
+    @ApiResponse(responseCode = "200", description = "Changes after the offset, possibly empty")
+    public ResponseEntity<FlightChangeFeedResponse> getChanges(
+            @Parameter(description = "Offset of the last change already consumed") @RequestParam(defaultValue = "0") Long after,
+            @Parameter(description = "Maximum number of changes to return") @RequestParam(defaultValue = "500") Integer limit,
+            @Parameter(description = "How long to wait for new changes, in milliseconds") @RequestParam(defaultValue = "25000") Long waitMs)
+            throws InterruptedException {
+        FlightChangeFeedResponse response = flightChangeLog.poll(after, limit, waitMs);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update flight", description = "Updates an existing flight")
     @ApiResponses(value = {
@@ -128,7 +163,7 @@ public class FlightController {
     }
 
     @GetMapping("/{id}/availability")
-    @Operation(summary = "Check flight availability", description = "Checks if seats are available on a flight")
+    @Operation(summary = "Check flight availability", description = "Checks if seats are available on a flight and quotes the current dynamic fare")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Availability check completed"),
             @ApiResponse(responseCode = "404", description = "Flight not found")
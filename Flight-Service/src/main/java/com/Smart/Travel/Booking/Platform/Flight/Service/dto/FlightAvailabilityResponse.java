@@ -2,6 +2,8 @@ package com.Smart.Travel.Booking.Platform.Flight.Service.dto;
 
 import lombok.*;
 
+import java.math.BigDecimal;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +14,8 @@ public class FlightAvailabilityResponse {
     private boolean available;
     private Integer availableSeats;
     private String message;
+    // Dynamic fare for the requested seats, quoted at the time of the check
+    private String fareBucket;
+    private BigDecimal unitPrice;
+    private BigDecimal totalPrice;
 }
@@ -0,0 +1,29 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.dto;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange.ChangeType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightChangeDTO {
+    private Long offset;
+    private Long flightId;
+    private String flightNumber;
+    private ChangeType changeType;
+    private FlightStatus status;
+    private BigDecimal price;
+    private Integer totalSeats;
+    private Integer availableSeats;
+    private LocalDateTime departureTime;
+    private String airline;
+    private String origin;
+    private String destination;
+    private LocalDateTime arrivalTime;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,17 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightChangeFeedResponse {
+    private List<FlightChangeDTO> changes;
+    // Pass back as "after" to resume the feed
+    private Long nextOffset;
+    // Oldest retained change; resuming from further back than oldestOffset - 1 may skip purged changes
+    private Long oldestOffset;
+}
@@ -0,0 +1,28 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightImportResult {
+    private long totalRows;
+    private long imported;
+    private long failed;
+    private long durationMs;
+    // Only the first errors are reported for very large imports; failed holds the full count
+    private boolean errorsTruncated;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;
+        private String flightNumber;
+        private String message;
+    }
+}
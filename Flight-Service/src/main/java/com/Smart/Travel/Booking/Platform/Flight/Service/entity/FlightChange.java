@@ -0,0 +1,86 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.entity;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only change log entry, written in the same transaction as the flight change it
+ * records. The feed position, assigned once the writing transaction has ended, is the feed
+ * offset.
+ */
+@Entity
+@Table(name = "flight_changes", indexes = {
+        @Index(name = "idx_flight_changes_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FlightChange {
+
+    // Ids only identify the entry; feed order comes from feedPosition
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "flight_changes_id_seq")
+    @SequenceGenerator(name = "flight_changes_id_seq", sequenceName = "flight_changes_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "flight_id", nullable = false)
+    private Long flightId;
+
+    @Column(name = "flight_number", nullable = false)
+    private String flightNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FlightStatus status;
+
+    @Column(nullable = false)
+    private BigDecimal price;
+
+    @Column(name = "total_seats", nullable = false)
+    private Integer totalSeats;
+
+    @Column(name = "available_seats", nullable = false)
+    private Integer availableSeats;
+
+    @Column(name = "departure_time", nullable = false)
+    private LocalDateTime departureTime;
+
+    // Route details let consumers keep denormalized flight summaries current
+    private String airline;
+
+    private String origin;
+
+    private String destination;
+
+    @Column(name = "arrival_time")
+    private LocalDateTime arrivalTime;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Id of the writing transaction, filled in by the database
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default txid_current()")
+    private Long txid;
+
+    @Column(name = "feed_position", unique = true, insertable = false, updatable = false)
+    private Long feedPosition;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        // Status moved, e.g. to DELAYED or CANCELLED; consumers fan this out to bookings
+        STATUS_CHANGED,
+        SEATS_BOOKED,
+        SEATS_RELEASED,
+        DELETED
+    }
+}
@@ -0,0 +1,17 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface FlightChangeRepository extends JpaRepository<FlightChange, Long> {
+
+    @Query("SELECT c FROM FlightChange c WHERE c.feedPosition > :after ORDER BY c.feedPosition")
+    List<FlightChange> findChangesAfter(@Param("after") Long after, Pageable pageable);
+}
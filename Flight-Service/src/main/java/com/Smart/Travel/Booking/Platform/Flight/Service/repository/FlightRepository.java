@@ -3,13 +3,16 @@ package com.Smart.Travel.Booking.Platform.Flight.Service.repository;
 import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
 import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface FlightRepository extends JpaRepository<Flight, Long> {
@@ -18,6 +21,9 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
 
     boolean existsByFlightNumber(String flightNumber);
 
+    @Query("SELECT f.flightNumber FROM Flight f WHERE f.flightNumber IN :flightNumbers")
+    Set<String> findExistingFlightNumbers(@Param("flightNumbers") Collection<String> flightNumbers);
+
     List<Flight> findByOriginAndDestination(String origin, String destination);
 
     List<Flight> findByStatus(FlightStatus status);
@@ -36,4 +42,12 @@ public interface FlightRepository extends JpaRepository<Flight, Long> {
     List<Flight> findAllAvailableFlights();
 
     List<Flight> findByAirline(String airline);
+
+    List<Flight> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
+
+    // Single conditional UPDATE so concurrent bookings cannot oversell; 0 when not bookable or short of seats
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Flight f SET f.availableSeats = f.availableSeats - :seats, f.updatedAt = :now " +
+           "WHERE f.id = :id AND f.status = 'SCHEDULED' AND f.availableSeats >= :seats")
+    int decrementAvailableSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,118 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Prices seats from the flight's base fare, its load factor and the time left until
+ * departure. The rules are evaluated once at startup into lookup tables: load factor is
+ * quantized into {@code load-steps} steps, each mapped to a fare bucket, and days to
+ * departure are mapped to a time band. A quote is then two array reads and a multiply.
+ */
+@Component
+@Slf4j
+public class FarePricingEngine {
+
+    private final boolean enabled;
+    private final int loadSteps;
+    private final int timeBands;
+
+    // Indexed by load step
+    private final String[] bucketByLoadStep;
+    // Indexed by min(days to departure, last entry)
+    private final int[] timeBandByDay;
+    // Indexed by load step * timeBands + time band
+    private final BigDecimal[] multipliers;
+
+    public FarePricingEngine(
+            @Value("${pricing.enabled:true}") boolean enabled,
+            @Value("${pricing.load-steps:20}") int loadSteps,
+            @Value("${pricing.fare-buckets.names:Y,B,M,H,Q}") String[] bucketNames,
+            @Value("${pricing.fare-buckets.load-thresholds:0.0,0.4,0.65,0.8,0.9}") double[] bucketThresholds,
+            @Value("${pricing.fare-buckets.multipliers:0.85,1.0,1.2,1.5,1.9}") double[] bucketMultipliers,
+            @Value("${pricing.days-to-departure.thresholds:60,30,14,7,3,0}") int[] dayThresholds,
+            @Value("${pricing.days-to-departure.multipliers:0.95,1.0,1.1,1.25,1.45,1.7}") double[] dayMultipliers) {
+        if (bucketNames.length == 0
+                || bucketNames.length != bucketThresholds.length || bucketNames.length != bucketMultipliers.length) {
+            throw new IllegalArgumentException("Fare bucket names, load thresholds and multipliers must have the same length");
+        }
+        if (dayThresholds.length == 0 || dayThresholds.length != dayMultipliers.length) {
+            throw new IllegalArgumentException("Days-to-departure thresholds and multipliers must have the same length");
+        }
+        this.enabled = enabled;
+        this.loadSteps = loadSteps;
+        this.timeBands = dayThresholds.length;
+
+        // Buckets open in order as the load factor passes their threshold
+        this.bucketByLoadStep = new String[loadSteps + 1];
+        BigDecimal[] bucketMultiplierByStep = new BigDecimal[loadSteps + 1];
+        for (int step = 0; step <= loadSteps; step++) {
+            double loadFactor = (double) step / loadSteps;
+            int bucket = 0;
+            for (int b = 1; b < bucketThresholds.length; b++) {
+                if (loadFactor >= bucketThresholds[b]) {
+                    bucket = b;
+                }
+            }
+            bucketByLoadStep[step] = bucketNames[bucket].trim();
+            bucketMultiplierByStep[step] = BigDecimal.valueOf(bucketMultipliers[bucket]);
+        }
+
+        // Thresholds are in descending days; a band applies from its threshold down to the next one
+        int maxDays = dayThresholds[0];
+        this.timeBandByDay = new int[maxDays + 1];
+        for (int day = 0; day <= maxDays; day++) {
+            int band = timeBands - 1;
+            for (int t = 0; t < timeBands; t++) {
+                if (day >= dayThresholds[t]) {
+                    band = t;
+                    break;
+                }
+            }
+            timeBandByDay[day] = band;
+        }
+
+        // Multiplied as decimals: a double product such as 0.85 * 1.7 = 1.44499... would round prices down a cent
+        this.multipliers = new BigDecimal[(loadSteps + 1) * timeBands];
+        for (int step = 0; step <= loadSteps; step++) {
+            for (int band = 0; band < timeBands; band++) {
+                multipliers[step * timeBands + band] =
+                        bucketMultiplierByStep[step].multiply(BigDecimal.valueOf(dayMultipliers[band]));
+            }
+        }
+        log.info("Fare pricing curves precomputed: {} load steps x {} time bands, enabled: {}",
+                loadSteps + 1, timeBands, enabled);
+    }
+
+    public Quote quote(Flight flight, int seats) {
+        return quote(flight, seats, LocalDateTime.now());
+    }
+
+    Quote quote(Flight flight, int seats, LocalDateTime now) {
+        BigDecimal basePrice = flight.getPrice();
+        if (!enabled) {
+            return new Quote(null, basePrice, basePrice.multiply(BigDecimal.valueOf(seats)));
+        }
+
+        int totalSeats = flight.getTotalSeats();
+        int soldSeats = totalSeats - flight.getAvailableSeats();
+        int loadStep = totalSeats > 0 ? Math.min(loadSteps, Math.max(0, soldSeats * loadSteps / totalSeats)) : loadSteps;
+
+        long days = Duration.between(now, flight.getDepartureTime()).toDays();
+        int band = timeBandByDay[(int) Math.max(0, Math.min(days, timeBandByDay.length - 1))];
+
+        BigDecimal unitPrice = basePrice.multiply(multipliers[loadStep * timeBands + band])
+                .setScale(2, RoundingMode.HALF_UP);
+        return new Quote(bucketByLoadStep[loadStep], unitPrice, unitPrice.multiply(BigDecimal.valueOf(seats)));
+    }
+
+    public record Quote(String fareBucket, BigDecimal unitPrice, BigDecimal totalPrice) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Common.feed.ChangeFeed;
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightChangeDTO;
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightChangeFeedResponse;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange.ChangeType;
+import com.Smart.Travel.Booking.Platform.Flight.Service.repository.FlightChangeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only log of flight changes and the long-poll feed over it. Entries are written in
+ * the caller's transaction, so a change is in the feed exactly when it is committed; the
+ * offset is the entry's feed position, which {@link ChangeFeed} assigns in commit order.
+ */
+@Service
+@Slf4j
+public class FlightChangeLog {
+
+    private final FlightChangeRepository changeRepository;
+    private final ChangeFeed changeFeed;
+    private final long retentionHours;
+
+    public FlightChangeLog(
+            FlightChangeRepository changeRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${flights.change-feed.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${flights.change-feed.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${flights.change-feed.max-limit:1000}") int maxLimit,
+            @Value("${flights.change-feed.retention-hours:72}") long retentionHours) {
+        this.changeRepository = changeRepository;
+        this.changeFeed = new ChangeFeed(jdbcTemplate, transactionManager, "flight_changes",
+                pollIntervalMs, maxWaitMs, maxLimit);
+        this.retentionHours = retentionHours;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        changeFeed.initialize();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Flight flight, ChangeType changeType) {
+        changeRepository.save(toChange(flight, changeType, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<Flight> flights, ChangeType changeType) {
+        LocalDateTime now = LocalDateTime.now();
+        List<FlightChange> changes = new ArrayList<>(flights.size());
+        for (Flight flight : flights) {
+            changes.add(toChange(flight, changeType, now));
+        }
+        changeRepository.saveAll(changes);
+    }
+
+    /**
+     * Returns up to {@code limit} changes after the offset. When there are none yet, waits
+     * up to {@code waitMs} for new ones, checking every {@code poll-interval-ms}.
+     */
+    public FlightChangeFeedResponse poll(long after, int limit, long waitMs) throws InterruptedException {
+        List<FlightChange> changes = changeFeed.poll(after, limit, waitMs,
+                (position, pageSize) -> changeRepository.findChangesAfter(position, PageRequest.of(0, pageSize)));
+
+        List<FlightChangeDTO> dtos = changes.stream().map(this::mapToDTO).toList();
+        return FlightChangeFeedResponse.builder()
+                .changes(dtos)
+                .nextOffset(dtos.isEmpty() ? after : dtos.get(dtos.size() - 1).getOffset())
+                .oldestOffset(changeFeed.oldestPosition())
+                .build();
+    }
+
+    @Scheduled(cron = "${flights.change-feed.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purge() {
+        int deleted = changeFeed.purgeOlderThan(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} flight change log entries older than {} hours", deleted, retentionHours);
+        }
+    }
+
+    private static FlightChange toChange(Flight flight, ChangeType changeType, LocalDateTime now) {
+        return FlightChange.builder()
+                .flightId(flight.getId())
+                .flightNumber(flight.getFlightNumber())
+                .changeType(changeType)
+                .status(flight.getStatus())
+                .price(flight.getPrice())
+                .totalSeats(flight.getTotalSeats())
+                .availableSeats(flight.getAvailableSeats())
+                .departureTime(flight.getDepartureTime())
+                .airline(flight.getAirline())
+                .origin(flight.getOrigin())
+                .destination(flight.getDestination())
+                .arrivalTime(flight.getArrivalTime())
+                .createdAt(now)
+                .build();
+    }
+
+    private FlightChangeDTO mapToDTO(FlightChange change) {
+        return FlightChangeDTO.builder()
+                .offset(change.getFeedPosition())
+                .flightId(change.getFlightId())
+                .flightNumber(change.getFlightNumber())
+                .changeType(change.getChangeType())
+                .status(change.getStatus())
+                .price(change.getPrice())
+                .totalSeats(change.getTotalSeats())
+                .availableSeats(change.getAvailableSeats())
+                .departureTime(change.getDepartureTime())
+                .airline(change.getAirline())
+                .origin(change.getOrigin())
+                .destination(change.getDestination())
+                .arrivalTime(change.getArrivalTime())
+                .changedAt(change.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,277 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.CreateFlightRequest;
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightImportResult;
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightImportResult.RowError;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange.ChangeType;
+import com.Smart.Travel.Booking.Platform.Flight.Service.repository.FlightRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a flight schedule (CSV with a header row, or NDJSON) line by line. Rows are
+ * validated as they are read and collected into chunks; each chunk is checked for
+ * duplicate flight numbers in memory and with one query against the table, then
+ * inserted as a JDBC batch in its own transaction. The persistence context is cleared
+ * after each chunk, so memory stays bounded by the chunk size however long the import.
+ */
+@Service
+@Slf4j
+public class FlightImportService {
+
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+
+    static final List<String> CSV_COLUMNS = List.of(
+            "flightNumber", "airline", "origin", "destination",
+            "departureTime", "arrivalTime", "price", "totalSeats");
+
+    private final FlightRepository flightRepository;
+    private final FlightChangeLog flightChangeLog;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public FlightImportService(
+            FlightRepository flightRepository,
+            FlightChangeLog flightChangeLog,
+            ObjectMapper objectMapper,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            @Value("${flights.import.chunk-size:1000}") int chunkSize,
+            @Value("${flights.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.flightRepository = flightRepository;
+        this.flightChangeLog = flightChangeLog;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public FlightImportResult importFlights(InputStream input, MediaType contentType) throws IOException {
+        boolean csv = TEXT_CSV.isCompatibleWith(contentType);
+        long started = System.currentTimeMillis();
+        Report report = new Report();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            Map<String, Integer> columns = null;
+            if (csv) {
+                String header = reader.readLine();
+                lineNumber++;
+                columns = parseHeader(header);
+            }
+
+            List<Row> chunk = new ArrayList<>(chunkSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                report.total++;
+
+                CreateFlightRequest request;
+                try {
+                    request = csv ? parseCsvRow(line, columns) : objectMapper.readValue(line, CreateFlightRequest.class);
+                } catch (Exception e) {
+                    report.fail(lineNumber, null, "Unparseable row: " + e.getMessage());
+                    continue;
+                }
+                String violation = validate(request);
+                if (violation != null) {
+                    report.fail(lineNumber, request.getFlightNumber(), violation);
+                    continue;
+                }
+
+                chunk.add(new Row(lineNumber, request));
+                if (chunk.size() >= chunkSize) {
+                    importChunk(chunk, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, report);
+            }
+        }
+
+        long durationMs = System.currentTimeMillis() - started;
+        log.info("Flight import finished: {} rows, {} imported, {} failed in {} ms",
+                report.total, report.imported, report.failed, durationMs);
+
+        return FlightImportResult.builder()
+                .totalRows(report.total)
+                .imported(report.imported)
+                .failed(report.failed)
+                .durationMs(durationMs)
+                .errorsTruncated(report.failed > report.errors.size())
+                .errors(report.errors)
+                .build();
+    }
+
+    private void importChunk(List<Row> chunk, Report report) {
+        Set<String> flightNumbers = new HashSet<>(chunk.size() * 2);
+        List<Row> unique = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (flightNumbers.add(row.request().getFlightNumber())) {
+                unique.add(row);
+            } else {
+                report.fail(row.line(), row.request().getFlightNumber(), "Duplicate flight number in import");
+            }
+        }
+
+        Set<String> existing = flightRepository.findExistingFlightNumbers(flightNumbers);
+        List<Row> accepted = new ArrayList<>(unique.size());
+        List<Flight> flights = new ArrayList<>(unique.size());
+        for (Row row : unique) {
+            String flightNumber = row.request().getFlightNumber();
+            if (existing.contains(flightNumber)) {
+                report.fail(row.line(), flightNumber, "Flight with number " + flightNumber + " already exists");
+            } else {
+                accepted.add(row);
+                flights.add(toEntity(row.request()));
+            }
+        }
+        if (flights.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                flightRepository.saveAll(flights);
+                flightChangeLog.recordAll(flights, ChangeType.CREATED);
+                flightRepository.flush();
+                // The chunk is written; detach it rather than keep every imported flight managed
+                entityManager.clear();
+            });
+            report.imported += flights.size();
+        } catch (DataAccessException e) {
+            // e.g. a flight number inserted concurrently by another request
+            log.error("Failed to insert flight import chunk: {}", e.getMostSpecificCause().getMessage());
+            for (Row row : accepted) {
+                report.fail(row.line(), row.request().getFlightNumber(),
+                        "Chunk insert failed: " + e.getMostSpecificCause().getMessage());
+            }
+        }
+    }
+
+    private String validate(CreateFlightRequest request) {
+        Set<ConstraintViolation<CreateFlightRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+        }
+        if (!request.getArrivalTime().isAfter(request.getDepartureTime())) {
+            return "Arrival time must be after departure time";
+        }
+        return null;
+    }
+
+    private Map<String, Integer> parseHeader(String header) {
+        if (header == null) {
+            throw new IllegalArgumentException("CSV import is empty, expected a header row");
+        }
+        String[] names = header.split(",", -1);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            columns.put(names[i].trim(), i);
+        }
+        List<String> missing = CSV_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + missing);
+        }
+        return columns;
+    }
+
+    private CreateFlightRequest parseCsvRow(String line, Map<String, Integer> columns) {
+        String[] values = line.split(",", -1);
+        return CreateFlightRequest.builder()
+                .flightNumber(column(values, columns, "flightNumber"))
+                .airline(column(values, columns, "airline"))
+                .origin(column(values, columns, "origin"))
+                .destination(column(values, columns, "destination"))
+                .departureTime(parse(column(values, columns, "departureTime"), LocalDateTime::parse))
+                .arrivalTime(parse(column(values, columns, "arrivalTime"), LocalDateTime::parse))
+                .price(parse(column(values, columns, "price"), BigDecimal::new))
+                .totalSeats(parse(column(values, columns, "totalSeats"), Integer::valueOf))
+                .build();
+    }
+
+    private static String column(String[] values, Map<String, Integer> columns, String name) {
+        int index = columns.get(name);
+        if (index >= values.length) {
+            return null;
+        }
+        String value = values[index].trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(String value, Function<String, T> parser) {
+        return value == null ? null : parser.apply(value);
+    }
+
+    private static Flight toEntity(CreateFlightRequest request) {
+        return Flight.builder()
+                .flightNumber(request.getFlightNumber())
+                .airline(request.getAirline())
+                .origin(request.getOrigin())
+                .destination(request.getDestination())
+                .departureTime(request.getDepartureTime())
+                .arrivalTime(request.getArrivalTime())
+                .price(request.getPrice())
+                .totalSeats(request.getTotalSeats())
+                .availableSeats(request.getTotalSeats())
+                .status(FlightStatus.SCHEDULED)
+                .build();
+    }
+
+    private record Row(long line, CreateFlightRequest request) {
+    }
+
+    private final class Report {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<RowError> errors = new ArrayList<>();
+
+        void fail(long line, String flightNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new RowError(line, flightNumber, message));
+            }
+        }
+    }
+}
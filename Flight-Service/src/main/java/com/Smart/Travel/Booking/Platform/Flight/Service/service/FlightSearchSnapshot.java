@@ -0,0 +1,228 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import com.Smart.Travel.Booking.Platform.Flight.Service.repository.FlightRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves flight search from an immutable in-memory snapshot instead of the primary that
+ * bookings write to. Every refresh reads only the rows whose {@code updatedAt} moved since
+ * the previous one, rebuilds the routes they touch and publishes the new snapshot with a
+ * single volatile write, so a search always sees one consistent version. When the snapshot
+ * is older than {@code max-staleness-ms}, search goes back to the database.
+ */
+@Component
+@Slf4j
+public class FlightSearchSnapshot {
+
+    private static final Comparator<Flight> BY_DEPARTURE =
+            Comparator.comparing(Flight::getDepartureTime).thenComparing(Flight::getId);
+
+    private final FlightRepository flightRepository;
+    private final boolean enabled;
+    private final long maxStalenessMs;
+    private final long commitLagMs;
+    private final long fullRebuildIntervalMs;
+
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    // Null until the first build; replaced as a whole, never modified
+    private volatile Snapshot current;
+
+    public FlightSearchSnapshot(
+            FlightRepository flightRepository,
+            MeterRegistry meterRegistry,
+            @Value("${flights.search-snapshot.enabled:true}") boolean enabled,
+            @Value("${flights.search-snapshot.max-staleness-ms:5000}") long maxStalenessMs,
+            @Value("${flights.search-snapshot.commit-lag-ms:5000}") long commitLagMs,
+            @Value("${flights.search-snapshot.full-rebuild-interval-ms:300000}") long fullRebuildIntervalMs) {
+        this.flightRepository = flightRepository;
+        this.enabled = enabled;
+        this.maxStalenessMs = maxStalenessMs;
+        this.commitLagMs = commitLagMs;
+        this.fullRebuildIntervalMs = fullRebuildIntervalMs;
+
+        this.hits = Counter.builder("flights.search.snapshot.hits")
+                .description("Flight searches answered from the in-memory snapshot")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("flights.search.snapshot.fallbacks")
+                .description("Flight searches sent to the database because the snapshot was missing or stale")
+                .register(meterRegistry);
+        Gauge.builder("flights.search.snapshot.age", this, s -> s.ageMs() / 1000.0)
+                .description("Seconds since the flight search snapshot was last refreshed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Scheduled SCHEDULED flights on the route departing in the window with enough seats,
+     * or empty when the snapshot cannot be used and the caller should query the database.
+     */
+    public Optional<List<Flight>> search(String origin, String destination,
+                                         LocalDateTime startDate, LocalDateTime endDate, int requiredSeats) {
+        Snapshot snapshot = current;
+        if (!enabled || snapshot == null || System.currentTimeMillis() - snapshot.refreshedAt() > maxStalenessMs) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        List<Flight> route = snapshot.byRoute().getOrDefault(routeKey(origin, destination), List.of());
+        List<Flight> result = new ArrayList<>();
+        for (int i = firstDepartingAtOrAfter(route, startDate); i < route.size(); i++) {
+            Flight flight = route.get(i);
+            if (flight.getDepartureTime().isAfter(endDate)) {
+                break;
+            }
+            if (flight.getStatus() == FlightStatus.SCHEDULED && flight.getAvailableSeats() >= requiredSeats) {
+                result.add(flight);
+            }
+        }
+        hits.increment();
+        return Optional.of(result);
+    }
+
+    @Scheduled(fixedDelayString = "${flights.search-snapshot.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Snapshot previous = current;
+            long now = System.currentTimeMillis();
+            current = previous == null || now - previous.builtAt() >= fullRebuildIntervalMs
+                    ? fullBuild(now)
+                    : applyChanges(previous, now);
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot until it goes stale
+            log.warn("Failed to refresh flight search snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drops a deleted flight right away on this instance. Deletes leave no updatedAt
+     * behind, so other instances only lose the flight on their next full rebuild.
+     */
+    public synchronized void remove(Long flightId) {
+        Snapshot previous = current;
+        if (previous == null || !previous.byId().containsKey(flightId)) {
+            return;
+        }
+        Map<Long, Flight> byId = new HashMap<>(previous.byId());
+        Flight removed = byId.remove(flightId);
+        Map<String, List<Flight>> byRoute = new HashMap<>(previous.byRoute());
+        String route = routeKey(removed.getOrigin(), removed.getDestination());
+        List<Flight> flights = new ArrayList<>(byRoute.get(route));
+        flights.removeIf(f -> f.getId().equals(flightId));
+        putRoute(byRoute, route, flights);
+        current = new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byRoute),
+                previous.watermark(), previous.builtAt(), previous.refreshedAt());
+    }
+
+    private Snapshot fullBuild(long now) {
+        LocalDateTime watermark = LocalDateTime.now();
+        List<Flight> flights = flightRepository.findAll();
+
+        Map<Long, Flight> byId = new HashMap<>(flights.size() * 2);
+        Map<String, List<Flight>> grouped = new HashMap<>();
+        for (Flight flight : flights) {
+            byId.put(flight.getId(), flight);
+            grouped.computeIfAbsent(routeKey(flight.getOrigin(), flight.getDestination()), k -> new ArrayList<>()).add(flight);
+        }
+        Map<String, List<Flight>> byRoute = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((route, routeFlights) -> putRoute(byRoute, route, routeFlights));
+
+        log.info("Built flight search snapshot with {} flights on {} routes in {} ms",
+                byId.size(), byRoute.size(), System.currentTimeMillis() - now);
+        return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byRoute), watermark, now, now);
+    }
+
+    private Snapshot applyChanges(Snapshot previous, long now) {
+        LocalDateTime watermark = LocalDateTime.now();
+        // Re-read a window before the watermark so rows committed late with an earlier updatedAt are not missed
+        List<Flight> changed = flightRepository.findByUpdatedAtGreaterThanEqual(
+                previous.watermark().minusNanos(commitLagMs * 1_000_000));
+        if (changed.isEmpty()) {
+            return new Snapshot(previous.byId(), previous.byRoute(), watermark, previous.builtAt(), now);
+        }
+
+        Map<Long, Flight> byId = new HashMap<>(previous.byId());
+        Map<String, List<Flight>> changedByRoute = new HashMap<>();
+        for (Flight flight : changed) {
+            Flight old = byId.put(flight.getId(), flight);
+            if (old != null) {
+                // The flight may have moved to another route; its old route has to be rebuilt too
+                changedByRoute.computeIfAbsent(routeKey(old.getOrigin(), old.getDestination()), k -> new ArrayList<>());
+            }
+            changedByRoute.computeIfAbsent(routeKey(flight.getOrigin(), flight.getDestination()), k -> new ArrayList<>())
+                    .add(flight);
+        }
+
+        Map<String, List<Flight>> byRoute = new HashMap<>(previous.byRoute());
+        changedByRoute.forEach((route, routeChanges) -> {
+            List<Flight> flights = new ArrayList<>(routeChanges);
+            for (Flight flight : previous.byRoute().getOrDefault(route, List.of())) {
+                if (byId.get(flight.getId()) == flight) {
+                    flights.add(flight);
+                }
+            }
+            putRoute(byRoute, route, flights);
+        });
+
+        log.debug("Applied {} changed flights to the search snapshot", changed.size());
+        return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byRoute),
+                watermark, previous.builtAt(), now);
+    }
+
+    private static void putRoute(Map<String, List<Flight>> byRoute, String route, List<Flight> flights) {
+        if (flights.isEmpty()) {
+            byRoute.remove(route);
+        } else {
+            flights.sort(BY_DEPARTURE);
+            byRoute.put(route, Collections.unmodifiableList(flights));
+        }
+    }
+
+    private static int firstDepartingAtOrAfter(List<Flight> route, LocalDateTime startDate) {
+        int low = 0;
+        int high = route.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (route.get(mid).getDepartureTime().isBefore(startDate)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static String routeKey(String origin, String destination) {
+        return origin + "|" + destination;
+    }
+
+    private long ageMs() {
+        Snapshot snapshot = current;
+        return snapshot != null ? System.currentTimeMillis() - snapshot.refreshedAt() : 0;
+    }
+
+    private record Snapshot(Map<Long, Flight> byId, Map<String, List<Flight>> byRoute,
+                            LocalDateTime watermark, long builtAt, long refreshedAt) {
+    }
+}
@@ -3,6 +3,7 @@ package com.Smart.Travel.Booking.Platform.Flight.Service.service;
 import com.Smart.Travel.Booking.Platform.Flight.Service.dto.*;
 import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
 import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange.ChangeType;
 import com.Smart.Travel.Booking.Platform.Flight.Service.exception.DuplicateResourceException;
 import com.Smart.Travel.Booking.Platform.Flight.Service.exception.InsufficientSeatsException;
 import com.Smart.Travel.Booking.Platform.Flight.Service.exception.ResourceNotFoundException;
@@ -23,6 +24,9 @@ import java.util.stream.Collectors;
 public class FlightService {
 
     private final FlightRepository flightRepository;
+    private final FarePricingEngine farePricingEngine;
+    private final FlightSearchSnapshot flightSearchSnapshot;
+    private final FlightChangeLog flightChangeLog;
 
     public FlightDTO createFlight(CreateFlightRequest request) {
         log.info("Creating new flight with number: {}", request.getFlightNumber());
@@ -45,6 +49,7 @@ public class FlightService {
                 .build();
 
         Flight savedFlight = flightRepository.save(flight);
+        flightChangeLog.record(savedFlight, ChangeType.CREATED);
         log.info("Flight created successfully with id: {}", savedFlight.getId());
 
         return mapToDTO(savedFlight);
@@ -87,7 +92,8 @@ public class FlightService {
                                           LocalDateTime startDate, LocalDateTime endDate, 
                                           Integer requiredSeats) {
         log.info("Searching flights from {} to {} between {} and {}", origin, destination, startDate, endDate);
-        return flightRepository.searchAvailableFlights(origin, destination, startDate, endDate, requiredSeats)
+        return flightSearchSnapshot.search(origin, destination, startDate, endDate, requiredSeats)
+                .orElseGet(() -> flightRepository.searchAvailableFlights(origin, destination, startDate, endDate, requiredSeats))
                 .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
@@ -106,6 +112,7 @@ public class FlightService {
 
         Flight flight = flightRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
+        FlightStatus previousStatus = flight.getStatus();
 
         if (request.getFlightNumber() != null && !request.getFlightNumber().equals(flight.getFlightNumber())) {
             if (flightRepository.existsByFlightNumber(request.getFlightNumber())) {
@@ -144,6 +151,8 @@ public class FlightService {
         }
 
         Flight updatedFlight = flightRepository.save(flight);
+        flightChangeLog.record(updatedFlight,
+                updatedFlight.getStatus() != previousStatus ? ChangeType.STATUS_CHANGED : ChangeType.UPDATED);
         log.info("Flight updated successfully with id: {}", updatedFlight.getId());
 
         return mapToDTO(updatedFlight);
@@ -152,11 +161,12 @@ public class FlightService {
     public void deleteFlight(Long id) {
         log.info("Deleting flight with id: {}", id);
 
-        if (!flightRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Flight not found with id: " + id);
-        }
+        Flight flight = flightRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
 
-        flightRepository.deleteById(id);
+        flightChangeLog.record(flight, ChangeType.DELETED);
+        flightRepository.delete(flight);
+        flightSearchSnapshot.remove(id);
         log.info("Flight deleted successfully with id: {}", id);
     }
 
@@ -176,32 +186,37 @@ public class FlightService {
                     ? "Flight is " + flight.getStatus().toString().toLowerCase()
                     : "Only " + flight.getAvailableSeats() + " seats available";
 
+        FarePricingEngine.Quote quote = farePricingEngine.quote(flight, requiredSeats);
+
         return FlightAvailabilityResponse.builder()
                 .flightId(flight.getId())
                 .flightNumber(flight.getFlightNumber())
                 .available(isAvailable)
                 .availableSeats(flight.getAvailableSeats())
                 .message(message)
+                .fareBucket(quote.fareBucket())
+                .unitPrice(quote.unitPrice())
+                .totalPrice(quote.totalPrice())
                 .build();
     }
 
     public FlightDTO bookSeats(Long id, Integer numberOfSeats) {
         log.info("Booking {} seats for flight {}", numberOfSeats, id);
 
-        Flight flight = flightRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
+        if (flightRepository.decrementAvailableSeats(id, numberOfSeats, LocalDateTime.now()) == 0) {
+            Flight flight = flightRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
 
-        if (flight.getStatus() != FlightStatus.SCHEDULED) {
-            throw new IllegalStateException("Cannot book seats on a " + flight.getStatus().toString().toLowerCase() + " flight");
-        }
-
-        if (flight.getAvailableSeats() < numberOfSeats) {
+            if (flight.getStatus() != FlightStatus.SCHEDULED) {
+                throw new IllegalStateException("Cannot book seats on a " + flight.getStatus().toString().toLowerCase() + " flight");
+            }
             throw new InsufficientSeatsException("Only " + flight.getAvailableSeats() + " seats available, requested: " + numberOfSeats);
         }
 
-        flight.setAvailableSeats(flight.getAvailableSeats() - numberOfSeats);
-        Flight updatedFlight = flightRepository.save(flight);
-        
+        Flight updatedFlight = flightRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Flight not found with id: " + id));
+        flightChangeLog.record(updatedFlight, ChangeType.SEATS_BOOKED);
+
         log.info("Successfully booked {} seats for flight {}", numberOfSeats, id);
         return mapToDTO(updatedFlight);
     }
@@ -219,7 +234,8 @@ public class FlightService {
 
         flight.setAvailableSeats(newAvailableSeats);
         Flight updatedFlight = flightRepository.save(flight);
-        
+        flightChangeLog.record(updatedFlight, ChangeType.SEATS_RELEASED);
+
         log.info("Successfully released {} seats for flight {}", numberOfSeats, id);
         return mapToDTO(updatedFlight);
     }
@@ -0,0 +1,93 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import com.Smart.Travel.Booking.Platform.Flight.Service.service.FarePricingEngine.Quote;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FarePricingEngineTest {
+
+	private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+	private final FarePricingEngine engine = engine(true);
+
+	@Test
+	void emptyFlightFarOutIsInTheLowestBucketAndBand() {
+		Quote quote = engine.quote(flight("100.00", 0, 90), 2, NOW);
+
+		assertThat(quote.fareBucket()).isEqualTo("Y");
+		// 0.85 x 0.95
+		assertThat(quote.unitPrice()).isEqualByComparingTo("80.75");
+		assertThat(quote.totalPrice()).isEqualByComparingTo("161.50");
+	}
+
+	@Test
+	void bucketsOpenAsTheLoadFactorPassesTheirThreshold() {
+		assertThat(engine.quote(flight("100.00", 39, 90), 1, NOW).fareBucket()).isEqualTo("Y");
+		assertThat(engine.quote(flight("100.00", 40, 90), 1, NOW).fareBucket()).isEqualTo("B");
+		assertThat(engine.quote(flight("100.00", 79, 90), 1, NOW).fareBucket()).isEqualTo("M");
+		assertThat(engine.quote(flight("100.00", 80, 90), 1, NOW).fareBucket()).isEqualTo("H");
+		assertThat(engine.quote(flight("100.00", 100, 90), 1, NOW).fareBucket()).isEqualTo("Q");
+	}
+
+	@Test
+	void priceRisesAsDepartureNears() {
+		// Load factor 0.5, bucket B at 1.0, so the unit price is the time band's multiplier
+		assertThat(engine.quote(flight("100.00", 50, 45), 1, NOW).unitPrice()).isEqualByComparingTo("100.00");
+		assertThat(engine.quote(flight("100.00", 50, 14), 1, NOW).unitPrice()).isEqualByComparingTo("110.00");
+		assertThat(engine.quote(flight("100.00", 50, 13), 1, NOW).unitPrice()).isEqualByComparingTo("125.00");
+		assertThat(engine.quote(flight("100.00", 50, 2), 1, NOW).unitPrice()).isEqualByComparingTo("170.00");
+		// Departed flights stay in the last band
+		assertThat(engine.quote(flight("100.00", 50, -1), 1, NOW).unitPrice()).isEqualByComparingTo("170.00");
+	}
+
+	@Test
+	void halfCentIsRoundedUp() {
+		// 1.00 x 0.85 x 1.7 = 1.445, where the double product is 1.44499...
+		assertThat(engine.quote(flight("1.00", 0, 2), 1, NOW).unitPrice()).isEqualByComparingTo("1.45");
+	}
+
+	@Test
+	void disabledEngineQuotesTheBasePrice() {
+		Quote quote = engine(false).quote(flight("100.00", 100, 2), 3, NOW);
+
+		assertThat(quote.fareBucket()).isNull();
+		assertThat(quote.unitPrice()).isEqualByComparingTo("100.00");
+		assertThat(quote.totalPrice()).isEqualByComparingTo("300.00");
+	}
+
+	@Test
+	void mismatchedCurvesAreRejected() {
+		assertThatThrownBy(() -> new FarePricingEngine(true, 20, new String[]{"Y", "B"}, new double[]{0.0},
+				new double[]{1.0, 1.2}, new int[]{0}, new double[]{1.0}))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new FarePricingEngine(true, 20, new String[]{"Y"}, new double[]{0.0},
+				new double[]{1.0}, new int[]{30, 0}, new double[]{1.0}))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	// The defaults from application.yml
+	private static FarePricingEngine engine(boolean enabled) {
+		return new FarePricingEngine(enabled, 20,
+				new String[]{"Y", "B", "M", "H", "Q"},
+				new double[]{0.0, 0.4, 0.65, 0.8, 0.9},
+				new double[]{0.85, 1.0, 1.2, 1.5, 1.9},
+				new int[]{60, 30, 14, 7, 3, 0},
+				new double[]{0.95, 1.0, 1.1, 1.25, 1.45, 1.7});
+	}
+
+	// 100 seats of which soldSeats are sold, departing daysOut days after NOW
+	private static Flight flight(String price, int soldSeats, int daysOut) {
+		return Flight.builder()
+				.price(new BigDecimal(price))
+				.totalSeats(100)
+				.availableSeats(100 - soldSeats)
+				.departureTime(NOW.plusDays(daysOut).plusHours(1))
+				.build();
+	}
+}
@@ -0,0 +1,122 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightChangeDTO;
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightChangeFeedResponse;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.Flight.FlightStatus;
+import com.Smart.Travel.Booking.Platform.Flight.Service.entity.FlightChange.ChangeType;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class FlightChangeLogTest {
+
+	@Autowired
+	private FlightChangeLog changeLog;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void changeCommittedLateIsNotSkipped() throws Exception {
+		long start = latestOffset();
+		CountDownLatch written = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		// The first writer inserts its change first but commits after the second one
+		CompletableFuture<Void> slowWriter = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+			changeLog.record(flight(-1L, "SLOW1"), ChangeType.UPDATED);
+			entityManager.flush();
+			written.countDown();
+			await(release);
+		}));
+		assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+		transactionTemplate.executeWithoutResult(status -> changeLog.record(flight(-2L, "FAST2"), ChangeType.UPDATED));
+
+		// While the first writer is open nothing after it is handed out
+		FlightChangeFeedResponse held = changeLog.poll(start, 100, 0);
+		assertThat(held.getChanges()).noneMatch(change -> change.getFlightId() < 0);
+
+		release.countDown();
+		slowWriter.get(10, TimeUnit.SECONDS);
+
+		FlightChangeFeedResponse response = changeLog.poll(start, 100, 5000);
+		assertThat(response.getChanges()).extracting(FlightChangeDTO::getFlightNumber)
+				.containsSubsequence("SLOW1", "FAST2");
+		assertThat(response.getChanges()).extracting(FlightChangeDTO::getOffset)
+				.isSorted()
+				.allMatch(offset -> offset > start);
+		assertThat(response.getNextOffset()).isGreaterThan(start);
+	}
+
+	@Test
+	void positionsContinueAfterAPurgeThatRemovedEverythingOld() throws Exception {
+		transactionTemplate.executeWithoutResult(status -> changeLog.record(flight(-3L, "OLD3"), ChangeType.UPDATED));
+		changeLog.poll(0, 1, 0);
+		long last = latestOffset();
+
+		// Nothing was written for longer than the retention period
+		jdbcTemplate.update("UPDATE flight_changes SET created_at = created_at - interval '1000 hours'");
+		changeLog.purge();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flight_changes", Long.class)).isEqualTo(1);
+		assertThat(latestOffset()).isEqualTo(last);
+
+		transactionTemplate.executeWithoutResult(status -> changeLog.record(flight(-4L, "NEW4"), ChangeType.UPDATED));
+		FlightChangeFeedResponse response = changeLog.poll(last, 100, 5000);
+		assertThat(response.getChanges()).extracting(FlightChangeDTO::getFlightNumber).containsExactly("NEW4");
+		assertThat(response.getNextOffset()).isGreaterThan(last);
+	}
+
+	@AfterEach
+	void removeTestChanges() {
+		jdbcTemplate.update("DELETE FROM flight_changes WHERE flight_id < 0");
+	}
+
+	private long latestOffset() {
+		Long latest = jdbcTemplate.queryForObject("SELECT MAX(feed_position) FROM flight_changes", Long.class);
+		return latest != null ? latest : 0;
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Flight flight(Long id, String flightNumber) {
+		Flight flight = new Flight();
+		flight.setId(id);
+		flight.setFlightNumber(flightNumber);
+		flight.setAirline("Test Air");
+		flight.setOrigin("CMB");
+		flight.setDestination("DXB");
+		flight.setDepartureTime(LocalDateTime.now().plusDays(1));
+		flight.setArrivalTime(LocalDateTime.now().plusDays(1).plusHours(4));
+		flight.setPrice(new BigDecimal("250.00"));
+		flight.setTotalSeats(100);
+		flight.setAvailableSeats(100);
+		flight.setStatus(FlightStatus.SCHEDULED);
+		return flight;
+	}
+}
@@ -0,0 +1,64 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightImportResult;
+import com.Smart.Travel.Booking.Platform.Flight.Service.repository.FlightRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FlightImportServiceTest {
+
+	private static final int CHUNK_SIZE = 100;
+
+	private final FlightRepository flightRepository = mock(FlightRepository.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final FlightImportService service = new FlightImportService(flightRepository, mock(FlightChangeLog.class),
+			new ObjectMapper(), Validation.buildDefaultValidatorFactory().getValidator(),
+			new TransactionTemplate(transactionManager), entityManager, CHUNK_SIZE, 10);
+
+	@Test
+	void eachChunkIsFlushedAndClearedInItsOwnTransaction() throws Exception {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(flightRepository.findExistingFlightNumbers(anyCollection())).thenReturn(Set.of("IMP00002"));
+
+		FlightImportResult result = service.importFlights(csv(1_050), FlightImportService.TEXT_CSV);
+
+		assertThat(result.getTotalRows()).isEqualTo(1_050);
+		assertThat(result.getImported()).isEqualTo(1_049);
+		assertThat(result.getErrors()).singleElement()
+				.satisfies(error -> assertThat(error.getFlightNumber()).isEqualTo("IMP00002"));
+
+		int chunks = 11;
+		verify(transactionManager, times(chunks)).commit(any());
+		verify(entityManager, times(chunks)).clear();
+		var inOrder = inOrder(flightRepository, entityManager);
+		inOrder.verify(flightRepository).flush();
+		inOrder.verify(entityManager).clear();
+	}
+
+	static ByteArrayInputStream csv(int rows) {
+		StringBuilder csv = new StringBuilder(String.join(",", FlightImportService.CSV_COLUMNS)).append('\n');
+		for (int i = 1; i <= rows; i++) {
+			csv.append(String.format("IMP%05d,Test Air,CMB,DXB,2030-01-01T08:00,2030-01-01T12:00,250.00,180%n", i));
+		}
+		return new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
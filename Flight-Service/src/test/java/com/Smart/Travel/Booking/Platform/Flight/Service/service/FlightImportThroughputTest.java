@@ -0,0 +1,44 @@
+package com.Smart.Travel.Booking.Platform.Flight.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Flight.Service.dto.FlightImportResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class FlightImportThroughputTest {
+
+	private static final int ROWS = 20_000;
+
+	@Autowired
+	private FlightImportService importService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void importsTwentyThousandRowsInChunks() throws Exception {
+		long started = System.nanoTime();
+		FlightImportResult result = importService.importFlights(FlightImportServiceTest.csv(ROWS), FlightImportService.TEXT_CSV);
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		assertThat(result.getImported()).isEqualTo(ROWS);
+		assertThat(result.getFailed()).isZero();
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flights WHERE flight_number LIKE 'IMP%'", Long.class))
+				.isEqualTo(ROWS);
+		// Generous bound against the local database, to catch per-row round trips or an unbounded session
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(60));
+	}
+
+	@AfterEach
+	void removeImportedFlights() {
+		jdbcTemplate.update("DELETE FROM flight_changes WHERE flight_number LIKE 'IMP%'");
+		jdbcTemplate.update("DELETE FROM flights WHERE flight_number LIKE 'IMP%'");
+	}
+}
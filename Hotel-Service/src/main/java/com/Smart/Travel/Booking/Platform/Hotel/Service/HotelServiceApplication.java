@@ -2,8 +2,10 @@ package com.Smart.Travel.Booking.Platform.Hotel.Service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class HotelServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,22 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.config;
+
+import com.Smart.Travel.Booking.Platform.Common.limit.ConcurrencyLimitFilter;
+import com.Smart.Travel.Booking.Platform.Common.limit.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpMethod;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    // Settings under concurrency-limit.*
+    @Bean
+    public ConcurrencyLimitFilter bookingConcurrencyLimitFilter(Environment environment, MeterRegistry meterRegistry,
+                                                                ObjectMapper objectMapper) {
+        return new ConcurrencyLimitFilter(HttpMethod.POST, "/api/hotels/{id}/book",
+                ConcurrencyLimitProperties.bind(environment, "concurrency-limit"), meterRegistry, objectMapper);
+    }
+}
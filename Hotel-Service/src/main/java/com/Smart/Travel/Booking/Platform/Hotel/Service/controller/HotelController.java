@@ -1,6 +1,9 @@
 package com.Smart.Travel.Booking.Platform.Hotel.Service.controller;
 
 import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.*;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.service.HotelBulkUpdateService;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.service.HotelChangeLog;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.service.HotelRateCalendarService;
 import com.Smart.Travel.Booking.Platform.Hotel.Service.service.HotelService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,11 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -23,6 +28,9 @@ import java.util.List;
 public class HotelController {
 
     private final HotelService hotelService;
+    private final HotelBulkUpdateService hotelBulkUpdateService;
+    private final HotelRateCalendarService hotelRateCalendarService;
+    private final HotelChangeLog hotelChangeLog;
 
     @PostMapping
     @Operation(summary = "Create a new hotel", description = "Creates a new hotel in the system")
@@ -85,7 +93,7 @@ public class HotelController {
     @ApiResponse(responseCode = "200", description = "Search results retrieved successfully")
     public ResponseEntity<List<HotelDTO>> searchHotels(
             @Parameter(description = "City name") @RequestParam String city,
-            @Parameter(description = "Maximum price per night") @RequestParam BigDecimal maxPrice,
+            @Parameter(description = "Maximum price per night; no limit when omitted") @RequestParam(required = false) BigDecimal maxPrice,
             @Parameter(description = "Required rooms") @RequestParam(defaultValue = "1") Integer requiredRooms) {
         List<HotelDTO> hotels = hotelService.searchHotels(city, maxPrice, requiredRooms);
         return ResponseEntity.ok(hotels);
@@ -101,6 +109,20 @@ public class HotelController {
         return ResponseEntity.ok(hotels);
     }
 
+    @GetMapping("/changes")
+    @Operation(summary = "Hotel change feed",
+            description = "Long-polls the hotel change log: returns changes after the given offset, waiting up to waitMs "
+                    + "for new ones when there are none. Resume with the returned nextOffset")
+    @ApiResponse(responseCode = "200", description = "Changes after the offset, possibly empty")
+    public ResponseEntity<HotelChangeFeedResponse> getChanges(
+            @Parameter(description = "Offset of the last change already consumed") @RequestParam(defaultValue = "0") Long after,
+            @Parameter(description = "Maximum number of changes to return") @RequestParam(defaultValue = "500") Integer limit,
+            @Parameter(description = "How long to wait for new changes, in milliseconds") @RequestParam(defaultValue = "25000") Long waitMs)
+            throws InterruptedException {
+        HotelChangeFeedResponse response = hotelChangeLog.poll(after, limit, waitMs);
+        return ResponseEntity.ok(response);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Update hotel", description = "Updates an existing hotel")
     @ApiResponses(value = {
@@ -115,6 +137,20 @@ public class HotelController {
         return ResponseEntity.ok(updatedHotel);
     }
 
+    @PatchMapping("/bulk")
+    @Operation(summary = "Bulk update hotel rates and inventory",
+            description = "Updates price per night and/or total rooms for many hotels in chunked JDBC batches. "
+                    + "Total rooms are never reduced below already booked rooms; rejected rows are reported per hotel")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk update processed, see the result for per-row errors"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or too many rows")
+    })
+    public ResponseEntity<HotelBulkUpdateResult> bulkUpdateHotels(
+            @Valid @RequestBody HotelBulkUpdateRequest request) {
+        HotelBulkUpdateResult result = hotelBulkUpdateService.bulkUpdate(request);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete hotel (soft delete)", description = "Soft deletes a hotel")
     @ApiResponses(value = {
@@ -140,18 +176,71 @@ public class HotelController {
     }
 
     @GetMapping("/{id}/availability")
-    @Operation(summary = "Check hotel availability", description = "Checks if rooms are available at a hotel")
+    @Operation(summary = "Check hotel availability",
+            description = "Checks if rooms are available at a hotel; prices the stay when check-in and check-out dates are given")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Availability check completed"),
             @ApiResponse(responseCode = "404", description = "Hotel not found")
     })
     public ResponseEntity<HotelAvailabilityResponse> checkAvailability(
             @Parameter(description = "Hotel ID") @PathVariable Long id,
-            @Parameter(description = "Required rooms") @RequestParam(defaultValue = "1") Integer requiredRooms) {
-        HotelAvailabilityResponse response = hotelService.checkAvailability(id, requiredRooms);
+            @Parameter(description = "Required rooms") @RequestParam(defaultValue = "1") Integer requiredRooms,
+            @Parameter(description = "Check-in date") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkInDate,
+            @Parameter(description = "Check-out date") @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate checkOutDate) {
+        HotelAvailabilityResponse response = hotelService.checkAvailability(id, requiredRooms, checkInDate, checkOutDate);
         return ResponseEntity.ok(response);
     }
 
+    @PutMapping("/{id}/rates")
+    @Operation(summary = "Set hotel rate calendar",
+            description = "Replaces the hotel's per-night rates, built from a base rate, seasons and a weekend multiplier")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rate calendar set successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid input"),
+            @ApiResponse(responseCode = "404", description = "Hotel not found")
+    })
+    public ResponseEntity<RateCalendarDTO> setRateCalendar(
+            @Parameter(description = "Hotel ID") @PathVariable Long id,
+            @Valid @RequestBody RateCalendarRequest request) {
+        RateCalendarDTO calendar = hotelRateCalendarService.setCalendar(id, request);
+        return ResponseEntity.ok(calendar);
+    }
+
+    @GetMapping("/{id}/rates")
+    @Operation(summary = "Get hotel rate calendar", description = "Retrieves the hotel's per-night rates")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rate calendar found"),
+            @ApiResponse(responseCode = "404", description = "No rate calendar for the hotel")
+    })
+    public ResponseEntity<RateCalendarDTO> getRateCalendar(
+            @Parameter(description = "Hotel ID") @PathVariable Long id) {
+        RateCalendarDTO calendar = hotelRateCalendarService.getCalendar(id);
+        return ResponseEntity.ok(calendar);
+    }
+
+    @DeleteMapping("/{id}/rates")
+    @Operation(summary = "Delete hotel rate calendar", description = "Reverts the hotel to its flat price per night")
+    @ApiResponse(responseCode = "204", description = "Rate calendar removed")
+    public ResponseEntity<Void> deleteRateCalendar(
+            @Parameter(description = "Hotel ID") @PathVariable Long id) {
+        hotelRateCalendarService.deleteCalendar(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @PostMapping("/stay-totals")
+    @Operation(summary = "Get stay totals for many hotels",
+            description = "Prices the same stay at many hotels in one call, e.g. for a search result page")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Stay totals calculated"),
+            @ApiResponse(responseCode = "400", description = "Invalid dates or too many hotels")
+    })
+    public ResponseEntity<List<StayTotalDTO>> getStayTotals(@Valid @RequestBody StayTotalsRequest request) {
+        List<StayTotalDTO> totals = hotelRateCalendarService.getStayTotals(request);
+        return ResponseEntity.ok(totals);
+    }
+
     @PostMapping("/{id}/book")
     @Operation(summary = "Book rooms at hotel", description = "Books rooms at a hotel")
     @ApiResponses(value = {
@@ -2,6 +2,8 @@ package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
 
 import lombok.*;
 
+import java.math.BigDecimal;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -12,4 +14,6 @@ public class HotelAvailabilityResponse {
     private boolean available;
     private Integer availableRooms;
     private String message;
+    // Only set when the stay dates are given; priced from the hotel's rate calendar
+    private BigDecimal totalPrice;
 }
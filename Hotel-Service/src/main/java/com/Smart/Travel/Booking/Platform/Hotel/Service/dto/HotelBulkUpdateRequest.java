@@ -0,0 +1,36 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelBulkUpdateRequest {
+
+    @NotEmpty(message = "At least one update is required")
+    private List<@Valid @NotNull Item> updates;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotNull(message = "Hotel ID is required")
+        private Long id;
+
+        @Positive(message = "Price must be positive")
+        private BigDecimal pricePerNight;
+
+        @Positive(message = "Total rooms must be positive")
+        private Integer totalRooms;
+    }
+}
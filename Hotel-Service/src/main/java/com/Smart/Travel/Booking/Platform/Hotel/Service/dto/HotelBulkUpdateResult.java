@@ -0,0 +1,26 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelBulkUpdateResult {
+    private long totalRows;
+    private long updated;
+    private long failed;
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<RowError> errors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private Long hotelId;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange.ChangeType;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelChangeDTO {
+    private Long offset;
+    private Long hotelId;
+    private String hotelName;
+    private String city;
+    private ChangeType changeType;
+    private BigDecimal pricePerNight;
+    private Integer totalRooms;
+    private Integer availableRooms;
+    private Boolean isActive;
+    private LocalDateTime changedAt;
+}
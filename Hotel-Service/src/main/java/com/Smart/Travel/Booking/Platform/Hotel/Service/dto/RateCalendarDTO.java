@@ -0,0 +1,20 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateCalendarDTO {
+    private Long hotelId;
+    private LocalDate startDate;
+    private Integer nights;
+    private List<BigDecimal> nightlyRates;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,53 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateCalendarRequest {
+
+    @NotNull(message = "Start date is required")
+    private LocalDate startDate;
+
+    @NotNull(message = "Number of nights is required")
+    @Positive(message = "Number of nights must be positive")
+    private Integer nights;
+
+    // Defaults to the hotel's price per night
+    @Positive(message = "Base rate must be positive")
+    private BigDecimal baseRate;
+
+    // Applied to Friday and Saturday nights, on top of any season rate
+    @Positive(message = "Weekend multiplier must be positive")
+    private BigDecimal weekendMultiplier;
+
+    // Later seasons override earlier ones where they overlap
+    private List<@Valid @NotNull Season> seasons;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Season {
+
+        @NotNull(message = "Season start date is required")
+        private LocalDate from;
+
+        // Exclusive, like a check-out date
+        @NotNull(message = "Season end date is required")
+        private LocalDate to;
+
+        @NotNull(message = "Season price per night is required")
+        @Positive(message = "Season price must be positive")
+        private BigDecimal pricePerNight;
+    }
+}
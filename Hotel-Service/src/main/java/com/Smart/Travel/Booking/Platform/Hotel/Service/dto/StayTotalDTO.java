@@ -0,0 +1,17 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StayTotalDTO {
+    private Long hotelId;
+    private Integer nights;
+    private Integer rooms;
+    private BigDecimal averageNightlyRate;
+    private BigDecimal totalPrice;
+}
@@ -0,0 +1,29 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StayTotalsRequest {
+
+    @NotEmpty(message = "At least one hotel ID is required")
+    private List<@NotNull Long> hotelIds;
+
+    @NotNull(message = "Check-in date is required")
+    private LocalDate checkInDate;
+
+    @NotNull(message = "Check-out date is required")
+    private LocalDate checkOutDate;
+
+    // Defaults to one room
+    @Positive(message = "Rooms must be positive")
+    private Integer rooms;
+}
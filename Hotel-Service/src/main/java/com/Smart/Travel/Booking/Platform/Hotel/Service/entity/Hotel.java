@@ -10,15 +10,21 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hotels")
+@Table(name = "hotels", indexes = {
+        @Index(name = "idx_hotels_updated_at", columnList = "updated_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Hotel {
 
+    // Ids handed out per sequence round trip; the sequence is created with the same increment
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hotels_seq")
+    @SequenceGenerator(name = "hotels_seq", sequenceName = "hotels_seq", allocationSize = Hotel.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Hotel name is required")
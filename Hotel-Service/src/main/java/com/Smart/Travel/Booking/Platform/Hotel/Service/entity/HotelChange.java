@@ -0,0 +1,73 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Append-only change log entry, written in the same transaction as the hotel change it
+ * records. The feed position, assigned once the writing transaction has ended, is the feed
+ * offset.
+ */
+@Entity
+@Table(name = "hotel_changes", indexes = {
+        @Index(name = "idx_hotel_changes_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelChange {
+
+    // Ids only identify the entry; feed order comes from feedPosition
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hotel_changes_id_seq")
+    @SequenceGenerator(name = "hotel_changes_id_seq", sequenceName = "hotel_changes_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "hotel_name", nullable = false)
+    private String hotelName;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "price_per_night", nullable = false)
+    private BigDecimal pricePerNight;
+
+    @Column(name = "total_rooms", nullable = false)
+    private Integer totalRooms;
+
+    @Column(name = "available_rooms", nullable = false)
+    private Integer availableRooms;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // Id of the writing transaction, filled in by the database
+    @Column(insertable = false, updatable = false, columnDefinition = "bigint default txid_current()")
+    private Long txid;
+
+    @Column(name = "feed_position", unique = true, insertable = false, updatable = false)
+    private Long feedPosition;
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DEACTIVATED,
+        DELETED,
+        ROOMS_BOOKED,
+        ROOMS_RELEASED
+    }
+}
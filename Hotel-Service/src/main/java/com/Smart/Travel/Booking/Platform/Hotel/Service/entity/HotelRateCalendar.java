@@ -0,0 +1,48 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Nightly rates of one hotel for a contiguous range of nights, stored as a single integer
+ * array of cents (one element per night starting at {@code startDate}).
+ * {@code basePricePerNight} is the hotel's price the default nightly rate was taken from,
+ * or null when the calendar was given an explicit base rate.
+ */
+@Entity
+@Table(name = "hotel_rate_calendars")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HotelRateCalendar {
+
+    @Id
+    @Column(name = "hotel_id")
+    private Long hotelId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "nightly_rates_cents", nullable = false, columnDefinition = "integer[]")
+    private int[] nightlyRatesCents;
+
+    @Column(name = "base_price_per_night")
+    private BigDecimal basePricePerNight;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
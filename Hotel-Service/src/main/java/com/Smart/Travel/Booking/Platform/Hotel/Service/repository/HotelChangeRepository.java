@@ -0,0 +1,17 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface HotelChangeRepository extends JpaRepository<HotelChange, Long> {
+
+    @Query("SELECT c FROM HotelChange c WHERE c.feedPosition > :after ORDER BY c.feedPosition")
+    List<HotelChange> findChangesAfter(@Param("after") Long after, Pageable pageable);
+}
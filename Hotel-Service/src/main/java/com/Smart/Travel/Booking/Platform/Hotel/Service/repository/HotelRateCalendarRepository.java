@@ -0,0 +1,9 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.repository;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelRateCalendar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface HotelRateCalendarRepository extends JpaRepository<HotelRateCalendar, Long> {
+}
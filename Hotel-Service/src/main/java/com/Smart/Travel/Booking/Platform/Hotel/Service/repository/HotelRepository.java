@@ -2,11 +2,13 @@ package com.Smart.Travel.Booking.Platform.Hotel.Service.repository;
 
 import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,12 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
 
     Optional<Hotel> findByIdAndIsActiveTrue(Long id);
 
+    // Single conditional UPDATE so concurrent bookings cannot overbook; 0 when inactive or short of rooms
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Hotel h SET h.availableRooms = h.availableRooms - :rooms, h.updatedAt = :now " +
+           "WHERE h.id = :id AND h.isActive = true AND h.availableRooms >= :rooms")
+    int decrementAvailableRooms(@Param("id") Long id, @Param("rooms") int rooms, @Param("now") LocalDateTime now);
+
     List<Hotel> findByStarRatingGreaterThanEqual(Integer starRating);
 
     @Query("SELECT h FROM Hotel h WHERE h.city = :city AND h.availableRooms >= :requiredRooms " +
@@ -29,8 +37,9 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
             @Param("city") String city,
             @Param("requiredRooms") Integer requiredRooms);
 
-    @Query("SELECT h FROM Hotel h WHERE h.city = :city AND h.pricePerNight <= :maxPrice " +
-           "AND h.availableRooms >= :requiredRooms AND h.isActive = true")
+    // Same result as HotelSearchSnapshot.search: no price cap when maxPrice is null, cheapest first
+    @Query("SELECT h FROM Hotel h WHERE h.city = :city AND (:maxPrice IS NULL OR h.pricePerNight <= :maxPrice) " +
+           "AND h.availableRooms >= :requiredRooms AND h.isActive = true ORDER BY h.pricePerNight, h.id")
     List<Hotel> searchHotels(
             @Param("city") String city,
             @Param("maxPrice") BigDecimal maxPrice,
@@ -40,4 +49,6 @@ public interface HotelRepository extends JpaRepository<Hotel, Long> {
     List<Hotel> findAllAvailableHotels();
 
     List<Hotel> findByNameContainingIgnoreCase(String name);
+
+    List<Hotel> findByUpdatedAtGreaterThanEqual(LocalDateTime updatedAt);
 }
@@ -0,0 +1,202 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateResult;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateResult.RowError;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange.ChangeType;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies price and inventory changes to many hotels without loading them. Each chunk of
+ * the request runs in its own transaction and issues at most three JDBC batches, one per
+ * combination of changed columns. The "total rooms never below booked rooms" rule is part
+ * of the UPDATE's WHERE clause, so it holds even against concurrent bookings. Inactive
+ * hotels are left unchanged and reported as errors.
+ */
+@Service
+@Slf4j
+public class HotelBulkUpdateService {
+
+    private static final String UPDATE_PRICE =
+            "UPDATE hotels SET price_per_night = ?, updated_at = ? WHERE id = ? AND is_active = true";
+
+    // Booked rooms (total - available) stay constant, so available rooms move by the change in total
+    private static final String UPDATE_ROOMS =
+            "UPDATE hotels SET available_rooms = available_rooms + (? - total_rooms), total_rooms = ?, updated_at = ? " +
+            "WHERE id = ? AND is_active = true AND ? >= total_rooms - available_rooms";
+
+    private static final String UPDATE_PRICE_AND_ROOMS =
+            "UPDATE hotels SET price_per_night = ?, available_rooms = available_rooms + (? - total_rooms), " +
+            "total_rooms = ?, updated_at = ? WHERE id = ? AND is_active = true AND ? >= total_rooms - available_rooms";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HotelRepository hotelRepository;
+    private final HotelChangeLog hotelChangeLog;
+    private final HotelRateCalendarService hotelRateCalendarService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRows;
+
+    public HotelBulkUpdateService(
+            JdbcTemplate jdbcTemplate,
+            HotelRepository hotelRepository,
+            HotelChangeLog hotelChangeLog,
+            HotelRateCalendarService hotelRateCalendarService,
+            TransactionTemplate transactionTemplate,
+            @Value("${hotels.bulk-update.chunk-size:500}") int chunkSize,
+            @Value("${hotels.bulk-update.max-rows:10000}") int maxRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotelRepository = hotelRepository;
+        this.hotelChangeLog = hotelChangeLog;
+        this.hotelRateCalendarService = hotelRateCalendarService;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxRows = maxRows;
+    }
+
+    public HotelBulkUpdateResult bulkUpdate(HotelBulkUpdateRequest request) {
+        List<HotelBulkUpdateRequest.Item> items = request.getUpdates();
+        if (items.size() > maxRows) {
+            throw new IllegalArgumentException("Bulk update is limited to " + maxRows + " hotels per request");
+        }
+        log.info("Applying bulk update to {} hotels", items.size());
+
+        long started = System.nanoTime();
+        List<RowError> errors = new ArrayList<>();
+        List<HotelBulkUpdateRequest.Item> accepted = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>(items.size() * 2);
+        for (HotelBulkUpdateRequest.Item item : items) {
+            if (item.getPricePerNight() == null && item.getTotalRooms() == null) {
+                errors.add(new RowError(item.getId(), "Nothing to update"));
+            } else if (!seen.add(item.getId())) {
+                errors.add(new RowError(item.getId(), "Duplicate hotel id in request"));
+            } else {
+                accepted.add(item);
+            }
+        }
+
+        long updated = 0;
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            List<HotelBulkUpdateRequest.Item> chunk = accepted.subList(from, Math.min(from + chunkSize, accepted.size()));
+            try {
+                Integer count = transactionTemplate.execute(status -> updateChunk(chunk, errors));
+                updated += count != null ? count : 0;
+            } catch (DataAccessException e) {
+                log.error("Failed to apply hotel bulk update chunk: {}", e.getMostSpecificCause().getMessage());
+                for (HotelBulkUpdateRequest.Item item : chunk) {
+                    errors.add(new RowError(item.getId(), "Chunk update failed: " + e.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+
+        long durationNanos = Math.max(1, System.nanoTime() - started);
+        double rowsPerSecond = updated * 1_000_000_000d / durationNanos;
+        log.info("Hotel bulk update finished: {} rows, {} updated, {} failed in {} ms ({} rows/s)",
+                items.size(), updated, errors.size(), durationNanos / 1_000_000, Math.round(rowsPerSecond));
+
+        return HotelBulkUpdateResult.builder()
+                .totalRows(items.size())
+                .updated(updated)
+                .failed(errors.size())
+                .durationMs(durationNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .errors(errors)
+                .build();
+    }
+
+    private int updateChunk(List<HotelBulkUpdateRequest.Item> chunk, List<RowError> errors) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<HotelBulkUpdateRequest.Item> priceOnly = new ArrayList<>();
+        List<HotelBulkUpdateRequest.Item> roomsOnly = new ArrayList<>();
+        List<HotelBulkUpdateRequest.Item> both = new ArrayList<>();
+        for (HotelBulkUpdateRequest.Item item : chunk) {
+            if (item.getTotalRooms() == null) {
+                priceOnly.add(item);
+            } else if (item.getPricePerNight() == null) {
+                roomsOnly.add(item);
+            } else {
+                both.add(item);
+            }
+        }
+
+        List<Long> matched = new ArrayList<>(chunk.size());
+        List<Long> unmatched = new ArrayList<>();
+        executeBatch(UPDATE_PRICE, priceOnly, matched, unmatched, item -> new Object[]{
+                item.getPricePerNight(), now, item.getId()});
+        executeBatch(UPDATE_ROOMS, roomsOnly, matched, unmatched, item -> new Object[]{
+                item.getTotalRooms(), item.getTotalRooms(), now, item.getId(), item.getTotalRooms()});
+        executeBatch(UPDATE_PRICE_AND_ROOMS, both, matched, unmatched, item -> new Object[]{
+                item.getPricePerNight(), item.getTotalRooms(), item.getTotalRooms(), now, item.getId(),
+                item.getTotalRooms()});
+
+        if (!matched.isEmpty()) {
+            // The rows were changed behind the persistence context, so this reads their new state
+            hotelChangeLog.recordAll(hotelRepository.findAllById(matched), ChangeType.UPDATED);
+
+            Set<Long> updated = new HashSet<>(matched);
+            Map<Long, BigDecimal> newPrices = new HashMap<>();
+            for (HotelBulkUpdateRequest.Item item : chunk) {
+                if (item.getPricePerNight() != null && updated.contains(item.getId())) {
+                    newPrices.put(item.getId(), item.getPricePerNight());
+                }
+            }
+            if (!newPrices.isEmpty()) {
+                hotelRateCalendarService.pricesPerNightChanged(newPrices);
+            }
+        }
+        if (!unmatched.isEmpty()) {
+            // A row is left untouched because it does not exist, is inactive or fails the booked-rooms guard
+            Map<Long, Hotel> existing = hotelRepository.findAllById(unmatched).stream()
+                    .collect(Collectors.toMap(Hotel::getId, Function.identity()));
+            for (Long id : unmatched) {
+                Hotel hotel = existing.get(id);
+                if (hotel == null) {
+                    errors.add(new RowError(id, "Hotel not found with id: " + id));
+                } else if (!Boolean.TRUE.equals(hotel.getIsActive())) {
+                    errors.add(new RowError(id, "Hotel is inactive"));
+                } else {
+                    errors.add(new RowError(id, "Cannot reduce total rooms below already booked rooms"));
+                }
+            }
+        }
+        return matched.size();
+    }
+
+    private void executeBatch(String sql, List<HotelBulkUpdateRequest.Item> items, List<Long> matched, List<Long> unmatched,
+                             Function<HotelBulkUpdateRequest.Item, Object[]> parameters) {
+        if (items.isEmpty()) {
+            return;
+        }
+        List<Object[]> batchArgs = new ArrayList<>(items.size());
+        for (HotelBulkUpdateRequest.Item item : items) {
+            batchArgs.add(parameters.apply(item));
+        }
+        int[] counts = jdbcTemplate.batchUpdate(sql, batchArgs);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                unmatched.add(items.get(i).getId());
+            } else {
+                matched.add(items.get(i).getId());
+            }
+        }
+    }
+}
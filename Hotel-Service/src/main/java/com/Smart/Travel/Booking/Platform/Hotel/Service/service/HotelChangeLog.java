@@ -0,0 +1,126 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Common.feed.ChangeFeed;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelChangeDTO;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelChangeFeedResponse;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange.ChangeType;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelChangeRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Append-only log of hotel changes and the long-poll feed over it. Entries are written in
+ * the caller's transaction, so a change is in the feed exactly when it is committed; the
+ * offset is the entry's feed position, which {@link ChangeFeed} assigns in commit order.
+ */
+@Service
+@Slf4j
+public class HotelChangeLog {
+
+    private final HotelChangeRepository changeRepository;
+    private final ChangeFeed changeFeed;
+    private final long retentionHours;
+
+    public HotelChangeLog(
+            HotelChangeRepository changeRepository,
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            @Value("${hotels.change-feed.poll-interval-ms:500}") long pollIntervalMs,
+            @Value("${hotels.change-feed.max-wait-ms:30000}") long maxWaitMs,
+            @Value("${hotels.change-feed.max-limit:1000}") int maxLimit,
+            @Value("${hotels.change-feed.retention-hours:72}") long retentionHours) {
+        this.changeRepository = changeRepository;
+        this.changeFeed = new ChangeFeed(jdbcTemplate, transactionManager, "hotel_changes",
+                pollIntervalMs, maxWaitMs, maxLimit);
+        this.retentionHours = retentionHours;
+    }
+
+    @PostConstruct
+    public void initialize() {
+        changeFeed.initialize();
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Hotel hotel, ChangeType changeType) {
+        changeRepository.save(toChange(hotel, changeType, LocalDateTime.now()));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(Collection<Hotel> hotels, ChangeType changeType) {
+        LocalDateTime now = LocalDateTime.now();
+        List<HotelChange> changes = new ArrayList<>(hotels.size());
+        for (Hotel hotel : hotels) {
+            changes.add(toChange(hotel, changeType, now));
+        }
+        changeRepository.saveAll(changes);
+    }
+
+    /**
+     * Returns up to {@code limit} changes after the offset. When there are none yet, waits
+     * up to {@code waitMs} for new ones, checking every {@code poll-interval-ms}.
+     */
+    public HotelChangeFeedResponse poll(long after, int limit, long waitMs) throws InterruptedException {
+        List<HotelChange> changes = changeFeed.poll(after, limit, waitMs,
+                (position, pageSize) -> changeRepository.findChangesAfter(position, PageRequest.of(0, pageSize)));
+
+        List<HotelChangeDTO> dtos = changes.stream().map(this::mapToDTO).toList();
+        return HotelChangeFeedResponse.builder()
+                .changes(dtos)
+                .nextOffset(dtos.isEmpty() ? after : dtos.get(dtos.size() - 1).getOffset())
+                .oldestOffset(changeFeed.oldestPosition())
+                .build();
+    }
+
+    @Scheduled(cron = "${hotels.change-feed.purge-cron:0 15 * * * *}")
+    @Transactional
+    public void purge() {
+        int deleted = changeFeed.purgeOlderThan(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} hotel change log entries older than {} hours", deleted, retentionHours);
+        }
+    }
+
+    private static HotelChange toChange(Hotel hotel, ChangeType changeType, LocalDateTime now) {
+        return HotelChange.builder()
+                .hotelId(hotel.getId())
+                .hotelName(hotel.getName())
+                .city(hotel.getCity())
+                .changeType(changeType)
+                .pricePerNight(hotel.getPricePerNight())
+                .totalRooms(hotel.getTotalRooms())
+                .availableRooms(hotel.getAvailableRooms())
+                .isActive(hotel.getIsActive())
+                .createdAt(now)
+                .build();
+    }
+
+    private HotelChangeDTO mapToDTO(HotelChange change) {
+        return HotelChangeDTO.builder()
+                .offset(change.getFeedPosition())
+                .hotelId(change.getHotelId())
+                .hotelName(change.getHotelName())
+                .city(change.getCity())
+                .changeType(change.getChangeType())
+                .pricePerNight(change.getPricePerNight())
+                .totalRooms(change.getTotalRooms())
+                .availableRooms(change.getAvailableRooms())
+                .isActive(change.getIsActive())
+                .changedAt(change.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,372 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.RateCalendarDTO;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.RateCalendarRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.StayTotalDTO;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.StayTotalsRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelRateCalendar;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.exception.ResourceNotFoundException;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRateCalendarRepository;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Per-night rate calendars. Each hotel's calendar is kept in memory as prefix sums of its
+ * nightly rates in cents, so the total of any stay is two array reads regardless of its
+ * length. Nights outside a hotel's calendar, and hotels without one, are priced at the
+ * hotel's flat price per night. A year of rates costs about 1.5 KB per hotel.
+ * <p>
+ * Calendars written here reach the in-memory copy once their transaction commits. Changes
+ * made by other instances are picked up by a refresh that reads the calendars whose
+ * {@code updated_at} moved, and deletions by a periodic full reload. Until the first load has
+ * finished, stays are priced from the database and {@link RateCalendarHealthIndicator}
+ * keeps the instance out of the readiness group.
+ * <p>
+ * Rates are stored in absolute cents. A calendar whose base rate was taken from the hotel's
+ * price per night is dropped when that price changes, since its nights would otherwise keep
+ * the old price; a calendar with an explicit base rate is kept as it is.
+ */
+@Service
+@Slf4j
+public class HotelRateCalendarService {
+
+    private final HotelRepository hotelRepository;
+    private final HotelRateCalendarRepository calendarRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxNights;
+    private final int maxHotelsPerRequest;
+    private final long commitLagMs;
+    private final long fullReloadIntervalMs;
+
+    private final Map<Long, StayPrices> stayPrices = new ConcurrentHashMap<>();
+    // Set by the first full load; null until then
+    private volatile LocalDateTime watermark;
+    private volatile long fullLoadedAt;
+
+    public HotelRateCalendarService(
+            HotelRepository hotelRepository,
+            HotelRateCalendarRepository calendarRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${hotels.rate-calendar.max-nights:730}") int maxNights,
+            @Value("${hotels.rate-calendar.max-hotels-per-request:1000}") int maxHotelsPerRequest,
+            @Value("${hotels.rate-calendar.commit-lag-ms:5000}") long commitLagMs,
+            @Value("${hotels.rate-calendar.full-reload-interval-ms:300000}") long fullReloadIntervalMs) {
+        this.hotelRepository = hotelRepository;
+        this.calendarRepository = calendarRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxNights = maxNights;
+        this.maxHotelsPerRequest = maxHotelsPerRequest;
+        this.commitLagMs = commitLagMs;
+        this.fullReloadIntervalMs = fullReloadIntervalMs;
+    }
+
+    public boolean isLoaded() {
+        return watermark != null;
+    }
+
+    /**
+     * Loads every calendar on the first run and every {@code full-reload-interval-ms}, and
+     * otherwise only the calendars updated since the previous run. Holds the lock that
+     * committed local changes take, so a reload never overwrites a newer local change.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${hotels.rate-calendar.refresh-interval-ms:5000}")
+    public synchronized void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            if (watermark == null || now - fullLoadedAt >= fullReloadIntervalMs) {
+                fullLoad(now);
+            } else {
+                loadChanged();
+            }
+        } catch (RuntimeException e) {
+            // Keep pricing from what is loaded, or from the database before the first load
+            log.warn("Failed to refresh hotel rate calendars: {}", e.getMessage());
+        }
+    }
+
+    private void fullLoad(long now) {
+        LocalDateTime loadedFrom = LocalDateTime.now();
+        // Read through JDBC so that thousands of calendars do not pile up in a persistence context
+        Map<Long, StayPrices> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT hotel_id, start_date, nightly_rates_cents FROM hotel_rate_calendars",
+                rs -> {
+                    loaded.put(rs.getLong("hotel_id"), readStayPrices(rs));
+                });
+        stayPrices.keySet().retainAll(loaded.keySet());
+        stayPrices.putAll(loaded);
+        watermark = loadedFrom;
+        fullLoadedAt = now;
+        log.info("Loaded {} hotel rate calendars in {} ms", loaded.size(), System.currentTimeMillis() - now);
+    }
+
+    private void loadChanged() {
+        LocalDateTime loadedFrom = LocalDateTime.now();
+        // Re-read a window before the watermark so calendars committed late with an earlier updated_at are not missed
+        jdbcTemplate.query("SELECT hotel_id, start_date, nightly_rates_cents FROM hotel_rate_calendars WHERE updated_at >= ?",
+                rs -> {
+                    stayPrices.put(rs.getLong("hotel_id"), readStayPrices(rs));
+                },
+                Timestamp.valueOf(watermark.minusNanos(commitLagMs * 1_000_000)));
+        watermark = loadedFrom;
+    }
+
+    private static StayPrices readStayPrices(ResultSet rs) throws SQLException {
+        Array rates = rs.getArray("nightly_rates_cents");
+        Integer[] values = (Integer[]) rates.getArray();
+        int[] nightly = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nightly[i] = values[i];
+        }
+        return StayPrices.of(rs.getDate("start_date").toLocalDate(), nightly);
+    }
+
+    @Transactional
+    public RateCalendarDTO setCalendar(Long hotelId, RateCalendarRequest request) {
+        log.info("Setting rate calendar for hotel {} from {} for {} nights", hotelId, request.getStartDate(), request.getNights());
+
+        Hotel hotel = hotelRepository.findById(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + hotelId));
+        if (request.getNights() > maxNights) {
+            throw new IllegalArgumentException("Rate calendar is limited to " + maxNights + " nights");
+        }
+
+        LocalDate start = request.getStartDate();
+        int nights = request.getNights();
+        int[] rates = new int[nights];
+        BigDecimal baseRate = request.getBaseRate() != null ? request.getBaseRate() : hotel.getPricePerNight();
+        Arrays.fill(rates, toCents(baseRate));
+
+        if (request.getSeasons() != null) {
+            for (RateCalendarRequest.Season season : request.getSeasons()) {
+                if (!season.getTo().isAfter(season.getFrom())) {
+                    throw new IllegalArgumentException("Season end date must be after its start date");
+                }
+                int from = (int) Math.max(0, season.getFrom().toEpochDay() - start.toEpochDay());
+                int to = (int) Math.min(nights, season.getTo().toEpochDay() - start.toEpochDay());
+                if (from < to) {
+                    Arrays.fill(rates, from, to, toCents(season.getPricePerNight()));
+                }
+            }
+        }
+
+        BigDecimal weekendMultiplier = request.getWeekendMultiplier();
+        if (weekendMultiplier != null && weekendMultiplier.compareTo(BigDecimal.ONE) != 0) {
+            for (int i = 0; i < nights; i++) {
+                DayOfWeek day = start.plusDays(i).getDayOfWeek();
+                if (day == DayOfWeek.FRIDAY || day == DayOfWeek.SATURDAY) {
+                    rates[i] = BigDecimal.valueOf(rates[i]).multiply(weekendMultiplier)
+                            .setScale(0, RoundingMode.HALF_UP).intValueExact();
+                }
+            }
+        }
+
+        StayPrices prices = StayPrices.of(start, rates);
+        HotelRateCalendar calendar = calendarRepository.save(HotelRateCalendar.builder()
+                .hotelId(hotelId)
+                .startDate(start)
+                .nightlyRatesCents(rates)
+                .basePricePerNight(request.getBaseRate() == null ? hotel.getPricePerNight() : null)
+                .build());
+        afterCommit(() -> stayPrices.put(hotelId, prices));
+
+        log.info("Rate calendar set for hotel {}", hotelId);
+        return mapToDTO(calendar);
+    }
+
+    @Transactional(readOnly = true)
+    public RateCalendarDTO getCalendar(Long hotelId) {
+        return calendarRepository.findById(hotelId)
+                .map(this::mapToDTO)
+                .orElseThrow(() -> new ResourceNotFoundException("No rate calendar for hotel with id: " + hotelId));
+    }
+
+    @Transactional
+    public void deleteCalendar(Long hotelId) {
+        log.info("Removing rate calendar for hotel {}", hotelId);
+        if (calendarRepository.existsById(hotelId)) {
+            calendarRepository.deleteById(hotelId);
+        }
+        afterCommit(() -> stayPrices.remove(hotelId));
+    }
+
+    /**
+     * Drops the hotel's calendar when its base rate was taken from a different price per night.
+     */
+    @Transactional
+    public void pricePerNightChanged(Long hotelId, BigDecimal pricePerNight) {
+        pricesPerNightChanged(Map.of(hotelId, pricePerNight));
+    }
+
+    /**
+     * Like {@link #pricePerNightChanged} for many hotels, keyed by hotel id, with one read.
+     */
+    @Transactional
+    public void pricesPerNightChanged(Map<Long, BigDecimal> pricesPerNight) {
+        for (HotelRateCalendar calendar : calendarRepository.findAllById(pricesPerNight.keySet())) {
+            Long hotelId = calendar.getHotelId();
+            BigDecimal pricePerNight = pricesPerNight.get(hotelId);
+            if (calendar.getBasePricePerNight() != null && calendar.getBasePricePerNight().compareTo(pricePerNight) != 0) {
+                log.warn("Price per night of hotel {} changed from {} to {}; removing its rate calendar",
+                        hotelId, calendar.getBasePricePerNight(), pricePerNight);
+                calendarRepository.delete(calendar);
+                afterCommit(() -> stayPrices.remove(hotelId));
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<StayTotalDTO> getStayTotals(StayTotalsRequest request) {
+        Set<Long> hotelIds = new LinkedHashSet<>(request.getHotelIds());
+        if (hotelIds.size() > maxHotelsPerRequest) {
+            throw new IllegalArgumentException("Stay totals are limited to " + maxHotelsPerRequest + " hotels per request");
+        }
+        int rooms = request.getRooms() != null ? request.getRooms() : 1;
+        int nights = nightsBetween(request.getCheckInDate(), request.getCheckOutDate());
+
+        Map<Long, Hotel> hotels = hotelRepository.findAllById(hotelIds).stream()
+                .collect(Collectors.toMap(Hotel::getId, Function.identity()));
+
+        // Hotels that do not exist are left out, as they would be from a search result
+        List<StayTotalDTO> totals = new ArrayList<>(hotels.size());
+        for (Long hotelId : hotelIds) {
+            Hotel hotel = hotels.get(hotelId);
+            if (hotel != null) {
+                BigDecimal total = stayTotal(hotel, request.getCheckInDate(), request.getCheckOutDate(), rooms);
+                totals.add(StayTotalDTO.builder()
+                        .hotelId(hotelId)
+                        .nights(nights)
+                        .rooms(rooms)
+                        .averageNightlyRate(total.divide(BigDecimal.valueOf((long) nights * rooms), 2, RoundingMode.HALF_UP))
+                        .totalPrice(total)
+                        .build());
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Total price of a stay, checkIn inclusive and checkOut exclusive, for the given number of rooms.
+     */
+    public BigDecimal stayTotal(Hotel hotel, LocalDate checkIn, LocalDate checkOut, int rooms) {
+        nightsBetween(checkIn, checkOut);
+        StayPrices prices = isLoaded()
+                ? stayPrices.get(hotel.getId())
+                : calendarRepository.findById(hotel.getId())
+                        .map(calendar -> StayPrices.of(calendar.getStartDate(), calendar.getNightlyRatesCents()))
+                        .orElse(null);
+        long cents = stayCents(prices, toCents(hotel.getPricePerNight()), checkIn.toEpochDay(), checkOut.toEpochDay());
+        return BigDecimal.valueOf(cents, 2).multiply(BigDecimal.valueOf(rooms));
+    }
+
+    static long stayCents(StayPrices prices, long flatCents, long checkIn, long checkOut) {
+        long total = (checkOut - checkIn) * flatCents;
+        if (prices == null) {
+            return total;
+        }
+        long from = Math.max(checkIn, prices.startDay());
+        long to = Math.min(checkOut, prices.startDay() + prices.nights());
+        if (from < to) {
+            int[] prefix = prices.prefixCents();
+            // Swap the flat-rate nights covered by the calendar for their calendar rates
+            total += prefix[(int) (to - prices.startDay())] - prefix[(int) (from - prices.startDay())]
+                    - (to - from) * flatCents;
+        }
+        return total;
+    }
+
+    // Under the refresh lock, so a reload that read the table before this commit cannot undo it
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                change.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (HotelRateCalendarService.this) {
+                    change.run();
+                }
+            }
+        });
+    }
+
+    private static int nightsBetween(LocalDate checkIn, LocalDate checkOut) {
+        if (!checkOut.isAfter(checkIn)) {
+            throw new IllegalArgumentException("Check-out date must be after check-in date");
+        }
+        return (int) (checkOut.toEpochDay() - checkIn.toEpochDay());
+    }
+
+    private static int toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).intValueExact();
+    }
+
+    private RateCalendarDTO mapToDTO(HotelRateCalendar calendar) {
+        int[] rates = calendar.getNightlyRatesCents();
+        List<BigDecimal> nightlyRates = new ArrayList<>(rates.length);
+        for (int rate : rates) {
+            nightlyRates.add(BigDecimal.valueOf(rate, 2));
+        }
+        return RateCalendarDTO.builder()
+                .hotelId(calendar.getHotelId())
+                .startDate(calendar.getStartDate())
+                .nights(rates.length)
+                .nightlyRates(nightlyRates)
+                .updatedAt(calendar.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Prefix sums of a calendar: prefixCents[i] is the total of the first i nights, so the
+     * nights [a, b) cost prefixCents[b] - prefixCents[a]. Totals are kept in int cents,
+     * which bounds a calendar to about 21 million in total.
+     */
+    record StayPrices(long startDay, int[] prefixCents) {
+
+        static StayPrices of(LocalDate startDate, int[] nightlyCents) {
+            int[] prefix = new int[nightlyCents.length + 1];
+            try {
+                for (int i = 0; i < nightlyCents.length; i++) {
+                    prefix[i + 1] = Math.addExact(prefix[i], nightlyCents[i]);
+                }
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Rate calendar total is too large");
+            }
+            return new StayPrices(startDate.toEpochDay(), prefix);
+        }
+
+        int nights() {
+            return prefixCents.length - 1;
+        }
+    }
+}
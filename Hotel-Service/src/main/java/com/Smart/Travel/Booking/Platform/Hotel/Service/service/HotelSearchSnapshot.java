@@ -0,0 +1,206 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves hotel search from an immutable in-memory snapshot instead of the primary that
+ * bookings write to. Every refresh reads only the rows whose {@code updatedAt} moved since
+ * the previous one, rebuilds the cities they touch and publishes the new snapshot with a
+ * single volatile write, so a search always sees one consistent version. When the snapshot
+ * is older than {@code max-staleness-ms}, search goes back to the database.
+ */
+@Component
+@Slf4j
+public class HotelSearchSnapshot {
+
+    private static final Comparator<Hotel> BY_PRICE =
+            Comparator.comparing(Hotel::getPricePerNight).thenComparing(Hotel::getId);
+
+    private final HotelRepository hotelRepository;
+    private final boolean enabled;
+    private final long maxStalenessMs;
+    private final long commitLagMs;
+    private final long fullRebuildIntervalMs;
+
+    private final Counter hits;
+    private final Counter fallbacks;
+
+    // Null until the first build; replaced as a whole, never modified
+    private volatile Snapshot current;
+
+    public HotelSearchSnapshot(
+            HotelRepository hotelRepository,
+            MeterRegistry meterRegistry,
+            @Value("${hotels.search-snapshot.enabled:true}") boolean enabled,
+            @Value("${hotels.search-snapshot.max-staleness-ms:5000}") long maxStalenessMs,
+            @Value("${hotels.search-snapshot.commit-lag-ms:5000}") long commitLagMs,
+            @Value("${hotels.search-snapshot.full-rebuild-interval-ms:300000}") long fullRebuildIntervalMs) {
+        this.hotelRepository = hotelRepository;
+        this.enabled = enabled;
+        this.maxStalenessMs = maxStalenessMs;
+        this.commitLagMs = commitLagMs;
+        this.fullRebuildIntervalMs = fullRebuildIntervalMs;
+
+        this.hits = Counter.builder("hotels.search.snapshot.hits")
+                .description("Hotel searches answered from the in-memory snapshot")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("hotels.search.snapshot.fallbacks")
+                .description("Hotel searches sent to the database because the snapshot was missing or stale")
+                .register(meterRegistry);
+        Gauge.builder("hotels.search.snapshot.age", this, s -> s.ageMs() / 1000.0)
+                .description("Seconds since the hotel search snapshot was last refreshed")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Active hotels in the city with enough rooms, cheapest first, optionally capped at a
+     * price per night; or empty when the snapshot cannot be used and the caller should
+     * query the database.
+     */
+    public Optional<List<Hotel>> search(String city, BigDecimal maxPrice, int requiredRooms) {
+        Snapshot snapshot = current;
+        if (!enabled || snapshot == null || System.currentTimeMillis() - snapshot.refreshedAt() > maxStalenessMs) {
+            fallbacks.increment();
+            return Optional.empty();
+        }
+
+        List<Hotel> result = new ArrayList<>();
+        for (Hotel hotel : snapshot.byCity().getOrDefault(city, List.of())) {
+            if (maxPrice != null && hotel.getPricePerNight().compareTo(maxPrice) > 0) {
+                break;
+            }
+            if (Boolean.TRUE.equals(hotel.getIsActive()) && hotel.getAvailableRooms() >= requiredRooms) {
+                result.add(hotel);
+            }
+        }
+        hits.increment();
+        return Optional.of(result);
+    }
+
+    @Scheduled(fixedDelayString = "${hotels.search-snapshot.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Snapshot previous = current;
+            long now = System.currentTimeMillis();
+            current = previous == null || now - previous.builtAt() >= fullRebuildIntervalMs
+                    ? fullBuild(now)
+                    : applyChanges(previous, now);
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot until it goes stale
+            log.warn("Failed to refresh hotel search snapshot: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Drops a hard-deleted hotel right away on this instance. Deletes leave no updatedAt
+     * behind, so other instances only lose the hotel on their next full rebuild.
+     */
+    public synchronized void remove(Long hotelId) {
+        Snapshot previous = current;
+        if (previous == null || !previous.byId().containsKey(hotelId)) {
+            return;
+        }
+        Map<Long, Hotel> byId = new HashMap<>(previous.byId());
+        Hotel removed = byId.remove(hotelId);
+        Map<String, List<Hotel>> byCity = new HashMap<>(previous.byCity());
+        List<Hotel> hotels = new ArrayList<>(byCity.get(removed.getCity()));
+        hotels.removeIf(h -> h.getId().equals(hotelId));
+        putCity(byCity, removed.getCity(), hotels);
+        current = new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byCity),
+                previous.watermark(), previous.builtAt(), previous.refreshedAt());
+    }
+
+    private Snapshot fullBuild(long now) {
+        LocalDateTime watermark = LocalDateTime.now();
+        List<Hotel> hotels = hotelRepository.findAll();
+
+        Map<Long, Hotel> byId = new HashMap<>(hotels.size() * 2);
+        Map<String, List<Hotel>> grouped = new HashMap<>();
+        for (Hotel hotel : hotels) {
+            byId.put(hotel.getId(), hotel);
+            grouped.computeIfAbsent(hotel.getCity(), k -> new ArrayList<>()).add(hotel);
+        }
+        Map<String, List<Hotel>> byCity = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((city, cityHotels) -> putCity(byCity, city, cityHotels));
+
+        log.info("Built hotel search snapshot with {} hotels in {} cities in {} ms",
+                byId.size(), byCity.size(), System.currentTimeMillis() - now);
+        return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byCity), watermark, now, now);
+    }
+
+    private Snapshot applyChanges(Snapshot previous, long now) {
+        LocalDateTime watermark = LocalDateTime.now();
+        // Re-read a window before the watermark so rows committed late with an earlier updatedAt are not missed
+        List<Hotel> changed = hotelRepository.findByUpdatedAtGreaterThanEqual(
+                previous.watermark().minusNanos(commitLagMs * 1_000_000));
+        if (changed.isEmpty()) {
+            return new Snapshot(previous.byId(), previous.byCity(), watermark, previous.builtAt(), now);
+        }
+
+        Map<Long, Hotel> byId = new HashMap<>(previous.byId());
+        Map<String, List<Hotel>> changedByCity = new HashMap<>();
+        for (Hotel hotel : changed) {
+            Hotel old = byId.put(hotel.getId(), hotel);
+            if (old != null) {
+                // The hotel may have moved to another city; its old city has to be rebuilt too
+                changedByCity.computeIfAbsent(old.getCity(), k -> new ArrayList<>());
+            }
+            changedByCity.computeIfAbsent(hotel.getCity(), k -> new ArrayList<>()).add(hotel);
+        }
+
+        Map<String, List<Hotel>> byCity = new HashMap<>(previous.byCity());
+        changedByCity.forEach((city, cityChanges) -> {
+            List<Hotel> hotels = new ArrayList<>(cityChanges);
+            for (Hotel hotel : previous.byCity().getOrDefault(city, List.of())) {
+                if (byId.get(hotel.getId()) == hotel) {
+                    hotels.add(hotel);
+                }
+            }
+            putCity(byCity, city, hotels);
+        });
+
+        log.debug("Applied {} changed hotels to the search snapshot", changed.size());
+        return new Snapshot(Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byCity),
+                watermark, previous.builtAt(), now);
+    }
+
+    private static void putCity(Map<String, List<Hotel>> byCity, String city, List<Hotel> hotels) {
+        if (hotels.isEmpty()) {
+            byCity.remove(city);
+        } else {
+            hotels.sort(BY_PRICE);
+            byCity.put(city, Collections.unmodifiableList(hotels));
+        }
+    }
+
+    private long ageMs() {
+        Snapshot snapshot = current;
+        return snapshot != null ? System.currentTimeMillis() - snapshot.refreshedAt() : 0;
+    }
+
+    private record Snapshot(Map<Long, Hotel> byId, Map<String, List<Hotel>> byCity,
+                            LocalDateTime watermark, long builtAt, long refreshedAt) {
+    }
+}
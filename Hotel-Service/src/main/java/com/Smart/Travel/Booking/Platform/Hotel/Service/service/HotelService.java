@@ -2,6 +2,7 @@ package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
 
 import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.*;
 import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelChange.ChangeType;
 import com.Smart.Travel.Booking.Platform.Hotel.Service.exception.InsufficientRoomsException;
 import com.Smart.Travel.Booking.Platform.Hotel.Service.exception.ResourceNotFoundException;
 import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
@@ -11,6 +12,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -21,6 +24,9 @@ import java.util.stream.Collectors;
 public class HotelService {
 
     private final HotelRepository hotelRepository;
+    private final HotelRateCalendarService hotelRateCalendarService;
+    private final HotelSearchSnapshot hotelSearchSnapshot;
+    private final HotelChangeLog hotelChangeLog;
 
     public HotelDTO createHotel(CreateHotelRequest request) {
         log.info("Creating new hotel: {}", request.getName());
@@ -41,6 +47,7 @@ public class HotelService {
                 .build();
 
         Hotel savedHotel = hotelRepository.save(hotel);
+        hotelChangeLog.record(savedHotel, ChangeType.CREATED);
         log.info("Hotel created successfully with id: {}", savedHotel.getId());
 
         return mapToDTO(savedHotel);
@@ -89,7 +96,9 @@ public class HotelService {
     @Transactional(readOnly = true)
     public List<HotelDTO> searchHotels(String city, BigDecimal maxPrice, Integer requiredRooms) {
         log.info("Searching hotels in {} with max price {} and {} rooms", city, maxPrice, requiredRooms);
-        return hotelRepository.searchHotels(city, maxPrice, requiredRooms).stream()
+        return hotelSearchSnapshot.search(city, maxPrice, requiredRooms)
+                .orElseGet(() -> hotelRepository.searchHotels(city, maxPrice, requiredRooms))
+                .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -97,7 +106,9 @@ public class HotelService {
     @Transactional(readOnly = true)
     public List<HotelDTO> getAvailableHotelsByCity(String city, Integer requiredRooms) {
         log.info("Fetching available hotels in city: {} with {} rooms", city, requiredRooms);
-        return hotelRepository.findAvailableHotelsByCity(city, requiredRooms).stream()
+        return hotelSearchSnapshot.search(city, null, requiredRooms)
+                .orElseGet(() -> hotelRepository.findAvailableHotelsByCity(city, requiredRooms))
+                .stream()
                 .map(this::mapToDTO)
                 .collect(Collectors.toList());
     }
@@ -123,6 +134,8 @@ public class HotelService {
         if (request.getStarRating() != null) {
             hotel.setStarRating(request.getStarRating());
         }
+        boolean priceChanged = request.getPricePerNight() != null
+                && request.getPricePerNight().compareTo(hotel.getPricePerNight()) != 0;
         if (request.getPricePerNight() != null) {
             hotel.setPricePerNight(request.getPricePerNight());
         }
@@ -148,6 +161,10 @@ public class HotelService {
         }
 
         Hotel updatedHotel = hotelRepository.save(hotel);
+        hotelChangeLog.record(updatedHotel, ChangeType.UPDATED);
+        if (priceChanged) {
+            hotelRateCalendarService.pricePerNightChanged(id, updatedHotel.getPricePerNight());
+        }
         log.info("Hotel updated successfully with id: {}", updatedHotel.getId());
 
         return mapToDTO(updatedHotel);
@@ -161,22 +178,25 @@ public class HotelService {
 
         hotel.setIsActive(false);
         hotelRepository.save(hotel);
+        hotelChangeLog.record(hotel, ChangeType.DEACTIVATED);
         log.info("Hotel soft deleted successfully with id: {}", id);
     }
 
     public void hardDeleteHotel(Long id) {
         log.info("Hard deleting hotel with id: {}", id);
 
-        if (!hotelRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Hotel not found with id: " + id);
-        }
+        Hotel hotel = hotelRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
 
-        hotelRepository.deleteById(id);
+        hotelChangeLog.record(hotel, ChangeType.DELETED);
+        hotelRepository.delete(hotel);
+        hotelRateCalendarService.deleteCalendar(id);
+        hotelSearchSnapshot.remove(id);
         log.info("Hotel hard deleted successfully with id: {}", id);
     }
 
     @Transactional(readOnly = true)
-    public HotelAvailabilityResponse checkAvailability(Long id, Integer requiredRooms) {
+    public HotelAvailabilityResponse checkAvailability(Long id, Integer requiredRooms, LocalDate checkInDate, LocalDate checkOutDate) {
         log.info("Checking availability for hotel {} with {} rooms", id, requiredRooms);
 
         Hotel hotel = hotelRepository.findById(id)
@@ -196,25 +216,28 @@ public class HotelService {
                 .available(isAvailable)
                 .availableRooms(hotel.getAvailableRooms())
                 .message(message)
+                .totalPrice(checkInDate != null && checkOutDate != null
+                        ? hotelRateCalendarService.stayTotal(hotel, checkInDate, checkOutDate, requiredRooms)
+                        : null)
                 .build();
     }
 
     public HotelDTO bookRooms(Long id, Integer numberOfRooms) {
         log.info("Booking {} rooms for hotel {}", numberOfRooms, id);
 
-        Hotel hotel = hotelRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
+        if (hotelRepository.decrementAvailableRooms(id, numberOfRooms, LocalDateTime.now()) == 0) {
+            Hotel hotel = hotelRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
 
-        if (!hotel.getIsActive()) {
-            throw new IllegalStateException("Cannot book rooms at an inactive hotel");
-        }
-
-        if (hotel.getAvailableRooms() < numberOfRooms) {
+            if (!hotel.getIsActive()) {
+                throw new IllegalStateException("Cannot book rooms at an inactive hotel");
+            }
             throw new InsufficientRoomsException("Only " + hotel.getAvailableRooms() + " rooms available, requested: " + numberOfRooms);
         }
 
-        hotel.setAvailableRooms(hotel.getAvailableRooms() - numberOfRooms);
-        Hotel updatedHotel = hotelRepository.save(hotel);
+        Hotel updatedHotel = hotelRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
+        hotelChangeLog.record(updatedHotel, ChangeType.ROOMS_BOOKED);
 
         log.info("Successfully booked {} rooms for hotel {}", numberOfRooms, id);
         return mapToDTO(updatedHotel);
@@ -233,6 +256,7 @@ public class HotelService {
 
         hotel.setAvailableRooms(newAvailableRooms);
         Hotel updatedHotel = hotelRepository.save(hotel);
+        hotelChangeLog.record(updatedHotel, ChangeType.ROOMS_RELEASED);
 
         log.info("Successfully released {} rooms for hotel {}", numberOfRooms, id);
         return mapToDTO(updatedHotel);
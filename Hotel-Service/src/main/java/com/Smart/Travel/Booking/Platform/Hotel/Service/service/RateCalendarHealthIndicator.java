@@ -0,0 +1,26 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Down until the rate calendars are in memory; part of the readiness group, so an instance
+ * only takes traffic once stays are priced without a database read per hotel.
+ */
+@Component("rateCalendar")
+public class RateCalendarHealthIndicator implements HealthIndicator {
+
+    private final HotelRateCalendarService rateCalendarService;
+
+    public RateCalendarHealthIndicator(HotelRateCalendarService rateCalendarService) {
+        this.rateCalendarService = rateCalendarService;
+    }
+
+    @Override
+    public Health health() {
+        return rateCalendarService.isLoaded()
+                ? Health.up().build()
+                : Health.outOfService().withDetail("reason", "rate calendars are not loaded yet").build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateResult;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.HotelBulkUpdateResult.RowError;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.RateCalendarRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRateCalendarRepository;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class HotelBulkUpdateServiceTest {
+
+	private static final String CITY = "Bulk Update Test City";
+
+	@Autowired
+	private HotelBulkUpdateService hotelBulkUpdateService;
+
+	@Autowired
+	private HotelRepository hotelRepository;
+
+	@Autowired
+	private HotelSearchSnapshot hotelSearchSnapshot;
+
+	@Autowired
+	private HotelRateCalendarService hotelRateCalendarService;
+
+	@Autowired
+	private HotelRateCalendarRepository calendarRepository;
+
+	private Hotel open;
+	private Hotel closed;
+
+	@BeforeEach
+	void setUp() {
+		deleteTestHotels();
+		// 10 rooms of which 4 are booked
+		open = hotelRepository.save(hotel("Open", true));
+		closed = hotelRepository.save(hotel("Closed", false));
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteTestHotels();
+	}
+
+	@Test
+	void updatesPriceAndRoomsKeepingBookedRooms() {
+		HotelBulkUpdateResult result = hotelBulkUpdateService.bulkUpdate(request(item(open.getId(), "120.00", 12)));
+
+		assertThat(result.getUpdated()).isEqualTo(1);
+		assertThat(result.getErrors()).isEmpty();
+		Hotel updated = hotelRepository.findById(open.getId()).orElseThrow();
+		assertThat(updated.getPricePerNight()).isEqualByComparingTo("120.00");
+		assertThat(updated.getTotalRooms()).isEqualTo(12);
+		assertThat(updated.getAvailableRooms()).isEqualTo(8);
+	}
+
+	@Test
+	void refusesToReduceRoomsBelowBookedRooms() {
+		HotelBulkUpdateResult result = hotelBulkUpdateService.bulkUpdate(request(item(open.getId(), null, 3)));
+
+		assertThat(result.getUpdated()).isZero();
+		assertThat(result.getErrors()).extracting(RowError::getHotelId, RowError::getMessage)
+				.containsExactly(tuple(open.getId(), "Cannot reduce total rooms below already booked rooms"));
+		Hotel unchanged = hotelRepository.findById(open.getId()).orElseThrow();
+		assertThat(unchanged.getTotalRooms()).isEqualTo(10);
+		assertThat(unchanged.getAvailableRooms()).isEqualTo(6);
+	}
+
+	@Test
+	void leavesInactiveHotelsUnchanged() {
+		HotelBulkUpdateResult result = hotelBulkUpdateService.bulkUpdate(request(
+				item(closed.getId(), "120.00", null),
+				item(closed.getId() + 1_000_000, "120.00", null)));
+
+		assertThat(result.getUpdated()).isZero();
+		assertThat(result.getErrors()).extracting(RowError::getHotelId, RowError::getMessage).containsExactly(
+				tuple(closed.getId(), "Hotel is inactive"),
+				tuple(closed.getId() + 1_000_000, "Hotel not found with id: " + (closed.getId() + 1_000_000)));
+		assertThat(hotelRepository.findById(closed.getId()).orElseThrow().getPricePerNight()).isEqualByComparingTo("100.00");
+	}
+
+	@Test
+	void priceChangeDropsTheCalendarBasedOnTheOldPrice() {
+		hotelRateCalendarService.setCalendar(open.getId(), RateCalendarRequest.builder()
+				.startDate(LocalDate.of(2030, 1, 7))
+				.nights(7)
+				.build());
+
+		hotelBulkUpdateService.bulkUpdate(request(item(open.getId(), "120.00", null)));
+
+		assertThat(calendarRepository.existsById(open.getId())).isFalse();
+	}
+
+	@Test
+	void reportsRowsThatCannotBeApplied() {
+		HotelBulkUpdateResult result = hotelBulkUpdateService.bulkUpdate(request(
+				item(open.getId(), "120.00", null),
+				item(open.getId(), "130.00", null),
+				item(closed.getId(), null, null)));
+
+		assertThat(result.getTotalRows()).isEqualTo(3);
+		assertThat(result.getUpdated()).isEqualTo(1);
+		assertThat(result.getErrors()).extracting(RowError::getMessage)
+				.containsExactly("Duplicate hotel id in request", "Nothing to update");
+		assertThat(hotelRepository.findById(open.getId()).orElseThrow().getPricePerNight()).isEqualByComparingTo("120.00");
+	}
+
+	private void deleteTestHotels() {
+		List<Hotel> hotels = hotelRepository.findAll().stream().filter(hotel -> CITY.equals(hotel.getCity())).toList();
+		hotels.forEach(hotel -> hotelRateCalendarService.deleteCalendar(hotel.getId()));
+		hotelRepository.deleteAll(hotels);
+		hotels.forEach(hotel -> hotelSearchSnapshot.remove(hotel.getId()));
+	}
+
+	private static HotelBulkUpdateRequest request(HotelBulkUpdateRequest.Item... items) {
+		return HotelBulkUpdateRequest.builder().updates(List.of(items)).build();
+	}
+
+	private static HotelBulkUpdateRequest.Item item(Long id, String price, Integer totalRooms) {
+		return HotelBulkUpdateRequest.Item.builder()
+				.id(id)
+				.pricePerNight(price != null ? new BigDecimal(price) : null)
+				.totalRooms(totalRooms)
+				.build();
+	}
+
+	private static Hotel hotel(String name, boolean active) {
+		return Hotel.builder()
+				.name(name)
+				.city(CITY)
+				.address("1 Test Road")
+				.starRating(3)
+				.pricePerNight(new BigDecimal("100.00"))
+				.totalRooms(10)
+				.availableRooms(6)
+				.isActive(active)
+				.build();
+	}
+}
@@ -0,0 +1,106 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.dto.RateCalendarRequest;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.HotelRateCalendar;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRateCalendarRepository;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HotelRateCalendarServiceTest {
+
+	private static final LocalDate START = LocalDate.of(2030, 1, 7);
+
+	private final HotelRepository hotelRepository = mock(HotelRepository.class);
+	private final HotelRateCalendarRepository calendarRepository = mock(HotelRateCalendarRepository.class);
+	private final HotelRateCalendarService service = new HotelRateCalendarService(hotelRepository, calendarRepository,
+			mock(JdbcTemplate.class), 730, 1000, 5000, 300_000);
+	private final Hotel hotel = Hotel.builder().id(1L).pricePerNight(new BigDecimal("100.00")).build();
+
+	@BeforeEach
+	void setUp() {
+		when(hotelRepository.findById(1L)).thenReturn(Optional.of(hotel));
+		when(calendarRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void staysArePricedFromTheDatabaseUntilTheFirstLoad() {
+		when(calendarRepository.findById(1L)).thenReturn(Optional.of(calendar(new BigDecimal("100.00"))));
+		RateCalendarHealthIndicator health = new RateCalendarHealthIndicator(service);
+		assertThat(health.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+
+		assertThat(service.stayTotal(hotel, START, START.plusDays(2), 1)).isEqualByComparingTo("300.00");
+
+		service.refresh();
+		assertThat(health.health().getStatus()).isEqualTo(Status.UP);
+		// Nothing was loaded, and the database is no longer read per stay
+		assertThat(service.stayTotal(hotel, START, START.plusDays(2), 1)).isEqualByComparingTo("200.00");
+	}
+
+	@Test
+	void calendarIsPricedOnlyOnceItsTransactionCommits() {
+		service.refresh();
+		TransactionSynchronizationManager.initSynchronization();
+
+		service.setCalendar(1L, RateCalendarRequest.builder().startDate(START).nights(7).baseRate(new BigDecimal("150.00")).build());
+		assertThat(service.stayTotal(hotel, START, START.plusDays(1), 1)).isEqualByComparingTo("100.00");
+
+		TransactionSynchronizationUtils.triggerAfterCommit();
+		assertThat(service.stayTotal(hotel, START, START.plusDays(1), 1)).isEqualByComparingTo("150.00");
+	}
+
+	@Test
+	void priceChangeDropsOnlyCalendarsBasedOnTheOldPrice() {
+		HotelRateCalendar derived = calendar(1L, new BigDecimal("100.00"));
+		HotelRateCalendar explicit = calendar(2L, null);
+		HotelRateCalendar unchanged = calendar(3L, new BigDecimal("120.00"));
+		Map<Long, BigDecimal> prices = Map.of(1L, new BigDecimal("120.00"), 2L, new BigDecimal("120.00"),
+				3L, new BigDecimal("120.0"));
+		when(calendarRepository.findAllById(prices.keySet())).thenReturn(List.of(derived, explicit, unchanged));
+
+		service.pricesPerNightChanged(prices);
+
+		verify(calendarRepository).delete(derived);
+		verify(calendarRepository, never()).delete(explicit);
+		verify(calendarRepository, never()).delete(unchanged);
+	}
+
+	private static HotelRateCalendar calendar(BigDecimal basePricePerNight) {
+		return calendar(1L, basePricePerNight);
+	}
+
+	private static HotelRateCalendar calendar(Long hotelId, BigDecimal basePricePerNight) {
+		return HotelRateCalendar.builder()
+				.hotelId(hotelId)
+				.startDate(START)
+				.nightlyRatesCents(new int[]{20_000, 10_000})
+				.basePricePerNight(basePricePerNight)
+				.build();
+	}
+}
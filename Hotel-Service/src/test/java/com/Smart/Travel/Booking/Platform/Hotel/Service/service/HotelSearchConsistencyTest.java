@@ -0,0 +1,85 @@
+package com.Smart.Travel.Booking.Platform.Hotel.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Hotel.Service.entity.Hotel;
+import com.Smart.Travel.Booking.Platform.Hotel.Service.repository.HotelRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class HotelSearchConsistencyTest {
+
+	private static final String CITY = "Consistency Test City";
+
+	@Autowired
+	private HotelRepository hotelRepository;
+
+	@Autowired
+	private HotelSearchSnapshot hotelSearchSnapshot;
+
+	@BeforeEach
+	void setUp() {
+		deleteTestHotels();
+		hotelRepository.saveAll(List.of(
+				hotel("Budget", "80.00", true),
+				hotel("Midrange", "150.00", true),
+				hotel("Luxury", "400.00", true),
+				hotel("Closed", "90.00", false)));
+		hotelSearchSnapshot.refresh();
+	}
+
+	@AfterEach
+	void tearDown() {
+		deleteTestHotels();
+	}
+
+	private void deleteTestHotels() {
+		// Like a hard delete: the snapshot only learns of deleted hotels when told
+		List<Hotel> hotels = hotelRepository.findAll().stream().filter(hotel -> CITY.equals(hotel.getCity())).toList();
+		hotelRepository.deleteAll(hotels);
+		hotels.forEach(hotel -> hotelSearchSnapshot.remove(hotel.getId()));
+	}
+
+	@Test
+	void snapshotAndDatabaseAgreeWithoutAPriceCap() {
+		List<String> fromDatabase = names(hotelRepository.searchHotels(CITY, null, 1));
+		List<String> fromSnapshot = names(hotelSearchSnapshot.search(CITY, null, 1).orElseThrow());
+
+		assertThat(fromDatabase).containsExactly("Budget", "Midrange", "Luxury");
+		assertThat(fromSnapshot).isEqualTo(fromDatabase);
+	}
+
+	@Test
+	void snapshotAndDatabaseAgreeWithAPriceCap() {
+		BigDecimal maxPrice = new BigDecimal("150.00");
+		List<String> fromDatabase = names(hotelRepository.searchHotels(CITY, maxPrice, 1));
+		List<String> fromSnapshot = names(hotelSearchSnapshot.search(CITY, maxPrice, 1).orElseThrow());
+
+		assertThat(fromDatabase).containsExactly("Budget", "Midrange");
+		assertThat(fromSnapshot).isEqualTo(fromDatabase);
+	}
+
+	private static List<String> names(List<Hotel> hotels) {
+		return hotels.stream().map(Hotel::getName).toList();
+	}
+
+	private static Hotel hotel(String name, String price, boolean active) {
+		return Hotel.builder()
+				.name(name)
+				.city(CITY)
+				.address("1 Test Road")
+				.starRating(3)
+				.pricePerNight(new BigDecimal(price))
+				.totalRooms(10)
+				.availableRooms(10)
+				.isActive(active)
+				.build();
+	}
+}
@@ -0,0 +1,55 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.client;
+
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.UserDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@Slf4j
+public class UserServiceClient {
+
+    // Matches the per-request limit of POST /api/users/batch
+    private static final int MAX_IDS_PER_CALL = 5000;
+
+    private final RestClient restClient;
+
+    public UserServiceClient(RestClient.Builder restClientBuilder,
+                             @Value("${services.user.url}") String userServiceUrl) {
+        this.restClient = restClientBuilder.baseUrl(userServiceUrl).build();
+    }
+
+    /**
+     * Resolves email addresses for the given users with one batch call per 5000 ids.
+     * Users that cannot be resolved are simply missing from the result.
+     */
+    public Map<Long, String> getUserEmails(List<Long> userIds) {
+        Map<Long, String> emails = new HashMap<>();
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_CALL) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_CALL, ids.size()));
+            try {
+                List<UserDTO> users = restClient.post()
+                        .uri("/api/users/batch")
+                        .body(Map.of("userIds", chunk))
+                        .retrieve()
+                        .body(new ParameterizedTypeReference<List<UserDTO>>() {});
+                if (users != null) {
+                    users.stream()
+                            .filter(user -> user.getEmail() != null)
+                            .forEach(user -> emails.put(user.getId(), user.getEmail()));
+                }
+            } catch (Exception e) {
+                log.warn("Failed to resolve emails for {} users: {}", chunk.size(), e.getMessage());
+            }
+        }
+        return emails;
+    }
+}
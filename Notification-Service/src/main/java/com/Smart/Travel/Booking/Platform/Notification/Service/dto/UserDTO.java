@@ -0,0 +1,15 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDTO {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Boolean isActive;
+}
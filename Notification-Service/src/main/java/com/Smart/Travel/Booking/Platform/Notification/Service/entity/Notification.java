@@ -7,15 +7,24 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "user_id, created_at"),
+        @Index(name = "idx_notifications_status_retry", columnList = "status, retry_count"),
+        @Index(name = "idx_notifications_type_created", columnList = "type, created_at"),
+        @Index(name = "idx_notifications_booking_reference", columnList = "booking_reference")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Notification {
 
+    // Ids handed out per sequence round trip; the sequence is created with the same increment
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = Notification.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "User ID is required")
@@ -0,0 +1,154 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.NotificationDTO;
+import com.Smart.Travel.Booking.Platform.Notification.Service.entity.Notification.NotificationType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Coalesces notifications for the same (userId, type, bookingReference) that arrive
+ * within a short window, so repeated triggers for one booking produce a single row.
+ */
+@Component
+@Slf4j
+public class NotificationDeduplicator {
+
+    private final ConcurrentMap<DedupKey, DedupEntry> recent = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long windowMillis;
+    private final int maxEntries;
+    private final Counter checkedCounter;
+    private final Counter suppressedCounter;
+
+    public NotificationDeduplicator(
+            MeterRegistry meterRegistry,
+            @Value("${notification.dedup.enabled:true}") boolean enabled,
+            @Value("${notification.dedup.window-ms:30000}") long windowMillis,
+            @Value("${notification.dedup.max-entries:100000}") int maxEntries) {
+        this.enabled = enabled;
+        this.windowMillis = windowMillis;
+        this.maxEntries = maxEntries;
+        this.checkedCounter = Counter.builder("notification.dedup.checked")
+                .description("Notifications checked against the dedup window")
+                .register(meterRegistry);
+        this.suppressedCounter = Counter.builder("notification.dedup.suppressed")
+                .description("Notifications suppressed as duplicates")
+                .register(meterRegistry);
+        Gauge.builder("notification.dedup.suppression.ratio", this, NotificationDeduplicator::suppressionRatio)
+                .description("Share of checked notifications that were suppressed")
+                .register(meterRegistry);
+        Gauge.builder("notification.dedup.entries", recent, ConcurrentMap::size)
+                .description("Keys currently held in the dedup window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns empty when the caller owns the key and should send, otherwise the entry of the
+     * notification already claimed within the window. Its result is null while still in flight.
+     * When called inside a transaction, a claim whose transaction does not commit is released,
+     * so a retry of the same notification is not suppressed.
+     */
+    public Optional<DedupEntry> claim(Long userId, NotificationType type, String bookingReference) {
+        if (!enabled || bookingReference == null || bookingReference.isBlank()) {
+            return Optional.empty();
+        }
+
+        checkedCounter.increment();
+        long now = System.currentTimeMillis();
+        DedupKey key = new DedupKey(userId, type, bookingReference);
+        DedupEntry fresh = new DedupEntry(now + windowMillis);
+
+        DedupEntry winner = recent.compute(key, (k, existing) ->
+                existing != null && existing.expiresAt > now ? existing : fresh);
+
+        if (winner == fresh) {
+            if (recent.size() > maxEntries) {
+                evictExpired();
+            }
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            recent.remove(key, fresh);
+                        }
+                    }
+                });
+            }
+            return Optional.empty();
+        }
+
+        suppressedCounter.increment();
+        log.info("Suppressing duplicate {} notification for user {} and booking {}", type, userId, bookingReference);
+        return Optional.of(winner);
+    }
+
+    /**
+     * Publishes the result to duplicates of the claimed notification, once the surrounding
+     * transaction (if any) has committed.
+     */
+    public void complete(Long userId, NotificationType type, String bookingReference, NotificationDTO result) {
+        if (!enabled || bookingReference == null || bookingReference.isBlank()) {
+            return;
+        }
+        DedupEntry entry = recent.get(new DedupKey(userId, type, bookingReference));
+        if (entry == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entry.result = result;
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entry.result = result;
+            }
+        });
+    }
+
+    public void release(Long userId, NotificationType type, String bookingReference) {
+        if (!enabled || bookingReference == null || bookingReference.isBlank()) {
+            return;
+        }
+        recent.remove(new DedupKey(userId, type, bookingReference));
+    }
+
+    @Scheduled(fixedDelayString = "${notification.dedup.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        recent.entrySet().removeIf(e -> e.getValue().expiresAt <= now);
+    }
+
+    double suppressionRatio() {
+        double checked = checkedCounter.count();
+        return checked == 0 ? 0.0 : suppressedCounter.count() / checked;
+    }
+
+    private record DedupKey(Long userId, NotificationType type, String bookingReference) {
+    }
+
+    public static final class DedupEntry {
+        private final long expiresAt;
+        private volatile NotificationDTO result;
+
+        private DedupEntry(long expiresAt) {
+            this.expiresAt = expiresAt;
+        }
+
+        public NotificationDTO getResult() {
+            return result;
+        }
+    }
+}
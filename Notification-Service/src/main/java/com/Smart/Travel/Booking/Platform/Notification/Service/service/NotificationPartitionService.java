@@ -0,0 +1,94 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of the notifications table in shape: partitions for the
+ * coming months are created ahead of time, and partitions past the retention period are
+ * detached and dropped instead of deleting rows one by one.
+ */
+@Service
+@Slf4j
+public class NotificationPartitionService {
+
+    private static final String TABLE = "notifications";
+    private static final String PARTITION_PREFIX = TABLE + "_y";
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyy'm'MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public NotificationPartitionService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${notification.retention.months:12}") int retentionMonths,
+            @Value("${notification.retention.months-ahead:2}") int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        if (!isPartitioned()) {
+            log.warn("Table {} is not partitioned; skipping partition maintenance", TABLE);
+            return;
+        }
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            createPartition(current.plusMonths(i));
+        }
+        dropPartitionsBefore(current.minusMonths(retentionMonths));
+    }
+
+    void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + TABLE
+                + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+        log.debug("Ensured notification partition {}", partition);
+    }
+
+    void dropPartitionsBefore(YearMonth cutoff) {
+        String cutoffName = partitionName(cutoff);
+        List<String> partitions = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid " +
+                "JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = ?", String.class, TABLE);
+
+        for (String partition : partitions) {
+            // Partition names sort chronologically, e.g. notifications_y2024m01
+            if (partition.startsWith(PARTITION_PREFIX) && partition.compareTo(cutoffName) < 0) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition);
+                jdbcTemplate.execute("DROP TABLE " + partition);
+                log.info("Dropped expired notification partition {}", partition);
+            }
+        }
+    }
+
+    private boolean isPartitioned() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pg_partitioned_table pt " +
+                "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?", Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    private String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX_FORMAT);
+    }
+}
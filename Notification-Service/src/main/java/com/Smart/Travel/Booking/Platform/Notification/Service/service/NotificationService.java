@@ -1,5 +1,6 @@
 package com.Smart.Travel.Booking.Platform.Notification.Service.service;
 
+import com.Smart.Travel.Booking.Platform.Notification.Service.client.UserServiceClient;
 import com.Smart.Travel.Booking.Platform.Notification.Service.dto.BulkNotificationRequest;
 import com.Smart.Travel.Booking.Platform.Notification.Service.dto.CreateNotificationRequest;
 import com.Smart.Travel.Booking.Platform.Notification.Service.dto.NotificationDTO;
@@ -9,14 +10,20 @@ import com.Smart.Travel.Booking.Platform.Notification.Service.entity.Notificatio
 import com.Smart.Travel.Booking.Platform.Notification.Service.exception.NotificationException;
 import com.Smart.Travel.Booking.Platform.Notification.Service.exception.ResourceNotFoundException;
 import com.Smart.Travel.Booking.Platform.Notification.Service.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,17 +33,45 @@ import java.util.stream.Collectors;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationDeduplicator notificationDeduplicator;
+    private final UserServiceClient userServiceClient;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    @Value("${notification.bulk.chunk-size:50}")
+    private int bulkChunkSize;
 
     public NotificationDTO sendNotification(CreateNotificationRequest request) {
         log.info("Sending notification to user: {}", request.getUserId());
 
-        NotificationType type;
+        NotificationType type = parseType(request.getType());
+
+        // Drop duplicates for the same booking before touching the database
+        Optional<NotificationDeduplicator.DedupEntry> duplicate =
+                notificationDeduplicator.claim(request.getUserId(), type, request.getBookingReference());
+        if (duplicate.isPresent()) {
+            NotificationDTO previous = duplicate.get().getResult();
+            return previous != null ? previous : NotificationDTO.builder()
+                    .userId(request.getUserId())
+                    .userEmail(request.getUserEmail())
+                    .type(type)
+                    .subject(request.getSubject())
+                    .message(request.getMessage())
+                    .bookingReference(request.getBookingReference())
+                    .status(NotificationStatus.PENDING)
+                    .build();
+        }
+
         try {
-            type = NotificationType.valueOf(request.getType().toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new NotificationException("Invalid notification type: " + request.getType());
+            return send(request, type);
+        } catch (RuntimeException e) {
+            // The claim is also released when the transaction rolls back after this method returns
+            notificationDeduplicator.release(request.getUserId(), type, request.getBookingReference());
+            throw e;
         }
+    }
 
+    private NotificationDTO send(CreateNotificationRequest request, NotificationType type) {
         Notification notification = Notification.builder()
                 .userId(request.getUserId())
                 .userEmail(request.getUserEmail())
@@ -59,40 +94,73 @@ public class NotificationService {
             Notification sentNotification = notificationRepository.save(savedNotification);
             
             log.info("Notification sent successfully to user: {}", request.getUserId());
-            return mapToDTO(sentNotification);
+            NotificationDTO result = mapToDTO(sentNotification);
+            notificationDeduplicator.complete(request.getUserId(), type, request.getBookingReference(), result);
+            return result;
 
         } catch (Exception e) {
             log.error("Failed to send notification: {}", e.getMessage());
             savedNotification.setStatus(NotificationStatus.FAILED);
             savedNotification.setFailureReason(e.getMessage());
             notificationRepository.save(savedNotification);
+            notificationDeduplicator.release(request.getUserId(), type, request.getBookingReference());
             
             return mapToDTO(savedNotification);
         }
     }
 
+    // Each chunk is written, sent and committed in its own transaction and then cleared from
+    // the persistence context, so memory and flush work stay bounded by the chunk size
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<NotificationDTO> sendBulkNotifications(BulkNotificationRequest request) {
         log.info("Sending bulk notifications to {} users", request.getUserIds().size());
-        
-        List<NotificationDTO> sentNotifications = new ArrayList<>();
-        
-        for (Long userId : request.getUserIds()) {
-            CreateNotificationRequest individualRequest = CreateNotificationRequest.builder()
+
+        NotificationType type = parseType(request.getType());
+        List<Long> userIds = request.getUserIds();
+        List<NotificationDTO> sentNotifications = new ArrayList<>(userIds.size());
+        Map<Long, String> userEmails = userServiceClient.getUserEmails(userIds);
+
+        for (int from = 0; from < userIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + bulkChunkSize, userIds.size()));
+            sentNotifications.addAll(transactionTemplate.execute(status -> sendChunk(chunk, userEmails, type, request)));
+        }
+
+        return sentNotifications;
+    }
+
+    private List<NotificationDTO> sendChunk(List<Long> userIds, Map<Long, String> userEmails,
+                                            NotificationType type, BulkNotificationRequest request) {
+        List<Notification> notifications = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            notifications.add(Notification.builder()
                     .userId(userId)
-                    .type(request.getType())
+                    .userEmail(userEmails.get(userId))
+                    .type(type)
                     .subject(request.getSubject())
                     .message(request.getMessage())
-                    .build();
-            
+                    .status(NotificationStatus.PENDING)
+                    .retryCount(0)
+                    .build());
+        }
+        // Ids come from the pooled sequence, so the inserts go out as JDBC batches
+        notificationRepository.saveAll(notifications);
+
+        for (Notification notification : notifications) {
             try {
-                NotificationDTO sent = sendNotification(individualRequest);
-                sentNotifications.add(sent);
+                simulateSendNotification(notification);
+                notification.setStatus(NotificationStatus.SENT);
+                notification.setSentAt(LocalDateTime.now());
             } catch (Exception e) {
-                log.error("Failed to send notification to user {}: {}", userId, e.getMessage());
+                log.error("Failed to send notification to user {}: {}", notification.getUserId(), e.getMessage());
+                notification.setStatus(NotificationStatus.FAILED);
+                notification.setFailureReason(e.getMessage());
             }
         }
-        
-        return sentNotifications;
+        notificationRepository.saveAll(notifications);
+        notificationRepository.flush();
+        entityManager.clear();
+
+        return notifications.stream().map(this::mapToDTO).toList();
     }
 
     public NotificationDTO retryNotification(Long notificationId) {
@@ -183,6 +251,14 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
+    private NotificationType parseType(String type) {
+        try {
+            return NotificationType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new NotificationException("Invalid notification type: " + type);
+        }
+    }
+
     private void simulateSendNotification(Notification notification) {
         log.info("Simulating notification send: Type={}, To={}, Subject={}", 
                 notification.getType(), 
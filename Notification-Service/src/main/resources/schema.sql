@@ -0,0 +1,21 @@
+-- Notifications are range-partitioned by month on created_at so that old data can be
+-- purged by dropping whole partitions. Monthly partitions are created and dropped by
+-- NotificationPartitionService; Hibernate (ddl-auto: update) adds the indexes declared on
+-- the entity, which PostgreSQL propagates to every partition, and the notifications_seq
+-- sequence the ids are allocated from.
+CREATE TABLE IF NOT EXISTS notifications (
+    id                BIGINT       NOT NULL,
+    user_id           BIGINT       NOT NULL,
+    user_email        VARCHAR(255),
+    type              VARCHAR(255) NOT NULL,
+    subject           VARCHAR(255) NOT NULL,
+    message           TEXT         NOT NULL,
+    booking_reference VARCHAR(255),
+    status            VARCHAR(255) NOT NULL,
+    failure_reason    VARCHAR(255),
+    retry_count       INTEGER,
+    sent_at           TIMESTAMP(6),
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
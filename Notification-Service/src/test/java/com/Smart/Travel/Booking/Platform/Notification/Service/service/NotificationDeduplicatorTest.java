@@ -0,0 +1,86 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.NotificationDTO;
+import com.Smart.Travel.Booking.Platform.Notification.Service.entity.Notification.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationDeduplicatorTest {
+
+	private final NotificationDeduplicator deduplicator =
+			new NotificationDeduplicator(new SimpleMeterRegistry(), true, 30_000, 1_000);
+
+	@AfterEach
+	void clearSynchronization() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void duplicatesWithinTheWindowAreSuppressed() {
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isEmpty();
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isPresent();
+
+		// Other users, types and bookings are independent keys
+		assertThat(deduplicator.claim(2L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isEmpty();
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CANCELLATION, "BK1")).isEmpty();
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK2")).isEmpty();
+		assertThat(deduplicator.suppressionRatio()).isEqualTo(0.2);
+	}
+
+	@Test
+	void notificationsWithoutBookingReferenceAreNeverSuppressed() {
+		assertThat(deduplicator.claim(1L, NotificationType.SYSTEM, null)).isEmpty();
+		assertThat(deduplicator.claim(1L, NotificationType.SYSTEM, null)).isEmpty();
+		assertThat(deduplicator.claim(1L, NotificationType.SYSTEM, " ")).isEmpty();
+	}
+
+	@Test
+	void releasedClaimCanBeClaimedAgain() {
+		deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1");
+		deduplicator.release(1L, NotificationType.BOOKING_CONFIRMATION, "BK1");
+
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isEmpty();
+	}
+
+	@Test
+	void claimIsReleasedWhenItsTransactionRollsBack() {
+		TransactionSynchronizationManager.initSynchronization();
+		deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1");
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isEmpty();
+	}
+
+	@Test
+	void resultIsPublishedOnlyAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1");
+		NotificationDTO sent = NotificationDTO.builder().id(42L).build();
+		deduplicator.complete(1L, NotificationType.BOOKING_CONFIRMATION, "BK1", sent);
+
+		NotificationDeduplicator.DedupEntry inFlight =
+				deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1").orElseThrow();
+		assertThat(inFlight.getResult()).isNull();
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertThat(inFlight.getResult()).isSameAs(sent);
+		assertThat(deduplicator.claim(1L, NotificationType.BOOKING_CONFIRMATION, "BK1")).isPresent();
+	}
+
+	private static void complete(int status) {
+		var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+}
@@ -0,0 +1,116 @@
+package com.Smart.Travel.Booking.Platform.Notification.Service.service;
+
+import com.Smart.Travel.Booking.Platform.Notification.Service.client.UserServiceClient;
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.BulkNotificationRequest;
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.CreateNotificationRequest;
+import com.Smart.Travel.Booking.Platform.Notification.Service.dto.NotificationDTO;
+import com.Smart.Travel.Booking.Platform.Notification.Service.entity.Notification;
+import com.Smart.Travel.Booking.Platform.Notification.Service.entity.Notification.NotificationStatus;
+import com.Smart.Travel.Booking.Platform.Notification.Service.repository.NotificationRepository;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTest {
+
+	private final AtomicLong ids = new AtomicLong();
+	private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+	private final UserServiceClient userServiceClient = mock(UserServiceClient.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final EntityManager entityManager = mock(EntityManager.class);
+	private NotificationService notificationService;
+
+	@BeforeEach
+	void setUp() {
+		NotificationDeduplicator deduplicator = new NotificationDeduplicator(new SimpleMeterRegistry(), true, 30_000, 1_000);
+		notificationService = new NotificationService(notificationRepository, deduplicator, userServiceClient,
+				new TransactionTemplate(transactionManager), entityManager);
+		ReflectionTestUtils.setField(notificationService, "bulkChunkSize", 50);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	void duplicateIsAnsweredWithTheFirstResult() {
+		when(notificationRepository.save(any())).thenAnswer(invocation -> persisted(invocation.getArgument(0)));
+
+		NotificationDTO first = notificationService.sendNotification(request());
+		NotificationDTO second = notificationService.sendNotification(request());
+
+		assertThat(first.getId()).isNotNull();
+		assertThat(first.getStatus()).isEqualTo(NotificationStatus.SENT);
+		assertThat(second).isSameAs(first);
+		// PENDING insert and SENT update for the first call only
+		verify(notificationRepository, times(2)).save(any());
+	}
+
+	@Test
+	void failedSaveReleasesTheClaim() {
+		when(notificationRepository.save(any()))
+				.thenThrow(new DataAccessResourceFailureException("database unavailable"))
+				.thenAnswer(invocation -> persisted(invocation.getArgument(0)));
+
+		assertThatThrownBy(() -> notificationService.sendNotification(request()))
+				.isInstanceOf(DataAccessResourceFailureException.class);
+
+		NotificationDTO retried = notificationService.sendNotification(request());
+		assertThat(retried.getId()).isNotNull();
+		assertThat(retried.getStatus()).isEqualTo(NotificationStatus.SENT);
+	}
+
+	@Test
+	void bulkSendCommitsAndClearsEachChunk() {
+		List<Long> userIds = LongStream.rangeClosed(1, 120).boxed().toList();
+		when(userServiceClient.getUserEmails(userIds)).thenReturn(Map.of(1L, "first@example.com"));
+		when(notificationRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		List<NotificationDTO> sent = notificationService.sendBulkNotifications(BulkNotificationRequest.builder()
+				.userIds(userIds)
+				.type("SYSTEM")
+				.subject("Maintenance")
+				.message("Scheduled maintenance tonight")
+				.build());
+
+		assertThat(sent).hasSize(120).allMatch(notification -> notification.getStatus() == NotificationStatus.SENT);
+		assertThat(sent.get(0).getUserEmail()).isEqualTo("first@example.com");
+		// Chunks of 50, 50 and 20
+		verify(transactionManager, times(3)).commit(any());
+		verify(notificationRepository, times(3)).flush();
+		verify(entityManager, times(3)).clear();
+	}
+
+	private Notification persisted(Notification notification) {
+		if (notification.getId() == null) {
+			notification.setId(ids.incrementAndGet());
+		}
+		return notification;
+	}
+
+	private static CreateNotificationRequest request() {
+		return CreateNotificationRequest.builder()
+				.userId(1L)
+				.type("BOOKING_CONFIRMATION")
+				.subject("Booking confirmed")
+				.message("Your booking BK1 is confirmed")
+				.bookingReference("BK1")
+				.build();
+	}
+}
@@ -1,21 +1,58 @@
 package com.Smart.Travel.Booking.Platform.Payment.Service.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
 
+    // Shared pool for all outgoing WebClient calls; metrics are published as reactor.netty.connection.provider.*
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(
+            @Value("${webclient.pool.max-connections:200}") int maxConnections,
+            @Value("${webclient.pool.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${webclient.pool.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${webclient.pool.max-idle-time-ms:30000}") long maxIdleTimeMs,
+            @Value("${webclient.pool.max-life-time-ms:300000}") long maxLifeTimeMs,
+            @Value("${webclient.pool.evict-interval-ms:60000}") long evictIntervalMs) {
+        return ConnectionProvider.builder("payment-webclient")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .maxLifeTime(Duration.ofMillis(maxLifeTimeMs))
+                .evictInBackground(Duration.ofMillis(evictIntervalMs))
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public WebClient.Builder webClientBuilder(
+            ConnectionProvider webClientConnectionProvider,
+            @Value("${webclient.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${webclient.response-timeout-ms:5000}") long responseTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
     }
 
     @Bean
-    public WebClient bookingServiceWebClient(WebClient.Builder builder) {
-        return builder
-                .baseUrl("${services.booking.url:http://localhost:8094}")
+    public WebClient bookingServiceWebClient(WebClient.Builder builder,
+                                             @Value("${services.booking.url}") String bookingServiceUrl) {
+        return builder.clone()
+                .baseUrl(bookingServiceUrl)
                 .build();
     }
 }
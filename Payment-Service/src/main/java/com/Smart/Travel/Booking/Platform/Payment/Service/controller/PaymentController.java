@@ -1,5 +1,7 @@
 package com.Smart.Travel.Booking.Platform.Payment.Service.controller;
 
+import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BulkRefundRequest;
+import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BulkRefundResult;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.CreatePaymentRequest;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.PaymentDTO;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.RefundRequest;
@@ -111,6 +113,17 @@ public class PaymentController {
         return ResponseEntity.ok(refundedPayment);
     }
 
+    @PostMapping("/refunds/bulk")
+    @Operation(summary = "Bulk refund payments",
+            description = "Refunds completed payments in full; unknown or non-completed payments are skipped")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Refunds processed"),
+            @ApiResponse(responseCode = "400", description = "Invalid request")
+    })
+    public ResponseEntity<BulkRefundResult> refundPayments(@Valid @RequestBody BulkRefundRequest request) {
+        return ResponseEntity.ok(paymentService.refundPayments(request));
+    }
+
     @PostMapping("/{id}/cancel")
     @Operation(summary = "Cancel payment", description = "Cancels a pending payment")
     @ApiResponses(value = {
@@ -0,0 +1,21 @@
+package com.Smart.Travel.Booking.Platform.Payment.Service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRefundRequest {
+
+    @NotEmpty(message = "Payment IDs are required")
+    @Size(max = 1000, message = "At most 1000 payments can be refunded per request")
+    private List<@NotNull Long> paymentIds;
+
+    private String reason;
+}
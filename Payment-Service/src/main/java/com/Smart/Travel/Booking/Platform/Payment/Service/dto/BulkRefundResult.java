@@ -0,0 +1,16 @@
+package com.Smart.Travel.Booking.Platform.Payment.Service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BulkRefundResult {
+    private int requested;
+    private List<Long> refundedPaymentIds;
+    // Unknown payments and payments that were not COMPLETED (including already refunded ones)
+    private List<Long> skippedPaymentIds;
+}
@@ -16,8 +16,12 @@ import java.time.LocalDateTime;
 @Builder
 public class Payment {
 
+    // Ids handed out per sequence round trip; the sequence is created with the same increment
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payments_seq")
+    @SequenceGenerator(name = "payments_seq", sequenceName = "payments_seq", allocationSize = Payment.ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotNull(message = "Booking ID is required")
@@ -63,9 +67,6 @@ public class Payment {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
-        if (transactionId == null) {
-            transactionId = "TXN" + System.currentTimeMillis();
-        }
     }
 
     @PreUpdate
@@ -3,7 +3,6 @@ package com.Smart.Travel.Booking.Platform.Payment.Service.service;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BookingDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -13,16 +12,12 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class BookingServiceClient {
 
-    private final WebClient.Builder webClientBuilder;
-
-    @Value("${services.booking.url}")
-    private String bookingServiceUrl;
+    private final WebClient bookingServiceWebClient;
 
     public Mono<BookingDTO> getBookingById(Long bookingId) {
         log.info("Fetching booking with id: {} from Booking Service", bookingId);
-        return webClientBuilder.build()
-                .get()
-                .uri(bookingServiceUrl + "/api/bookings/{id}", bookingId)
+        return bookingServiceWebClient.get()
+                .uri("/api/bookings/{id}", bookingId)
                 .retrieve()
                 .bodyToMono(BookingDTO.class)
                 .doOnSuccess(booking -> log.info("Successfully fetched booking: {}", booking.getBookingReference()))
@@ -31,9 +26,8 @@ public class BookingServiceClient {
 
     public Mono<BookingDTO> updateBookingPaymentId(Long bookingId, Long paymentId) {
         log.info("Updating booking {} with payment id: {}", bookingId, paymentId);
-        return webClientBuilder.build()
-                .put()
-                .uri(bookingServiceUrl + "/api/bookings/{id}/payment/{paymentId}", bookingId, paymentId)
+        return bookingServiceWebClient.put()
+                .uri("/api/bookings/{id}/payment/{paymentId}", bookingId, paymentId)
                 .retrieve()
                 .bodyToMono(BookingDTO.class)
                 .doOnSuccess(booking -> log.info("Successfully updated booking payment"))
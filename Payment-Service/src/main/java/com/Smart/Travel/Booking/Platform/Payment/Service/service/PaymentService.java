@@ -1,6 +1,9 @@
 package com.Smart.Travel.Booking.Platform.Payment.Service.service;
 
+import com.Smart.Travel.Booking.Platform.Common.id.ReferenceGenerator;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BookingDTO;
+import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BulkRefundRequest;
+import com.Smart.Travel.Booking.Platform.Payment.Service.dto.BulkRefundResult;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.CreatePaymentRequest;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.PaymentDTO;
 import com.Smart.Travel.Booking.Platform.Payment.Service.dto.RefundRequest;
@@ -15,7 +18,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +33,7 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final BookingServiceClient bookingServiceClient;
+    private final ReferenceGenerator referenceGenerator;
 
     public PaymentDTO processPayment(CreatePaymentRequest request) {
         log.info("Processing payment for booking: {}", request.getBookingId());
@@ -50,6 +58,7 @@ public class PaymentService {
                 .paymentMethod(request.getPaymentMethod())
                 .description(request.getDescription())
                 .status(PaymentStatus.PENDING)
+                .transactionId(referenceGenerator.nextReference())
                 .build();
 
         Payment savedPayment = paymentRepository.save(payment);
@@ -115,6 +124,40 @@ public class PaymentService {
         return mapToDTO(refundedPayment);
     }
 
+    /**
+     * Refunds a batch of payments in full with one lookup and one batched update. Payments
+     * that are unknown or not COMPLETED are skipped rather than failing the batch, so a
+     * retried request only refunds what is still outstanding.
+     */
+    public BulkRefundResult refundPayments(BulkRefundRequest request) {
+        List<Long> paymentIds = new ArrayList<>(new LinkedHashSet<>(request.getPaymentIds()));
+        log.info("Processing bulk refund for {} payments", paymentIds.size());
+
+        Map<Long, Payment> payments = paymentRepository.findAllById(paymentIds).stream()
+                .collect(Collectors.toMap(Payment::getId, Function.identity()));
+
+        List<Payment> refunded = new ArrayList<>();
+        List<Long> skipped = new ArrayList<>();
+        for (Long paymentId : paymentIds) {
+            Payment payment = payments.get(paymentId);
+            if (payment == null || payment.getStatus() != PaymentStatus.COMPLETED) {
+                skipped.add(paymentId);
+                continue;
+            }
+            payment.setStatus(PaymentStatus.REFUNDED);
+            payment.setDescription(payment.getDescription() + " | Refund reason: " + request.getReason());
+            refunded.add(payment);
+        }
+        paymentRepository.saveAll(refunded);
+
+        log.info("Bulk refund processed: {} refunded, {} skipped", refunded.size(), skipped.size());
+        return BulkRefundResult.builder()
+                .requested(paymentIds.size())
+                .refundedPaymentIds(refunded.stream().map(Payment::getId).collect(Collectors.toList()))
+                .skippedPaymentIds(skipped)
+                .build();
+    }
+
     public PaymentDTO cancelPayment(Long paymentId) {
         log.info("Cancelling payment: {}", paymentId);
 
@@ -0,0 +1,19 @@
+package com.Smart.Travel.Booking.Platform.Common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings under {@code id-generator.*} for the reference generator. The lease heartbeat
+ * interval is read from {@code id-generator.heartbeat-ms} by its scheduler.
+ *
+ * @param prefix     prepended to every reference; the generator is only registered when set
+ * @param nodeId     fixed node id (0-1023); derived from host and pid when unset
+ * @param leaseTtlMs how long a node id lease lasts without a heartbeat
+ */
+@ConfigurationProperties(prefix = "id-generator")
+public record IdGeneratorProperties(String prefix, Long nodeId, Long leaseTtlMs) {
+
+    public IdGeneratorProperties {
+        leaseTtlMs = leaseTtlMs != null ? leaseTtlMs : 60000L;
+    }
+}
@@ -0,0 +1,39 @@
+package com.Smart.Travel.Booking.Platform.Common.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Moves each configured id sequence past the highest id already in its table. Rows written
+ * while ids came from an IDENTITY column, or from an earlier sequence, are not known to the
+ * sequence Hibernate creates, which would otherwise start handing out ids that are already
+ * taken. Runs after Hibernate has updated the schema and before the application accepts
+ * traffic; a no-op once a sequence is ahead.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<PlatformProperties.IdSequence> idSequences;
+
+    @PostConstruct
+    public void alignSequences() {
+        for (PlatformProperties.IdSequence idSequence : idSequences) {
+            alignSequence(idSequence.table(), idSequence.sequence());
+        }
+    }
+
+    private void alignSequence(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        Long lastValue = jdbcTemplate.queryForObject("SELECT last_value FROM " + sequence, Long.class);
+        if (maxId != null && lastValue != null && maxId >= lastValue) {
+            jdbcTemplate.queryForObject("SELECT setval('" + sequence + "', ?)", Long.class, maxId);
+            log.info("Advanced sequence {} past existing {} id {}", sequence, table, maxId);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.Smart.Travel.Booking.Platform.Common.config;
+
+import com.Smart.Travel.Booking.Platform.Common.id.ReferenceGenerator;
+import com.Smart.Travel.Booking.Platform.Common.id.SnowflakeReferenceGenerator;
+import com.Smart.Travel.Booking.Platform.Common.monitor.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Registers the shared platform components in every service that has this module on its
+ * classpath.
+ */
+@AutoConfiguration(after = {HibernateJpaAutoConfiguration.class, JdbcTemplateAutoConfiguration.class})
+@EnableConfigurationProperties({PlatformProperties.class, IdGeneratorProperties.class})
+public class PlatformCommonAutoConfiguration {
+
+    // After the entity manager factory, so Hibernate has created the sequences
+    @Bean
+    @ConditionalOnBean(name = "entityManagerFactory")
+    @DependsOn("entityManagerFactory")
+    public IdSequenceInitializer idSequenceInitializer(JdbcTemplate jdbcTemplate, PlatformProperties properties) {
+        return new IdSequenceInitializer(jdbcTemplate, properties.idSequences());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "id-generator", name = "prefix")
+    @ConditionalOnBean(JdbcTemplate.class)
+    @ConditionalOnMissingBean(ReferenceGenerator.class)
+    public SnowflakeReferenceGenerator referenceGenerator(IdGeneratorProperties properties, JdbcTemplate jdbcTemplate) {
+        return new SnowflakeReferenceGenerator(properties.prefix(), properties.nodeId(), properties.leaseTtlMs(),
+                jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs,
+            @Value("${virtual-threads.pinning.stack-depth:12}") int stackDepth) {
+        return new VirtualThreadPinningMonitor(meterRegistry, thresholdMs, stackDepth);
+    }
+}
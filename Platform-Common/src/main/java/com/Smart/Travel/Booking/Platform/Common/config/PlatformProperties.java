@@ -0,0 +1,21 @@
+package com.Smart.Travel.Booking.Platform.Common.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+/**
+ * Settings under {@code platform.*} shared by all services.
+ *
+ * @param idSequences id sequences to move past the ids already in their tables at startup
+ */
+@ConfigurationProperties(prefix = "platform")
+public record PlatformProperties(List<IdSequence> idSequences) {
+
+    public PlatformProperties {
+        idSequences = idSequences != null ? List.copyOf(idSequences) : List.of();
+    }
+
+    public record IdSequence(String table, String sequence) {
+    }
+}
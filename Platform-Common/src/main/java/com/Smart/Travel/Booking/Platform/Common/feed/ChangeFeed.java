@@ -0,0 +1,138 @@
+package com.Smart.Travel.Booking.Platform.Common.feed;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Long-poll feed over an append-only change table. The table needs an {@code id}, a
+ * {@code created_at}, a {@code txid bigint default txid_current()} filled in by the writing
+ * transaction and a unique {@code feed_position} left empty on insert.
+ * <p>
+ * Ids are handed out when a row is written, not when it commits, so they cannot serve as
+ * offsets. Instead the feed assigns positions to rows whose writing transaction is older
+ * than the oldest transaction still running in the database ({@code txid < xmin} of the
+ * current snapshot): all of those have either committed or rolled back, and every
+ * transaction that commits later has a higher txid. Positions therefore only ever grow in
+ * commit order, and a consumer that has read up to a position never misses a row that
+ * appears afterwards. While a transaction that wrote changes is still open, the rows after
+ * it wait for it.
+ * <p>
+ * Positions are assigned by whichever poller gets the table's advisory lock, in batches of
+ * at most {@code maxLimit} rows. New positions continue from the highest one in the table,
+ * so purging never removes the newest sequenced row.
+ */
+@Slf4j
+public class ChangeFeed {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final String table;
+    private final long pollIntervalMs;
+    private final long maxWaitMs;
+    private final int maxLimit;
+
+    public ChangeFeed(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, String table,
+                      long pollIntervalMs, long maxWaitMs, int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = table;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxWaitMs = maxWaitMs;
+        this.maxLimit = maxLimit;
+
+        // Sequencing commits on its own, also when a poll happens to run inside a transaction
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @FunctionalInterface
+    public interface Fetcher<T> {
+        List<T> fetch(long afterPosition, int limit);
+    }
+
+    /**
+     * Creates the index the sequencer scans and, the first time the table is sequenced, gives
+     * rows written before positions existed their id as position, so offsets that consumers
+     * already hold stay valid.
+     */
+    public void initialize() {
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + table + "_unsequenced ON " + table
+                + " (txid, id) WHERE feed_position IS NULL");
+        Integer migrated = transactionTemplate.execute(status -> {
+            if (!lock()) {
+                return 0;
+            }
+            return jdbcTemplate.update("UPDATE " + table + " SET feed_position = id"
+                    + " WHERE feed_position IS NULL AND (txid IS NULL OR txid < txid_snapshot_xmin(txid_current_snapshot()))"
+                    + " AND NOT EXISTS (SELECT 1 FROM " + table + " WHERE feed_position IS NOT NULL)");
+        });
+        if (migrated != null && migrated > 0) {
+            log.info("Assigned feed positions to {} existing {} rows", migrated, table);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} changes after the position. When there are none yet, waits
+     * up to {@code waitMs} for new ones, checking every {@code pollIntervalMs}.
+     */
+    public <T> List<T> poll(long after, int limit, long waitMs, Fetcher<T> fetcher) throws InterruptedException {
+        int pageSize = Math.max(1, Math.min(limit, maxLimit));
+        long deadline = System.currentTimeMillis() + Math.max(0, Math.min(waitMs, maxWaitMs));
+
+        sequence();
+        List<T> changes = fetcher.fetch(after, pageSize);
+        while (changes.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(Math.min(pollIntervalMs, Math.max(1, deadline - System.currentTimeMillis())));
+            sequence();
+            changes = fetcher.fetch(after, pageSize);
+        }
+        return changes;
+    }
+
+    /**
+     * Assigns positions to rows whose writing transaction has ended, in (txid, id) order.
+     * Returns the number of rows sequenced, 0 when another poller holds the lock.
+     */
+    public int sequence() {
+        Integer sequenced = transactionTemplate.execute(status -> {
+            if (!lock()) {
+                return 0;
+            }
+            return jdbcTemplate.update("WITH base AS (SELECT COALESCE(MAX(feed_position), 0) AS position FROM " + table + "),"
+                    + " ready AS (SELECT id, row_number() OVER (ORDER BY txid, id) AS rn FROM " + table
+                    + " WHERE feed_position IS NULL AND txid < txid_snapshot_xmin(txid_current_snapshot())"
+                    + " ORDER BY txid, id LIMIT ?)"
+                    + " UPDATE " + table + " c SET feed_position = base.position + ready.rn"
+                    + " FROM base, ready WHERE c.id = ready.id", maxLimit);
+        });
+        return sequenced != null ? sequenced : 0;
+    }
+
+    /**
+     * Oldest retained position; resuming from further back than this minus one may skip
+     * purged changes.
+     */
+    public Long oldestPosition() {
+        return jdbcTemplate.queryForObject("SELECT MIN(feed_position) FROM " + table, Long.class);
+    }
+
+    /**
+     * Deletes changes created before the cutoff, except the newest sequenced one: positions
+     * restarting at 1 on an emptied table would be below the offsets consumers hold.
+     */
+    public int purgeOlderThan(LocalDateTime cutoff) {
+        return jdbcTemplate.update("DELETE FROM " + table + " WHERE created_at < ?"
+                + " AND feed_position < (SELECT MAX(feed_position) FROM " + table + ")", Timestamp.valueOf(cutoff));
+    }
+
+    private boolean lock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, table + ".feed_position"));
+    }
+}
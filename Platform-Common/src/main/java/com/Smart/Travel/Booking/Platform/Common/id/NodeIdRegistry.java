@@ -0,0 +1,84 @@
+package com.Smart.Travel.Booking.Platform.Common.id;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * Leases generator node ids in the service's database, so two running instances never
+ * generate with the same node id. A lease is a row in {@code id_generator_nodes} that its
+ * owner renews by heartbeat, each time moving its expiry a ttl ahead; an expired row may be
+ * taken over. Expiry uses the database clock, so the instances' clocks do not have to agree.
+ * <p>
+ * A lease renewed at time {@code t} cannot be taken over before {@code t + ttl}, so an owner
+ * that stops generating once {@code ttl} has passed since it last started a successful renew
+ * never overlaps with the next owner of its node id.
+ */
+public class NodeIdRegistry {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String owner;
+    private final long ttlMs;
+
+    public NodeIdRegistry(JdbcTemplate jdbcTemplate, String owner, long ttlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.owner = owner;
+        this.ttlMs = ttlMs;
+    }
+
+    public void initialize() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS id_generator_nodes ("
+                + "node_id integer PRIMARY KEY, owner varchar(255) NOT NULL, expires_at timestamp NOT NULL)");
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    public long ttlMs() {
+        return ttlMs;
+    }
+
+    /**
+     * Claims the node id when it is free, its lease has expired or it is already ours.
+     */
+    public boolean tryClaim(long nodeId) {
+        return jdbcTemplate.update("INSERT INTO id_generator_nodes (node_id, owner, expires_at)"
+                + " VALUES (?, ?, clock_timestamp() + make_interval(secs => ?))"
+                + " ON CONFLICT (node_id) DO UPDATE SET owner = EXCLUDED.owner, expires_at = EXCLUDED.expires_at"
+                + " WHERE id_generator_nodes.owner = EXCLUDED.owner OR id_generator_nodes.expires_at < clock_timestamp()",
+                nodeId, owner, ttlMs / 1000.0) == 1;
+    }
+
+    /**
+     * Claims the first free node id from {@code preferred} on, wrapping around at
+     * {@code maxNodeId}. Fails when every node id is leased by a live instance.
+     */
+    public long claimFree(long preferred, long maxNodeId) {
+        for (long i = 0; i <= maxNodeId; i++) {
+            long nodeId = (preferred + i) % (maxNodeId + 1);
+            if (tryClaim(nodeId)) {
+                return nodeId;
+            }
+        }
+        throw new IllegalStateException("All " + (maxNodeId + 1) + " node ids are leased by running instances");
+    }
+
+    /**
+     * Extends our lease; false when it was taken over or released.
+     */
+    public boolean renew(long nodeId) {
+        return jdbcTemplate.update("UPDATE id_generator_nodes SET expires_at = clock_timestamp() + make_interval(secs => ?)"
+                + " WHERE node_id = ? AND owner = ?", ttlMs / 1000.0, nodeId, owner) == 1;
+    }
+
+    public void release(long nodeId) {
+        jdbcTemplate.update("DELETE FROM id_generator_nodes WHERE node_id = ? AND owner = ?", nodeId, owner);
+    }
+
+    public String holderOf(long nodeId) {
+        List<String> owners = jdbcTemplate.queryForList("SELECT owner FROM id_generator_nodes WHERE node_id = ?",
+                String.class, nodeId);
+        return owners.isEmpty() ? null : owners.get(0);
+    }
+}
@@ -0,0 +1,9 @@
+package com.Smart.Travel.Booking.Platform.Common.id;
+
+/**
+ * Source of unique, human-readable references such as booking references and transaction ids.
+ */
+public interface ReferenceGenerator {
+
+    String nextReference();
+}
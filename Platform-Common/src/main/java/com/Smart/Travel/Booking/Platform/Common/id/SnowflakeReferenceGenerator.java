@@ -0,0 +1,187 @@
+package com.Smart.Travel.Booking.Platform.Common.id;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style generator: 41 bits of milliseconds since a custom epoch, 10 bits of
+ * node id and 12 bits of sequence, rendered as 13 Crockford base32 characters after the
+ * prefix. References from one node are strictly increasing and sort lexically in
+ * creation order.
+ * <p>
+ * The last timestamp and sequence live in a single {@link AtomicLong}, so generation is
+ * a CAS loop without locks. When the sequence of a millisecond is exhausted, or the
+ * clock steps backwards, generation continues from the last issued value instead of
+ * waiting, borrowing from the next millisecond.
+ * <p>
+ * The node id is leased through a {@link NodeIdRegistry}, so a second instance with the
+ * same node id is detected instead of silently issuing duplicate references. A configured
+ * {@code id-generator.node-id} that another live instance holds fails startup once its
+ * lease ttl has passed; without one, the node id derived from host and pid moves on to the
+ * next free id. Generation stops when the lease could not be renewed within the ttl.
+ * <p>
+ * Registered by the platform auto-configuration in services that set {@code id-generator.prefix}.
+ */
+@Slf4j
+public class SnowflakeReferenceGenerator implements ReferenceGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final String prefix;
+    private final NodeIdRegistry nodeIdRegistry;
+    private final boolean configured;
+    private volatile long nodeId;
+    // System.nanoTime() after which the node id may belong to another instance
+    private volatile long leaseDeadlineNanos;
+    // (millis since epoch << SEQUENCE_BITS) | sequence of the last issued id
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeReferenceGenerator(String prefix, Long nodeId, long leaseTtlMs, JdbcTemplate jdbcTemplate) {
+        this(prefix, nodeId, new NodeIdRegistry(jdbcTemplate, identity() + "/" + UUID.randomUUID(), leaseTtlMs));
+    }
+
+    SnowflakeReferenceGenerator(String prefix, Long nodeId, NodeIdRegistry nodeIdRegistry) {
+        if (nodeId != null && (nodeId < 0 || nodeId > MAX_NODE_ID)) {
+            throw new IllegalArgumentException("id-generator.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.prefix = prefix;
+        this.nodeIdRegistry = nodeIdRegistry;
+        this.configured = nodeId != null;
+        nodeIdRegistry.initialize();
+        long started = System.nanoTime();
+        this.nodeId = configured ? claimConfigured(nodeId) : claimDerived();
+        this.leaseDeadlineNanos = started + TimeUnit.MILLISECONDS.toNanos(nodeIdRegistry.ttlMs());
+        log.info("Reference generator using node id {}", this.nodeId);
+    }
+
+    // Fixed node id without a lease, for tests
+    SnowflakeReferenceGenerator(String prefix, long nodeId) {
+        this.prefix = prefix;
+        this.nodeIdRegistry = null;
+        this.configured = true;
+        this.nodeId = nodeId;
+        this.leaseDeadlineNanos = Long.MAX_VALUE;
+    }
+
+    @Override
+    public String nextReference() {
+        return encode(nextId());
+    }
+
+    long nextId() {
+        if (nodeIdRegistry != null && System.nanoTime() - leaseDeadlineNanos > 0) {
+            throw new IllegalStateException("Lease on node id " + nodeId + " has expired; not issuing references");
+        }
+        long nodeId = this.nodeId;
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        long previous;
+        long next;
+        do {
+            previous = state.get();
+            next = now > (previous >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : previous + 1;
+        } while (!state.compareAndSet(previous, next));
+
+        return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+    }
+
+    public long nodeId() {
+        return nodeId;
+    }
+
+    String encode(long id) {
+        char[] chars = new char[prefix.length() + ENCODED_LENGTH];
+        prefix.getChars(0, prefix.length(), chars, 0);
+        for (int i = chars.length - 1; i >= prefix.length(); i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Renews the node id lease. When it was taken over, a derived node id moves on to a free
+     * one; a configured one stops generating once the lease has run out.
+     */
+    @Scheduled(fixedDelayString = "${id-generator.heartbeat-ms:10000}")
+    public void heartbeat() {
+        if (nodeIdRegistry == null) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            if (nodeIdRegistry.renew(nodeId) || nodeIdRegistry.tryClaim(nodeId)) {
+                leaseDeadlineNanos = started + TimeUnit.MILLISECONDS.toNanos(nodeIdRegistry.ttlMs());
+            } else if (!configured) {
+                long previous = nodeId;
+                nodeId = nodeIdRegistry.claimFree(previous + 1, MAX_NODE_ID);
+                leaseDeadlineNanos = started + TimeUnit.MILLISECONDS.toNanos(nodeIdRegistry.ttlMs());
+                log.warn("Node id {} was taken over by {}; moved to node id {}", previous,
+                        nodeIdRegistry.holderOf(previous), nodeId);
+            } else {
+                log.error("Node id {} is held by {}; references stop once the lease runs out", nodeId,
+                        nodeIdRegistry.holderOf(nodeId));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not renew the lease on node id {}: {}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void release() {
+        if (nodeIdRegistry != null) {
+            nodeIdRegistry.release(nodeId);
+        }
+    }
+
+    // A restarted instance may find its previous lease still live, so wait for it to run out before failing
+    private long claimConfigured(long nodeId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(nodeIdRegistry.ttlMs());
+        while (!nodeIdRegistry.tryClaim(nodeId)) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("id-generator.node-id " + nodeId + " is in use by "
+                        + nodeIdRegistry.holderOf(nodeId));
+            }
+            try {
+                Thread.sleep(Math.min(1000, nodeIdRegistry.ttlMs()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while claiming node id " + nodeId, e);
+            }
+        }
+        return nodeId;
+    }
+
+    private long claimDerived() {
+        String identity = identity();
+        long preferred = (identity.hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+        long claimed = nodeIdRegistry.claimFree(preferred, MAX_NODE_ID);
+        log.info("id-generator.node-id is not set; leased node id {} derived from {}", claimed, identity);
+        return claimed;
+    }
+
+    private static String identity() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + "/" + ManagementFactory.getRuntimeMXBean().getName();
+        } catch (Exception e) {
+            return ManagementFactory.getRuntimeMXBean().getName();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.Smart.Travel.Booking.Platform.Common.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Gradient-style adaptive concurrency limit for one endpoint. The limit follows the ratio
+ * between the long-term (baseline) and short-term request latency: while latency stays near
+ * the baseline it grows by about sqrt(limit) per sample, and once requests start queueing the
+ * ratio drops below one and the limit shrinks. Server errors back the limit off
+ * multiplicatively.
+ * <p>
+ * The limit and both latency averages live in one immutable {@link State} that every
+ * completed request replaces with a compare-and-set, so every sample and every back-off is
+ * applied without requests waiting on a lock.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicReference<State> state;
+    private final Counter rejected;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double backoffRatio;
+    private final double shortAlpha;
+    private final double longAlpha;
+
+    /**
+     * @param uri tag on the limiter's meters, e.g. {@code /api/flights/{id}/book}
+     */
+    public AdaptiveConcurrencyLimiter(MeterRegistry meterRegistry, String uri, int initialLimit, int minLimit,
+                                      int maxLimit, double smoothing, double backoffRatio, int shortWindow,
+                                      int longWindow) {
+        this.state = new AtomicReference<>(new State(initialLimit, 0, 0));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.shortAlpha = 2.0 / (shortWindow + 1);
+        this.longAlpha = 2.0 / (longWindow + 1);
+
+        Gauge.builder("booking.concurrency.limit", this, limiter -> limiter.state.get().limit())
+                .description("Current adaptive concurrency limit")
+                .tag("uri", uri)
+                .register(meterRegistry);
+        Gauge.builder("booking.concurrency.in.flight", inFlight, AtomicInteger::get)
+                .description("Requests currently admitted by the concurrency limiter")
+                .tag("uri", uri)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("booking.concurrency.rejected")
+                .description("Requests rejected with 429 by the concurrency limiter")
+                .tag("uri", uri)
+                .register(meterRegistry);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean dropped) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        State current;
+        State next;
+        do {
+            current = state.get();
+            next = dropped ? backOff(current) : sample(current, rttNanos, inFlightAtCompletion);
+        } while (!state.compareAndSet(current, next));
+    }
+
+    public int getLimit() {
+        return (int) state.get().limit();
+    }
+
+    private State backOff(State current) {
+        return new State(Math.max(minLimit, current.limit() * backoffRatio), current.shortRtt(), current.longRtt());
+    }
+
+    private State sample(State current, long rttNanos, int inFlightAtCompletion) {
+        if (current.longRtt() == 0) {
+            return new State(current.limit(), rttNanos, rttNanos);
+        }
+        double shortRtt = current.shortRtt() + shortAlpha * (rttNanos - current.shortRtt());
+        double longRtt = current.longRtt() + longAlpha * (rttNanos - current.longRtt());
+
+        // After a period of overload the baseline can sit far above current latency; pull it back
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+        double limit = current.limit();
+        // Only grow the limit while it is actually being used
+        if (inFlightAtCompletion < limit / 2) {
+            return new State(limit, shortRtt, longRtt);
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double target = limit * gradient + Math.sqrt(limit);
+        double smoothed = limit * (1 - smoothing) + target * smoothing;
+        return new State(Math.max(minLimit, Math.min(maxLimit, smoothed)), shortRtt, longRtt);
+    }
+
+    // Exponentially weighted RTTs in nanoseconds; 0 until the first sample
+    private record State(double limit, double shortRtt, double longRtt) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.Smart.Travel.Booking.Platform.Common.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Admits requests for one method and path pattern, e.g. {@code POST /api/flights/{id}/book},
+ * through an {@link AdaptiveConcurrencyLimiter} and sheds the rest with 429 before they
+ * reach the database. The path pattern also tags the limiter's meters.
+ */
+@Slf4j
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final HttpMethod method;
+    private final PathPattern pathPattern;
+    private final boolean enabled;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitFilter(HttpMethod method, String pathPattern, ConcurrencyLimitProperties properties,
+                                  MeterRegistry meterRegistry, ObjectMapper objectMapper) {
+        this.method = method;
+        this.pathPattern = PathPatternParser.defaultInstance.parse(pathPattern);
+        this.enabled = properties.enabled();
+        this.limiter = new AdaptiveConcurrencyLimiter(meterRegistry, pathPattern, properties.initialLimit(),
+                properties.minLimit(), properties.maxLimit(), properties.smoothing(), properties.backoffRatio(),
+                properties.shortWindow(), properties.longWindow());
+        this.objectMapper = objectMapper;
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || !method.matches(request.getMethod())
+                || !pathPattern.matches(PathContainer.parsePath(request.getRequestURI()));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            log.debug("Rejecting {} at concurrency limit {}", request.getRequestURI(), limiter.getLimit());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            // Same shape as the services' ErrorResponse
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+            body.put("message", "Too many concurrent requests, please retry shortly");
+            body.put("timestamp", LocalDateTime.now());
+            objectMapper.writeValue(response.getOutputStream(), body);
+            return;
+        }
+
+        long started = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - started, dropped);
+        }
+    }
+}
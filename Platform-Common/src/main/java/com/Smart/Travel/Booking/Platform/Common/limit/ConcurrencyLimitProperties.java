@@ -0,0 +1,38 @@
+package com.Smart.Travel.Booking.Platform.Common.limit;
+
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+/**
+ * Settings of one {@link ConcurrencyLimitFilter}, bound from the prefix the service chooses,
+ * e.g. {@code concurrency-limit}. Unset values take the defaults below.
+ *
+ * @param enabled      false lets every request through
+ * @param initialLimit concurrency limit before the first sample
+ * @param minLimit     the limit never shrinks below this
+ * @param maxLimit     the limit never grows above this
+ * @param smoothing    weight of each new limit estimate
+ * @param backoffRatio factor the limit is multiplied by on a server error
+ * @param shortWindow  samples in the short-term latency average
+ * @param longWindow   samples in the baseline latency average
+ */
+public record ConcurrencyLimitProperties(Boolean enabled, Integer initialLimit, Integer minLimit, Integer maxLimit,
+                                         Double smoothing, Double backoffRatio, Integer shortWindow,
+                                         Integer longWindow) {
+
+    public ConcurrencyLimitProperties {
+        enabled = enabled != null ? enabled : true;
+        initialLimit = initialLimit != null ? initialLimit : 20;
+        minLimit = minLimit != null ? minLimit : 5;
+        maxLimit = maxLimit != null ? maxLimit : 200;
+        smoothing = smoothing != null ? smoothing : 0.2;
+        backoffRatio = backoffRatio != null ? backoffRatio : 0.9;
+        shortWindow = shortWindow != null ? shortWindow : 10;
+        longWindow = longWindow != null ? longWindow : 600;
+    }
+
+    public static ConcurrencyLimitProperties bind(Environment environment, String prefix) {
+        return Binder.get(environment).bind(prefix, ConcurrencyLimitProperties.class)
+                .orElseGet(() -> new ConcurrencyLimitProperties(null, null, null, null, null, null, null, null));
+    }
+}
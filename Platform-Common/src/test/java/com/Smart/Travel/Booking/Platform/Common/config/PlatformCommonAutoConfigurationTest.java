@@ -0,0 +1,94 @@
+package com.Smart.Travel.Booking.Platform.Common.config;
+
+import com.Smart.Travel.Booking.Platform.Common.id.ReferenceGenerator;
+import com.Smart.Travel.Booking.Platform.Common.id.SnowflakeReferenceGenerator;
+import com.Smart.Travel.Booking.Platform.Common.monitor.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PlatformCommonAutoConfigurationTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PlatformCommonAutoConfiguration.class))
+			.withBean("entityManagerFactory", Object.class, Object::new)
+			.withBean(JdbcTemplate.class, () -> jdbcTemplate);
+
+	@Test
+	void sequenceBehindExistingIdsIsAdvanced() {
+		when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM flights", Long.class)).thenReturn(120L);
+		when(jdbcTemplate.queryForObject("SELECT last_value FROM flights_seq", Long.class)).thenReturn(1L);
+		when(jdbcTemplate.queryForObject("SELECT MAX(id) FROM flight_changes", Long.class)).thenReturn(7L);
+		when(jdbcTemplate.queryForObject("SELECT last_value FROM flight_changes_seq", Long.class)).thenReturn(51L);
+
+		contextRunner
+				.withPropertyValues(
+						"platform.id-sequences[0].table=flights",
+						"platform.id-sequences[0].sequence=flights_seq",
+						"platform.id-sequences[1].table=flight_changes",
+						"platform.id-sequences[1].sequence=flight_changes_seq")
+				.run(context -> {
+					assertThat(context).hasSingleBean(IdSequenceInitializer.class);
+					verify(jdbcTemplate).queryForObject("SELECT setval('flights_seq', ?)", Long.class, 120L);
+					verify(jdbcTemplate, never()).queryForObject(eq("SELECT setval('flight_changes_seq', ?)"), eq(Long.class), eq(7L));
+				});
+	}
+
+	@Test
+	void nothingIsAlignedWithoutConfiguredSequences() {
+		contextRunner.run(context -> {
+			assertThat(context).hasSingleBean(IdSequenceInitializer.class);
+			assertThat(context.getBean(PlatformProperties.class).idSequences()).isEmpty();
+		});
+	}
+
+	@Test
+	void initializerNeedsAnEntityManagerFactory() {
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(PlatformCommonAutoConfiguration.class))
+				.withBean(JdbcTemplate.class, () -> jdbcTemplate)
+				.run(context -> assertThat(context).doesNotHaveBean(IdSequenceInitializer.class));
+	}
+
+	@Test
+	void referenceGeneratorUsesTheConfiguredPrefix() {
+		// Every lease statement succeeds
+		when(jdbcTemplate.update(anyString(), any(Object[].class))).thenReturn(1);
+
+		contextRunner
+				.withPropertyValues("id-generator.prefix=TXN", "id-generator.node-id=5")
+				.run(context -> {
+					SnowflakeReferenceGenerator generator = context.getBean(SnowflakeReferenceGenerator.class);
+					assertThat(generator.nodeId()).isEqualTo(5);
+					assertThat(generator.nextReference()).startsWith("TXN").hasSize(16);
+				});
+	}
+
+	@Test
+	void noReferenceGeneratorWithoutAPrefix() {
+		contextRunner.run(context -> assertThat(context).doesNotHaveBean(ReferenceGenerator.class));
+	}
+
+	@Test
+	void pinningIsMonitoredOnlyWithVirtualThreads() {
+		ApplicationContextRunner withMetrics = contextRunner.withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+		withMetrics.withPropertyValues("spring.threads.virtual.enabled=true")
+				.run(context -> assertThat(context).hasSingleBean(VirtualThreadPinningMonitor.class));
+		withMetrics.run(context -> assertThat(context).doesNotHaveBean(VirtualThreadPinningMonitor.class));
+	}
+}
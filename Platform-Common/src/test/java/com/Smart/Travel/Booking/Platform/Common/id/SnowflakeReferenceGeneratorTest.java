@@ -0,0 +1,117 @@
+package com.Smart.Travel.Booking.Platform.Common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SnowflakeReferenceGeneratorTest {
+
+	private static final int THREADS = 8;
+	private static final int IDS_PER_THREAD = 50_000;
+
+	@Test
+	void referencesAreUniqueAcrossThreads() throws Exception {
+		SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator("BK", 1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<List<String>>> results = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				results.add(executor.submit(() -> {
+					List<String> references = new ArrayList<>(IDS_PER_THREAD);
+					for (int i = 0; i < IDS_PER_THREAD; i++) {
+						references.add(generator.nextReference());
+					}
+					return references;
+				}));
+			}
+
+			Set<String> all = new HashSet<>();
+			for (Future<List<String>> result : results) {
+				List<String> references = result.get();
+				// Each thread observes strictly increasing references
+				assertThat(references).isSortedAccordingTo(String::compareTo);
+				all.addAll(references);
+			}
+			assertThat(all).hasSize(THREADS * IDS_PER_THREAD);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void nodesNeverCollide() {
+		SnowflakeReferenceGenerator first = new SnowflakeReferenceGenerator("BK", 1);
+		SnowflakeReferenceGenerator second = new SnowflakeReferenceGenerator("BK", 2);
+		Set<String> all = new HashSet<>();
+		for (int i = 0; i < 10_000; i++) {
+			all.add(first.nextReference());
+			all.add(second.nextReference());
+		}
+		assertThat(all).hasSize(20_000);
+	}
+
+	@Test
+	void encodingPreservesNumericOrder() {
+		SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator("BK", 0);
+		assertThat(generator.encode(0)).isEqualTo("BK0000000000000");
+		assertThat(generator.encode(31)).isLessThan(generator.encode(32));
+		assertThat(generator.encode(Long.MAX_VALUE)).hasSize(15).isGreaterThan(generator.encode(Long.MAX_VALUE - 1));
+	}
+
+	@Test
+	void configuredNodeIdHeldByAnotherInstanceFailsStartup() {
+		NodeIdRegistry registry = registry(50);
+		when(registry.tryClaim(7)).thenReturn(false);
+		when(registry.holderOf(7)).thenReturn("other-host/1@other-host");
+
+		assertThatThrownBy(() -> new SnowflakeReferenceGenerator("BK", 7L, registry))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("other-host");
+	}
+
+	@Test
+	void derivedNodeIdMovesOnWhenItsLeaseIsTakenOver() {
+		NodeIdRegistry registry = registry(60_000);
+		when(registry.claimFree(anyLong(), anyLong())).thenReturn(3L, 4L);
+		SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator("BK", null, registry);
+		assertThat(generator.nodeId()).isEqualTo(3);
+
+		when(registry.renew(3)).thenReturn(false);
+		when(registry.tryClaim(3)).thenReturn(false);
+		generator.heartbeat();
+
+		assertThat(generator.nodeId()).isEqualTo(4);
+		assertThat(generator.nextId() >>> 12 & SnowflakeReferenceGenerator.MAX_NODE_ID).isEqualTo(4);
+	}
+
+	@Test
+	void generationStopsWhenTheLeaseRunsOut() throws Exception {
+		NodeIdRegistry registry = registry(50);
+		when(registry.tryClaim(7)).thenReturn(true, false);
+		SnowflakeReferenceGenerator generator = new SnowflakeReferenceGenerator("BK", 7L, registry);
+		assertThat(generator.nextReference()).startsWith("BK");
+
+		Thread.sleep(100);
+		generator.heartbeat();
+
+		assertThatThrownBy(generator::nextReference).isInstanceOf(IllegalStateException.class);
+	}
+
+	private static NodeIdRegistry registry(long ttlMs) {
+		NodeIdRegistry registry = mock(NodeIdRegistry.class);
+		when(registry.ttlMs()).thenReturn(ttlMs);
+		return registry;
+	}
+}
@@ -0,0 +1,105 @@
+package com.Smart.Travel.Booking.Platform.Common.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final int THREADS = 32;
+
+	@Test
+	void everyBackOffIsAppliedUnderContention() throws Exception {
+		int releasesPerThread = 50;
+		AdaptiveConcurrencyLimiter limiter = limiter(1000, 1, 1000, 0.999);
+
+		runConcurrently(() -> {
+			for (int i = 0; i < releasesPerThread; i++) {
+				assertThat(limiter.tryAcquire()).isTrue();
+				limiter.release(1_000_000, true);
+			}
+		});
+
+		double expected = 1000;
+		for (int i = 0; i < THREADS * releasesPerThread; i++) {
+			expected = Math.max(1, expected * 0.999);
+		}
+		assertThat(limiter.getLimit()).isEqualTo((int) expected);
+	}
+
+	@Test
+	void limitStaysNearCapacityUnderOverload() throws Exception {
+		// A server that serves 8 requests in 200 us and queues the rest behind them
+		int capacity = 8;
+		int requestsPerThread = 1_000;
+		AdaptiveConcurrencyLimiter limiter = limiter(20, 5, 200, 0.9);
+		AtomicInteger active = new AtomicInteger();
+		AtomicInteger maxActive = new AtomicInteger();
+		AtomicLong admitted = new AtomicLong();
+		AtomicLong shed = new AtomicLong();
+
+		long started = System.nanoTime();
+		runConcurrently(() -> {
+			for (int i = 0; i < requestsPerThread; i++) {
+				if (!limiter.tryAcquire()) {
+					shed.incrementAndGet();
+					continue;
+				}
+				int concurrent = active.incrementAndGet();
+				maxActive.accumulateAndGet(concurrent, Math::max);
+				long rttNanos = 200_000L * Math.max(capacity, concurrent) / capacity;
+				LockSupport.parkNanos(rttNanos);
+				active.decrementAndGet();
+				admitted.incrementAndGet();
+				limiter.release(rttNanos, false);
+			}
+		});
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+		assertThat(admitted.get() + shed.get()).isEqualTo((long) THREADS * requestsPerThread);
+		assertThat(shed.get()).isPositive();
+		// Queueing pulls the limit far below max-limit instead of letting it run away
+		assertThat(limiter.getLimit()).isBetween(5, 8 * capacity);
+		assertThat(maxActive.get()).isLessThanOrEqualTo(8 * capacity);
+		// Generous bound; a lock convoy around the limit update would show up here
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(30));
+	}
+
+	private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit, double backoffRatio) {
+		return new AdaptiveConcurrencyLimiter(new SimpleMeterRegistry(), "/test", initialLimit, minLimit, maxLimit,
+				0.2, backoffRatio, 10, 600);
+	}
+
+	private static void runConcurrently(Runnable task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					task.run();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.Smart.Travel.Booking.Platform.Common.limit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+	private final MockEnvironment environment = new MockEnvironment()
+			.withProperty("hotel-limit.initial-limit", "1")
+			.withProperty("hotel-limit.min-limit", "1");
+
+	private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(HttpMethod.POST, "/api/hotels/{id}/book",
+			ConcurrencyLimitProperties.bind(environment, "hotel-limit"), new SimpleMeterRegistry(),
+			new ObjectMapper().findAndRegisterModules());
+
+	@Test
+	void requestOverTheLimitIsShed() throws Exception {
+		// Another request holds the only slot
+		assertThat(filter.getLimiter().tryAcquire()).isTrue();
+
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(new MockHttpServletRequest("POST", "/api/hotels/7/book"), response, chain);
+
+		assertThat(response.getStatus()).isEqualTo(429);
+		assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+		assertThat(response.getContentAsString()).contains("\"status\":429");
+		assertThat(chain.getRequest()).isNull();
+	}
+
+	@Test
+	void onlyTheConfiguredMethodAndPathAreLimited() throws Exception {
+		assertThat(filter.getLimiter().tryAcquire()).isTrue();
+
+		for (MockHttpServletRequest request : new MockHttpServletRequest[] {
+				new MockHttpServletRequest("GET", "/api/hotels/7/book"),
+				new MockHttpServletRequest("POST", "/api/hotels/7/release"),
+				new MockHttpServletRequest("POST", "/api/flights/7/book")}) {
+			MockFilterChain chain = new MockFilterChain();
+			filter.doFilter(request, new MockHttpServletResponse(), chain);
+			assertThat(chain.getRequest()).isSameAs(request);
+		}
+	}
+
+	@Test
+	void unsetSettingsTakeTheDefaults() {
+		ConcurrencyLimitProperties properties = ConcurrencyLimitProperties.bind(environment, "hotel-limit");
+
+		assertThat(properties.initialLimit()).isEqualTo(1);
+		assertThat(properties.enabled()).isTrue();
+		assertThat(properties.maxLimit()).isEqualTo(200);
+		assertThat(ConcurrencyLimitProperties.bind(environment, "missing").initialLimit()).isEqualTo(20);
+	}
+}
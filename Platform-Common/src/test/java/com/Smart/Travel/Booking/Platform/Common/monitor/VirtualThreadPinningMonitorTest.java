@@ -0,0 +1,60 @@
+package com.Smart.Travel.Booking.Platform.Common.monitor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VirtualThreadPinningMonitorTest {
+
+	private final Object lock = new Object();
+
+	@Test
+	void blockingInsideSynchronizedIsReportedAsPinned() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 5, 12);
+		monitor.start();
+		try {
+			Thread.ofVirtual().start(() -> {
+				synchronized (lock) {
+					sleep(50);
+				}
+			}).join();
+
+			// JFR delivers events to the stream about once a second
+			long deadline = System.currentTimeMillis() + 10_000;
+			while (pinned(meterRegistry) == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(100);
+			}
+			assertThat(pinned(meterRegistry)).isGreaterThanOrEqualTo(1);
+		} finally {
+			monitor.stop();
+		}
+	}
+
+	@Test
+	void blockingOutsideSynchronizedIsNotReported() throws Exception {
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, 5, 12);
+		monitor.start();
+		try {
+			Thread.ofVirtual().start(() -> sleep(50)).join();
+			Thread.sleep(2_000);
+			assertThat(pinned(meterRegistry)).isZero();
+		} finally {
+			monitor.stop();
+		}
+	}
+
+	private static double pinned(SimpleMeterRegistry meterRegistry) {
+		return meterRegistry.counter("jvm.threads.virtual.pinned").count();
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
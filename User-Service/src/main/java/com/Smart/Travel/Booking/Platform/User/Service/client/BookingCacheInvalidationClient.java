@@ -0,0 +1,49 @@
+package com.Smart.Travel.Booking.Platform.User.Service.client;
+
+import com.Smart.Travel.Booking.Platform.User.Service.event.UserChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.client.RestClient;
+
+@Component
+@Slf4j
+public class BookingCacheInvalidationClient {
+
+    private final RestClient restClient;
+    private final boolean enabled;
+
+    public BookingCacheInvalidationClient(
+            @Value("${services.booking.url:http://localhost:8094}") String bookingServiceUrl,
+            @Value("${services.booking.cache-invalidation.enabled:true}") boolean enabled,
+            @Value("${services.booking.cache-invalidation.timeout-ms:2000}") int timeoutMillis) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMillis);
+        requestFactory.setReadTimeout(timeoutMillis);
+        this.restClient = RestClient.builder()
+                .baseUrl(bookingServiceUrl)
+                .requestFactory(requestFactory)
+                .build();
+        this.enabled = enabled;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            restClient.delete()
+                    .uri("/api/bookings/cache/users/{userId}", event.userId())
+                    .retrieve()
+                    .toBodilessEntity();
+            log.debug("Invalidated cached user {} in Booking Service", event.userId());
+        } catch (Exception e) {
+            // Booking Service cache entries still expire on their own TTL
+            log.warn("Failed to invalidate cached user {} in Booking Service: {}", event.userId(), e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.Smart.Travel.Booking.Platform.User.Service.controller;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.CreateUserRequest;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.UpdateUserRequest;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserIdsRequest;
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserProfileDTO;
 import com.Smart.Travel.Booking.Platform.User.Service.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,8 +14,10 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -125,6 +129,44 @@ public class UserController {
         return ResponseEntity.ok(isValid);
     }
 
+    @GetMapping("/{id}/active-profile")
+    @Operation(summary = "Get active user profile", description = "Validates and fetches an active user's profile in one call")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active user profile found"),
+            @ApiResponse(responseCode = "404", description = "User not found or inactive")
+    })
+    public ResponseEntity<UserProfileDTO> getActiveUserProfile(
+            @Parameter(description = "User ID") @PathVariable Long id) {
+        UserProfileDTO profile = userService.getActiveUserProfile(id);
+        return ResponseEntity.ok(profile);
+    }
+
+    @PostMapping("/active-profiles")
+    @Operation(summary = "Get active user profiles", description = "Fetches profiles for the active users among the given IDs")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Active user profiles returned; unknown or inactive IDs are omitted"),
+            @ApiResponse(responseCode = "400", description = "Invalid input")
+    })
+    public ResponseEntity<List<UserProfileDTO>> getActiveUserProfiles(
+            @Valid @RequestBody UserIdsRequest request) {
+        List<UserProfileDTO> profiles = userService.getActiveUserProfiles(request.getUserIds());
+        return ResponseEntity.ok(profiles);
+    }
+
+    @PostMapping(value = "/batch", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get users by IDs", description = "Fetches up to 5000 users in one call, streamed as a JSON array")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Users returned; unknown IDs are omitted"),
+            @ApiResponse(responseCode = "400", description = "Invalid input or too many IDs")
+    })
+    public ResponseEntity<StreamingResponseBody> getUsersByIds(
+            @Valid @RequestBody UserIdsRequest request) {
+        StreamingResponseBody body = outputStream -> userService.streamUsersByIds(request.getUserIds(), outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     @GetMapping("/{id}/exists")
     @Operation(summary = "Check if user exists", description = "Checks if a user exists by ID")
     @ApiResponse(responseCode = "200", description = "Existence check result returned")
@@ -0,0 +1,18 @@
+package com.Smart.Travel.Booking.Platform.User.Service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserIdsRequest {
+
+    @NotEmpty(message = "User IDs are required")
+    @Size(max = 5000, message = "At most 5000 user IDs can be requested at once")
+    private List<Long> userIds;
+}
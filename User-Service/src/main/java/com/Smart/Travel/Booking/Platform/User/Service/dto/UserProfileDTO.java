@@ -0,0 +1,16 @@
+package com.Smart.Travel.Booking.Platform.User.Service.dto;
+
+import lombok.*;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserProfileDTO {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phoneNumber;
+    private Boolean isActive;
+}
@@ -0,0 +1,8 @@
+package com.Smart.Travel.Booking.Platform.User.Service.event;
+
+/**
+ * Published when a user's profile or active flag changes, so that downstream
+ * caches of that user can be invalidated once the transaction commits.
+ */
+public record UserChangedEvent(Long userId) {
+}
@@ -1,11 +1,17 @@
 package com.Smart.Travel.Booking.Platform.User.Service.repository;
 
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserProfileDTO;
 import com.Smart.Travel.Booking.Platform.User.Service.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,7 +20,27 @@ public interface UserRepository extends JpaRepository<User, Long> {
     
     boolean existsByEmail(String email);
     
+    @Query("SELECT u.email FROM User u")
+    Stream<String> streamAllEmails();
+    
     List<User> findByIsActiveTrue();
     
     Optional<User> findByIdAndIsActiveTrue(Long id);
+    
+    boolean existsByIdAndIsActiveTrue(Long id);
+    
+    @Query("SELECT new com.Smart.Travel.Booking.Platform.User.Service.dto.UserProfileDTO(" +
+           "u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.isActive) " +
+           "FROM User u WHERE u.id = :id AND u.isActive = true")
+    Optional<UserProfileDTO> findActiveProfileById(@Param("id") Long id);
+    
+    @Query("SELECT new com.Smart.Travel.Booking.Platform.User.Service.dto.UserProfileDTO(" +
+           "u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.isActive) " +
+           "FROM User u WHERE u.id IN :ids AND u.isActive = true")
+    List<UserProfileDTO> findActiveProfilesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query("SELECT new com.Smart.Travel.Booking.Platform.User.Service.dto.UserDTO(" +
+           "u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.createdAt, u.updatedAt, u.isActive) " +
+           "FROM User u WHERE u.id IN :ids")
+    List<UserDTO> findUserDTOsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,157 @@
+package com.Smart.Travel.Booking.Platform.User.Service.service;
+
+import com.Smart.Travel.Booking.Platform.User.Service.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * In-memory Bloom filter over all registered emails. A negative answer is definite, so
+ * callers can skip the {@code existsByEmail} query; a positive answer still has to be
+ * confirmed against the database. Until the filter has been loaded it answers "maybe".
+ */
+@Component
+@Slf4j
+public class EmailBloomFilter {
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+    private final Counter definiteNegatives;
+    private final Counter possiblePositives;
+    private final Counter falsePositives;
+
+    public EmailBloomFilter(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${users.email-filter.enabled:true}") boolean enabled,
+            @Value("${users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.max(1, (optimalBits + 63) / 64);
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = (long) words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+
+        this.definiteNegatives = Counter.builder("users.email.filter.negative")
+                .description("Email uniqueness checks answered by the Bloom filter without a query")
+                .register(meterRegistry);
+        this.possiblePositives = Counter.builder("users.email.filter.positive")
+                .description("Email uniqueness checks that had to be confirmed against the database")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("users.email.filter.false.positive")
+                .description("Bloom filter positives that the database did not confirm")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        LongAdder count = new LongAdder();
+        try (Stream<String> emails = userRepository.streamAllEmails()) {
+            emails.forEach(email -> {
+                add(email);
+                count.increment();
+            });
+        }
+        ready = true;
+        log.info("Loaded {} emails into the email Bloom filter ({} bits, {} hashes) in {} ms",
+                count.sum(), bitCount, hashCount, System.currentTimeMillis() - started);
+    }
+
+    /**
+     * Returns whether the email is already taken, consulting the database only when the
+     * filter cannot rule it out.
+     */
+    public boolean existsByEmail(String email) {
+        if (!ready || mightContain(email)) {
+            possiblePositives.increment();
+            boolean exists = userRepository.existsByEmail(email);
+            if (ready && !exists) {
+                falsePositives.increment();
+            }
+            return exists;
+        }
+        definiteNegatives.increment();
+        return false;
+    }
+
+    public void add(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        long h1 = mix(hash64(email));
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(h1, h2, i);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String email) {
+        long h1 = mix(hash64(email));
+        long h2 = secondHash(h1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = bitIndex(h1, h2, i);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Kirsch-Mitzenmacher double hashing: the i-th probe is h1 + i * h2
+    private long bitIndex(long h1, long h2, int i) {
+        return Math.floorMod(h1 + i * h2, bitCount);
+    }
+
+    private static long secondHash(long h1) {
+        return mix(h1 ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    // 64-bit FNV-1a over the UTF-8 bytes
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    // MurmurHash3 finalizer
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -3,15 +3,29 @@ package com.Smart.Travel.Booking.Platform.User.Service.service;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.CreateUserRequest;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.UpdateUserRequest;
 import com.Smart.Travel.Booking.Platform.User.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserProfileDTO;
 import com.Smart.Travel.Booking.Platform.User.Service.entity.User;
+import com.Smart.Travel.Booking.Platform.User.Service.event.UserChangedEvent;
 import com.Smart.Travel.Booking.Platform.User.Service.exception.ResourceNotFoundException;
 import com.Smart.Travel.Booking.Platform.User.Service.exception.DuplicateResourceException;
 import com.Smart.Travel.Booking.Platform.User.Service.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -22,24 +36,44 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final EmailBloomFilter emailBloomFilter;
+    private final PasswordHashingService passwordHashingService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${users.batch.chunk-size:1000}")
+    private int batchChunkSize;
+
+    // No surrounding transaction: the hashing wait must not hold a database connection.
+    // The insert runs in the repository's own transaction.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO createUser(CreateUserRequest request) {
         log.info("Creating new user with email: {}", request.getEmail());
         
-        if (userRepository.existsByEmail(request.getEmail())) {
+        if (emailBloomFilter.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("User with email " + request.getEmail() + " already exists");
         }
 
+        String passwordHash = passwordHashingService.hash(request.getPassword());
+
         User user = User.builder()
                 .firstName(request.getFirstName())
                 .lastName(request.getLastName())
                 .email(request.getEmail())
                 .phoneNumber(request.getPhoneNumber())
-                .password(request.getPassword()) // TODO: encrypt
+                .password(passwordHash)
                 .isActive(true)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // The unique constraint on email remains the final guard against concurrent signups
+            throw new DuplicateResourceException("User with email " + request.getEmail() + " already exists", e);
+        }
+        emailBloomFilter.add(savedUser.getEmail());
         log.info("User created successfully with id: {}", savedUser.getId());
         
         return mapToDTO(savedUser);
@@ -77,9 +111,40 @@ public class UserService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Writes the users for the given ids as a JSON array, loading them one IN-list chunk at a
+     * time and flushing the generator after each chunk. The users are read as DTOs, so no
+     * entities accumulate in the persistence context.
+     */
+    @Transactional(readOnly = true)
+    public void streamUsersByIds(List<Long> ids, OutputStream outputStream) throws IOException {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        log.info("Streaming {} users by id in chunks of {}", distinctIds.size(), batchChunkSize);
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartArray();
+            for (int from = 0; from < distinctIds.size(); from += batchChunkSize) {
+                List<Long> chunk = distinctIds.subList(from, Math.min(from + batchChunkSize, distinctIds.size()));
+                for (UserDTO user : userRepository.findUserDTOsByIdIn(chunk)) {
+                    objectMapper.writeValue(generator, user);
+                }
+                generator.flush();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    // Like createUser, the password is hashed before a transaction (and its connection) is
+    // taken; the update itself runs in one so the change event is published after commit.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDTO updateUser(Long id, UpdateUserRequest request) {
         log.info("Updating user with id: {}", id);
-        
+
+        String passwordHash = request.getPassword() != null ? passwordHashingService.hash(request.getPassword()) : null;
+        return transactionTemplate.execute(status -> applyUpdate(id, request, passwordHash));
+    }
+
+    private UserDTO applyUpdate(Long id, UpdateUserRequest request, String passwordHash) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
 
@@ -90,7 +155,7 @@ public class UserService {
             user.setLastName(request.getLastName());
         }
         if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
+            if (emailBloomFilter.existsByEmail(request.getEmail())) {
                 throw new DuplicateResourceException("User with email " + request.getEmail() + " already exists");
             }
             user.setEmail(request.getEmail());
@@ -98,11 +163,19 @@ public class UserService {
         if (request.getPhoneNumber() != null) {
             user.setPhoneNumber(request.getPhoneNumber());
         }
-        if (request.getPassword() != null) {
-            user.setPassword(request.getPassword()); // TODO: encrypt
+        if (passwordHash != null) {
+            user.setPassword(passwordHash);
         }
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser;
+        try {
+            updatedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            // As in createUser, the unique constraint decides races the Bloom filter check cannot see
+            throw new DuplicateResourceException("User with email " + request.getEmail() + " already exists", e);
+        }
+        emailBloomFilter.add(updatedUser.getEmail());
+        eventPublisher.publishEvent(new UserChangedEvent(updatedUser.getId()));
         log.info("User updated successfully with id: {}", updatedUser.getId());
         
         return mapToDTO(updatedUser);
@@ -116,6 +189,7 @@ public class UserService {
         
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("User soft deleted successfully with id: {}", id);
     }
 
@@ -127,6 +201,7 @@ public class UserService {
         }
         
         userRepository.deleteById(id);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
         log.info("User hard deleted successfully with id: {}", id);
     }
 
@@ -138,7 +213,20 @@ public class UserService {
     @Transactional(readOnly = true)
     public boolean validateUser(Long id) {
         log.info("Validating user with id: {}", id);
-        return userRepository.findByIdAndIsActiveTrue(id).isPresent();
+        return userRepository.existsByIdAndIsActiveTrue(id);
+    }
+
+    @Transactional(readOnly = true)
+    public UserProfileDTO getActiveUserProfile(Long id) {
+        log.info("Fetching active profile for user with id: {}", id);
+        return userRepository.findActiveProfileById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Active user not found with id: " + id));
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserProfileDTO> getActiveUserProfiles(List<Long> ids) {
+        log.info("Fetching active profiles for {} users", ids.size());
+        return userRepository.findActiveProfilesByIdIn(new HashSet<>(ids));
     }
 
     private UserDTO mapToDTO(User user) {
@@ -0,0 +1,92 @@
+package com.Smart.Travel.Booking.Platform.User.Service.service;
+
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UpdateUserRequest;
+import com.Smart.Travel.Booking.Platform.User.Service.dto.UserDTO;
+import com.Smart.Travel.Booking.Platform.User.Service.entity.User;
+import com.Smart.Travel.Booking.Platform.User.Service.event.UserChangedEvent;
+import com.Smart.Travel.Booking.Platform.User.Service.exception.DuplicateResourceException;
+import com.Smart.Travel.Booking.Platform.User.Service.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.mockito.InOrder;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final EmailBloomFilter emailBloomFilter = mock(EmailBloomFilter.class);
+	private final PasswordHashingService passwordHashingService = mock(PasswordHashingService.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private UserService userService;
+
+	@BeforeEach
+	void setUp() {
+		userService = new UserService(userRepository, eventPublisher, new ObjectMapper(),
+				emailBloomFilter, passwordHashingService, new TransactionTemplate(transactionManager));
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		when(userRepository.findById(1L)).thenReturn(Optional.of(User.builder()
+				.id(1L)
+				.firstName("Ada")
+				.lastName("Lovelace")
+				.email("ada@example.com")
+				.password("hash")
+				.isActive(true)
+				.build()));
+	}
+
+	@Test
+	void updateIsFlushedAndPublished() {
+		when(userRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		UserDTO updated = userService.updateUser(1L, UpdateUserRequest.builder().email("ada@example.org").build());
+
+		assertThat(updated.getEmail()).isEqualTo("ada@example.org");
+		verify(emailBloomFilter).add("ada@example.org");
+		verify(eventPublisher).publishEvent(new UserChangedEvent(1L));
+	}
+
+	@Test
+	void passwordIsHashedBeforeTheTransactionStarts() {
+		when(passwordHashingService.hash("s3cret-pass")).thenReturn("new-hash");
+		when(userRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		userService.updateUser(1L, UpdateUserRequest.builder().password("s3cret-pass").build());
+
+		InOrder order = inOrder(passwordHashingService, transactionManager, userRepository);
+		order.verify(passwordHashingService).hash("s3cret-pass");
+		order.verify(transactionManager).getTransaction(any());
+		order.verify(userRepository).saveAndFlush(argThat(user -> "new-hash".equals(user.getPassword())));
+		order.verify(transactionManager).commit(any());
+	}
+
+	@Test
+	void concurrentlyTakenEmailIsReportedAsDuplicate() {
+		// The Bloom filter has not seen the other user's email yet; the unique constraint has
+		when(emailBloomFilter.existsByEmail("taken@example.com")).thenReturn(false);
+		when(userRepository.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("users_email_key"));
+
+		assertThatThrownBy(() -> userService.updateUser(1L, UpdateUserRequest.builder().email("taken@example.com").build()))
+				.isInstanceOf(DuplicateResourceException.class)
+				.hasMessageContaining("taken@example.com");
+		verify(emailBloomFilter, never()).add(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+}